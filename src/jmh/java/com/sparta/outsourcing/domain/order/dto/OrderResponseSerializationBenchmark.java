@@ -0,0 +1,43 @@
+package com.sparta.outsourcing.domain.order.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 주문 목록 응답 JSON 직렬화 - 스프링 MVC 와 같은 설정의 ObjectMapper 사용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<OrderResponseDto> orders;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        orders = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        for (long i = 1; i <= size; i++) {
+            orders.add(new OrderResponseDto(i, 1L, i % 10, "메뉴 " + i % 10, 15000, 15000.0 * (i % 3 + 1),
+                    "서울시 강남구 테헤란로 " + i, "010-1234-5678", OrderStatus.PENDING, now.plusMinutes(i)));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return objectMapper.writeValueAsBytes(orders);
+    }
+}
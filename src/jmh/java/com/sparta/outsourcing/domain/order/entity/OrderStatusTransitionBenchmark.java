@@ -0,0 +1,27 @@
+package com.sparta.outsourcing.domain.order.entity;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// 모든 (현재 상태, 변경 상태) 조합의 전환 가능 여부 판단
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderStatusTransitionBenchmark {
+
+    private final OrderStatus[] statuses = OrderStatus.values();
+
+    @Benchmark
+    public void allTransitions(Blackhole blackhole) {
+        for (OrderStatus current : statuses) {
+            for (OrderStatus next : statuses) {
+                blackhole.consume(current.canTransitionTo(next));
+            }
+        }
+    }
+}
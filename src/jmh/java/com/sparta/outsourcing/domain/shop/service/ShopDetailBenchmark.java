@@ -0,0 +1,82 @@
+package com.sparta.outsourcing.domain.shop.service;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.shop.cache.ShopDetailCache;
+import com.sparta.outsourcing.domain.shop.dto.ShopResponseDto;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 가게 상세 조회 - 캐시 미적중 시 엔티티 -> DTO 변환 비용과 캐시 적중 비용 비교 (DB 접근 없음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShopDetailBenchmark {
+    private static final Long SHOP_ID = 1L;
+
+    @Param({"10", "100"})
+    private int menuCount;
+
+    private ShopService shopService;
+    private ShopDetailCache shopDetailCache;
+
+    @Setup
+    public void setUp() {
+        List<Menu> menus = new ArrayList<>();
+        Shop shop = Shop.builder()
+                .id(SHOP_ID)
+                .name("벤치마크 가게")
+                .opentime(LocalTime.of(9, 0))
+                .closetime(LocalTime.of(21, 0))
+                .minOrderAmount(new BigDecimal("10000"))
+                .menus(menus)
+                .build();
+        for (long i = 1; i <= menuCount; i++) {
+            menus.add(Menu.builder()
+                    .id(i)
+                    .shop(shop)
+                    .menuName("메뉴 " + i)
+                    .price(BigDecimal.valueOf(1000 * i))
+                    .status(i % 10 == 0 ? "deleted" : "un_deletable")
+                    .build());
+        }
+        // findWithMenusById 만 응답하는 저장소
+        ShopRepository shopRepository = (ShopRepository) Proxy.newProxyInstance(ShopRepository.class.getClassLoader(),
+                new Class<?>[]{ShopRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findWithMenusById")) {
+                        return Optional.of(shop);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        shopDetailCache = new ShopDetailCache();
+        ReflectionTestUtils.setField(shopDetailCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(shopDetailCache, "ttlSeconds", 300L);
+        shopDetailCache.init();
+        shopService = new ShopService(shopRepository, null, null, null, shopDetailCache);
+    }
+
+    @Benchmark
+    public ShopResponseDto mapOnMiss() {
+        shopDetailCache.evict(SHOP_ID);
+        return shopService.getShopById(SHOP_ID);
+    }
+
+    @Benchmark
+    public ShopResponseDto cacheHit() {
+        return shopService.getShopById(SHOP_ID);
+    }
+}
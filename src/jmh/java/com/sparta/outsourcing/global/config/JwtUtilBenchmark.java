@@ -0,0 +1,43 @@
+package com.sparta.outsourcing.global.config;
+
+import com.sparta.outsourcing.domain.user.entity.UserRoleEnum;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 생성 / 검증 - cacheSize 0 은 매 요청 서명 검증, 그 외는 검증 캐시 적중 경로
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    @Param({"0", "10000"})
+    private long cacheSize;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCacheSize", cacheSize);
+        jwtUtil.init();
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, UserRoleEnum.USER, "user@example.com"));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, UserRoleEnum.USER, "user@example.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+}
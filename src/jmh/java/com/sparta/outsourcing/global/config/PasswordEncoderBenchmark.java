@@ -0,0 +1,49 @@
+package com.sparta.outsourcing.global.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// bcrypt 해시 / 검증 - cost 1 증가마다 약 2배, matches 는 검증 전용 풀을 거치는 실제 경로
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    @Param({"4", "10"})
+    private int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder();
+        ReflectionTestUtils.setField(passwordEncoder, "configuredCost", cost);
+        ReflectionTestUtils.setField(passwordEncoder, "maxCost", cost);
+        ReflectionTestUtils.setField(passwordEncoder, "verifyPoolSize", 4);
+        ReflectionTestUtils.setField(passwordEncoder, "verifyQueueCapacity", 4);
+        ReflectionTestUtils.setField(passwordEncoder, "verifyTimeoutMillis", 2000L);
+        passwordEncoder.init();
+        encoded = passwordEncoder.encode("Password1!");
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("Password1!");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("Password1!", encoded);
+    }
+}
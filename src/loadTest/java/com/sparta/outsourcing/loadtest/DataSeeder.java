@@ -0,0 +1,150 @@
+package com.sparta.outsourcing.loadtest;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.menu.repository.MenuRepository;
+import com.sparta.outsourcing.domain.order.entity.Order;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import com.sparta.outsourcing.domain.review.entity.Review;
+import com.sparta.outsourcing.domain.review.repository.ReviewRepository;
+import com.sparta.outsourcing.domain.review.repository.ShopRatingSummaryRepository;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
+import com.sparta.outsourcing.domain.shop.search.ShopSearchIndex;
+import com.sparta.outsourcing.domain.user.dto.UserRequestDto;
+import com.sparta.outsourcing.domain.user.entity.User;
+import com.sparta.outsourcing.domain.user.entity.UserRoleEnum;
+import com.sparta.outsourcing.domain.user.repository.UserRepository;
+import com.sparta.outsourcing.global.config.PasswordEncoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+// 고정 seed 의 Random 으로 사용자 / 가게 / 메뉴 / 주문 / 리뷰를 생성 - 같은 설정이면 항상 같은 데이터
+@RequiredArgsConstructor
+public class DataSeeder {
+    public static final String PASSWORD = "LoadTest1!";
+    // 가게 이름과 검색어에 함께 쓰는 단어
+    public static final List<String> NAME_WORDS = List.of(
+            "치킨", "피자", "족발", "보쌈", "분식", "떡볶이", "중화", "짜장", "초밥", "돈까스",
+            "버거", "카페", "국밥", "냉면", "곱창", "샐러드", "파스타", "커피", "베이커리", "찜닭");
+    private static final List<String> NAME_SUFFIXES = List.of("집", "나라", "하우스", "공방", "천국", "명가", "상회");
+    private static final int CHUNK_SIZE = 500;
+
+    private final ApplicationContext context;
+    private final LoadTestConfig config;
+
+    public SeedData seed() {
+        Random random = new Random(config.getSeed());
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        // 사용자 - 앞쪽 owners 명은 사장님
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < config.getUsers(); i++) {
+            boolean owner = i < config.getOwners();
+            String email = (owner ? "owner" : "user") + i + "@loadtest.com";
+            users.add(new User(new UserRequestDto(email), passwordHash, owner ? UserRoleEnum.OWNER : UserRoleEnum.USER));
+        }
+        users = saveInChunks(transactionTemplate, users, context.getBean(UserRepository.class)::saveAll);
+
+        // 가게 - 사장님 한 명당 최대 3개, 항상 영업 중
+        List<Shop> shops = new ArrayList<>();
+        for (int i = 0; i < config.getShops(); i++) {
+            String name = NAME_WORDS.get(random.nextInt(NAME_WORDS.size())) +
+                    NAME_SUFFIXES.get(random.nextInt(NAME_SUFFIXES.size())) + " " + (i + 1) + "호점";
+            shops.add(Shop.builder()
+                    .owner(users.get(i % config.getOwners()))
+                    .name(name)
+                    .opentime(LocalTime.MIN)
+                    .closetime(LocalTime.of(23, 59, 59))
+                    .minOrderAmount(new BigDecimal("10000"))
+                    .closed(false)
+                    .build());
+        }
+        shops = saveInChunks(transactionTemplate, shops, context.getBean(ShopRepository.class)::saveAll);
+
+        // 메뉴 - 최소 주문 금액 이상 가격
+        List<Menu> menus = new ArrayList<>();
+        for (Shop shop : shops) {
+            for (int i = 0; i < config.getMenusPerShop(); i++) {
+                menus.add(Menu.builder()
+                        .shop(shop)
+                        .menuName("메뉴 " + (i + 1))
+                        .price(BigDecimal.valueOf(10000 + random.nextInt(41) * 500L))
+                        .build());
+            }
+        }
+        menus = saveInChunks(transactionTemplate, menus, context.getBean(MenuRepository.class)::saveAll);
+
+        // 주문 - 70% 완료, 나머지는 진행 단계가 섞여 상태 변경 작업의 대상이 됨
+        List<Order> orders = new ArrayList<>();
+        int customers = config.getUsers() - config.getOwners();
+        for (int i = 0; i < config.getOrders(); i++) {
+            User customer = users.get(config.getOwners() + random.nextInt(customers));
+            int shopIndex = random.nextInt(shops.size());
+            Shop shop = shops.get(shopIndex);
+            Menu menu = menus.get(shopIndex * config.getMenusPerShop() + random.nextInt(config.getMenusPerShop()));
+            Order order = new Order(customer.getId(), shop, menu, "서울시 테스트구 " + i, "010-0000-" + String.format("%04d", i % 10000));
+            int roll = random.nextInt(100);
+            if (roll < 70) {
+                order.changeOrderStatus(OrderStatus.COMPLETED);
+            } else if (roll < 80) {
+                order.changeOrderStatus(OrderStatus.ACCEPTED);
+            } else if (roll < 85) {
+                order.changeOrderStatus(OrderStatus.IN_PROGRESS);
+            }
+            orders.add(order);
+        }
+        orders = saveInChunks(transactionTemplate, orders, context.getBean(OrderRepository.class)::saveAll);
+
+        // 리뷰 - 완료된 주문에만, 별점은 높은 쪽으로 치우침
+        List<Review> reviews = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (Order order : orders) {
+            if (reviews.size() == config.getReviews()) {
+                break;
+            }
+            if (order.getOrderStatus() != OrderStatus.COMPLETED) {
+                continue;
+            }
+            reviews.add(Review.builder()
+                    .order(order)
+                    .userId(order.getUserId())
+                    .shopId(order.getShop().getId())
+                    .rating(Math.min(5, 2 + random.nextInt(4) + random.nextInt(2)))
+                    .reviewContent("리뷰 " + reviews.size())
+                    .reviewTime(base.plusMinutes(random.nextInt(60 * 24 * 365)))
+                    .build());
+        }
+        saveInChunks(transactionTemplate, reviews, context.getBean(ReviewRepository.class)::saveAll);
+
+        // 별점 집계 / 검색 색인을 시드 데이터 기준으로 구성
+        ShopRatingSummaryRepository summaryRepository = context.getBean(ShopRatingSummaryRepository.class);
+        List<Long> shopIds = shops.stream().map(Shop::getId).toList();
+        transactionTemplate.executeWithoutResult(status -> shopIds.forEach(shopId ->
+                summaryRepository.aggregateFromReviews(shopId).ifPresent(summaryRepository::save)));
+        context.getBean(ShopSearchIndex.class).rebuild();
+
+        return SeedData.of(users, shops, menus, orders, config);
+    }
+
+    // 청크 단위 트랜잭션으로 저장 - 영속성 컨텍스트가 커지지 않도록 함
+    private static <T> List<T> saveInChunks(TransactionTemplate transactionTemplate, List<T> entities,
+                                            Function<List<T>, List<T>> saveAll) {
+        List<T> saved = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += CHUNK_SIZE) {
+            List<T> chunk = entities.subList(from, Math.min(from + CHUNK_SIZE, entities.size()));
+            saved.addAll(transactionTemplate.execute(status -> saveAll.apply(chunk)));
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.outsourcing.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 엔드포인트 하나의 응답 시간(ns) 기록 - 정확한 백분위를 위해 성공 요청의 측정값을 모두 보관
+// 가상 스레드가 carrier 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock 사용
+public class LatencyRecorder {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder errors = new LongAdder();
+    private long[] samples = new long[1 << 14];
+    private int count;
+
+    public void record(long nanos) {
+        lock.lock();
+        try {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, samples.length * 2);
+            }
+            samples[count++] = nanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public Snapshot snapshot() {
+        long[] sorted;
+        lock.lock();
+        try {
+            sorted = Arrays.copyOf(samples, count);
+        } finally {
+            lock.unlock();
+        }
+        Arrays.sort(sorted);
+        return new Snapshot(sorted, errors.sum());
+    }
+
+    public record Snapshot(long[] sorted, long errors) {
+        public long count() {
+            return sorted.length;
+        }
+
+        // nearest-rank 백분위 (ms)
+        public double percentileMillis(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+        }
+
+        public double maxMillis() {
+            return sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0;
+        }
+    }
+}
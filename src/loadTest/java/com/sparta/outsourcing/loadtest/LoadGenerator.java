@@ -0,0 +1,222 @@
+package com.sparta.outsourcing.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.global.config.JwtUtil;
+import com.sparta.outsourcing.loadtest.SeedData.Account;
+import com.sparta.outsourcing.loadtest.SeedData.OpenOrder;
+import com.sparta.outsourcing.loadtest.SeedData.ShopInfo;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 가상 스레드 클라이언트가 가중치에 따라 작업을 골라 쉬지 않고 요청 (closed-loop)
+// 워밍업 구간의 요청은 집계하지 않음
+@Slf4j
+public class LoadGenerator {
+    private final LoadTestConfig config;
+    private final SeedData seedData;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+    // 사용자 id -> 인증 쿠키 헤더 값
+    private final Map<Long, String> cookies = new HashMap<>();
+    // 가게 id -> 사장님 id
+    private final Map<Long, Long> shopOwners = new HashMap<>();
+    private final ConcurrentLinkedQueue<OpenOrder> openOrders;
+    private final Operation[] weightedOperations;
+
+    private volatile boolean recording;
+
+    public LoadGenerator(LoadTestConfig config, SeedData seedData, int port, JwtUtil jwtUtil) {
+        this.config = config;
+        this.seedData = seedData;
+        this.baseUrl = "http://localhost:" + port;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        // 로그인 작업 외에는 미리 발급한 토큰 사용
+        for (List<Account> accounts : List.of(seedData.customers(), seedData.owners())) {
+            for (Account account : accounts) {
+                String token = jwtUtil.createToken(account.id(), account.role(), account.email());
+                cookies.put(account.id(), JwtUtil.AUTHORIZATION_HEADER + "=" +
+                        URLEncoder.encode(token, StandardCharsets.UTF_8).replace("+", "%20"));
+            }
+        }
+        for (ShopInfo shop : seedData.shops()) {
+            shopOwners.put(shop.id(), shop.ownerId());
+        }
+        this.openOrders = new ConcurrentLinkedQueue<>(seedData.openOrders());
+        this.weightedOperations = config.getMix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+        if (weightedOperations.length == 0) {
+            throw new IllegalArgumentException("작업 비율의 합이 0 입니다.");
+        }
+    }
+
+    public Map<Operation, LatencyRecorder> run() throws InterruptedException {
+        long warmupNanos = TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        long deadline = System.nanoTime() + warmupNanos + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.getClients(); i++) {
+                Random random = new Random(config.getSeed() * 31 + i);
+                clients.submit(() -> clientLoop(random, deadline));
+            }
+            log.info("워밍업 {}초", config.getWarmupSeconds());
+            Thread.sleep(TimeUnit.NANOSECONDS.toMillis(warmupNanos));
+            recording = true;
+            log.info("측정 {}초 (클라이언트 {})", config.getDurationSeconds(), config.getClients());
+        }
+        return recorders;
+    }
+
+    private void clientLoop(Random random, long deadline) {
+        while (System.nanoTime() < deadline) {
+            Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+            OpenOrder openOrder = null;
+            if (operation == Operation.ORDER_STATUS) {
+                openOrder = openOrders.poll();
+                if (openOrder == null) { // 진행 중인 주문이 없으면 새 주문 생성
+                    operation = Operation.ORDER_CREATE;
+                }
+            }
+            HttpRequest request = switch (operation) {
+                case LOGIN -> login(random);
+                case SHOP_SEARCH -> shopSearch(random);
+                case ORDER_CREATE -> orderCreate(random);
+                case ORDER_STATUS -> orderStatus(openOrder);
+                case REVIEW_LIST -> reviewList(random);
+            };
+            execute(operation, request, openOrder);
+        }
+    }
+
+    private void execute(Operation operation, HttpRequest request, OpenOrder openOrder) {
+        LatencyRecorder recorder = recorders.get(operation);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            long elapsed = System.nanoTime() - start;
+            if (response.statusCode() >= 400) {
+                countError(recorder);
+                return;
+            }
+            if (recording) {
+                recorder.record(elapsed);
+            }
+            afterSuccess(operation, response, openOrder);
+        } catch (IOException e) {
+            countError(recorder);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 생성된 주문과 아직 완료되지 않은 주문은 다시 상태 변경 대상으로
+    private void afterSuccess(Operation operation, HttpResponse<String> response, OpenOrder openOrder) throws IOException {
+        if (operation == Operation.ORDER_CREATE) {
+            JsonNode body = objectMapper.readTree(response.body());
+            openOrders.add(new OpenOrder(body.get("orderId").asLong(), body.get("shopId").asLong(), OrderStatus.PENDING));
+        } else if (operation == Operation.ORDER_STATUS) {
+            OrderStatus next = nextStatus(openOrder.status());
+            if (next != OrderStatus.COMPLETED) {
+                openOrders.add(new OpenOrder(openOrder.orderId(), openOrder.shopId(), next));
+            }
+        }
+    }
+
+    private void countError(LatencyRecorder recorder) {
+        if (recording) {
+            recorder.recordError();
+        }
+    }
+
+    private HttpRequest login(Random random) {
+        Account account = seedData.customers().get(random.nextInt(seedData.customers().size()));
+        return json(HttpRequest.newBuilder(URI.create(baseUrl + "/api/user/login")),
+                Map.of("email", account.email(), "password", DataSeeder.PASSWORD), "POST");
+    }
+
+    private HttpRequest shopSearch(Random random) {
+        String query = DataSeeder.NAME_WORDS.get(random.nextInt(DataSeeder.NAME_WORDS.size()));
+        return authorized(URI.create(baseUrl + "/api/shops/search?name=" + URLEncoder.encode(query, StandardCharsets.UTF_8)),
+                randomCustomer(random))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest orderCreate(Random random) {
+        ShopInfo shop = seedData.shops().get(random.nextInt(seedData.shops().size()));
+        Long menuId = shop.menuIds().get(random.nextInt(shop.menuIds().size()));
+        return json(authorized(URI.create(baseUrl + "/api/shops/" + shop.id() + "/orders"), randomCustomer(random)),
+                Map.of("shopId", shop.id(), "menuId", menuId, "address", "서울시 부하구 테스트로 1", "phoneNumber", "010-1234-5678"),
+                "POST");
+    }
+
+    private HttpRequest orderStatus(OpenOrder openOrder) {
+        Long ownerId = shopOwners.get(openOrder.shopId());
+        return json(authorized(URI.create(baseUrl + "/api/orders/" + openOrder.orderId() + "/status"), ownerId),
+                Map.of("newStatus", nextStatus(openOrder.status()).name()), "PATCH");
+    }
+
+    private HttpRequest reviewList(Random random) {
+        ShopInfo shop = seedData.shops().get(random.nextInt(seedData.shops().size()));
+        int minRating = 1 + random.nextInt(3);
+        return authorized(URI.create(baseUrl + "/api/shops/" + shop.id() + "/reviews/page?minRating=" + minRating + "&size=20"),
+                randomCustomer(random))
+                .GET()
+                .build();
+    }
+
+    private Long randomCustomer(Random random) {
+        return seedData.customers().get(random.nextInt(seedData.customers().size())).id();
+    }
+
+    private HttpRequest.Builder authorized(URI uri, Long userId) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .header("Cookie", cookies.get(userId));
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, Map<String, Object> body, String method) {
+        try {
+            return builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static OrderStatus nextStatus(OrderStatus current) {
+        return switch (current) {
+            case PENDING -> OrderStatus.ACCEPTED;
+            case ACCEPTED -> OrderStatus.IN_PROGRESS;
+            default -> OrderStatus.COMPLETED;
+        };
+    }
+}
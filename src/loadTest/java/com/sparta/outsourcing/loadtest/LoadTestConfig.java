@@ -0,0 +1,58 @@
+package com.sparta.outsourcing.loadtest;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 부하 테스트 설정 - 시스템 프로퍼티 loadtest.* 로 변경 (gradle loadTest -Ploadtest.clients=200)
+@Getter
+public class LoadTestConfig {
+    private final long seed = longProperty("seed", 42L);
+    private final int users = intProperty("users", 1000);
+    private final int owners = intProperty("owners", 100);
+    private final int shops = intProperty("shops", 300);
+    private final int menusPerShop = intProperty("menus-per-shop", 10);
+    private final int orders = intProperty("orders", 20000);
+    private final int reviews = intProperty("reviews", 10000);
+
+    private final int clients = intProperty("clients", 64);
+    private final int warmupSeconds = intProperty("warmup-seconds", 10);
+    private final int durationSeconds = intProperty("duration-seconds", 30);
+    private final String reportDir = System.getProperty("loadtest.report-dir", "build/reports/loadtest");
+    // 서버 실행 모드 - true 면 virtual 프로필 (Tomcat / @Async / @Scheduled 가상 스레드 + DB 연결 입장 제한)
+    private final boolean virtualThreads = Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "false"));
+    // 두 모드를 같은 조건에서 비교하도록 커넥션 풀 크기를 고정
+    private final int dbPoolSize = intProperty("db-pool-size", 20);
+
+    // 작업 비율 (가중치)
+    private final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+    public LoadTestConfig() {
+        for (Operation operation : Operation.values()) {
+            mix.put(operation, intProperty("mix." + operation.getKey(), operation.getDefaultWeight()));
+        }
+        if (owners > users || shops > owners * 3) {
+            throw new IllegalArgumentException("owners 는 users 이하, shops 는 owners * 3 이하여야 합니다.");
+        }
+        if (reviews > orders) {
+            throw new IllegalArgumentException("reviews 는 orders 이하여야 합니다.");
+        }
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, Integer.toString(defaultValue)));
+    }
+
+    private static long longProperty(String name, long defaultValue) {
+        return Long.parseLong(System.getProperty("loadtest." + name, Long.toString(defaultValue)));
+    }
+
+    @Override
+    public String toString() {
+        return "seed=" + seed + ", users=" + users + ", owners=" + owners + ", shops=" + shops +
+                ", menusPerShop=" + menusPerShop + ", orders=" + orders + ", reviews=" + reviews +
+                ", clients=" + clients + ", virtualThreads=" + virtualThreads + ", dbPoolSize=" + dbPoolSize +
+                ", warmup=" + warmupSeconds + "s, duration=" + durationSeconds + "s, mix=" + mix;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.outsourcing.loadtest;
+
+import com.sparta.outsourcing.OutsourcingApplication;
+import com.sparta.outsourcing.global.config.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Base64;
+import java.util.Map;
+
+// 부하 테스트 진입점 - 인메모리 H2 로 애플리케이션을 띄우고 시드 데이터 생성 후 실제 HTTP 로 부하를 줌
+// 실행: gradle loadTest (-Ploadtest.clients=128 -Ploadtest.duration-seconds=60 ...)
+@Slf4j
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig();
+        log.info("부하 테스트 설정: {}", config);
+
+        int exitCode;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OutsourcingApplication.class)
+                .run(applicationArgs(config))) {
+            long start = System.currentTimeMillis();
+            SeedData seedData = new DataSeeder(context, config).seed();
+            log.info("시드 데이터 생성 완료 ({} ms)", System.currentTimeMillis() - start);
+
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            LoadGenerator generator = new LoadGenerator(config, seedData, port, context.getBean(JwtUtil.class));
+            new LoadTestReport(config, generator.run()).write();
+            exitCode = 0;
+        }
+        System.exit(exitCode);
+    }
+
+    // 외부 서비스 없이 실행되도록 로컬 프로필 설정을 덮어씀 (명령행 인자가 가장 높은 우선순위)
+    private static String[] applicationArgs(LoadTestConfig config) {
+        Map<String, String> overrides = Map.ofEntries(
+                Map.entry("server.port", "0"),
+                Map.entry("management.server.port", "0"),
+                Map.entry("spring.profiles.active", config.isVirtualThreads() ? "local,virtual" : "local"),
+                Map.entry("spring.datasource.hikari.maximum-pool-size", Integer.toString(config.getDbPoolSize())),
+                Map.entry("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1"),
+                Map.entry("spring.datasource.driver-class-name", "org.h2.Driver"),
+                Map.entry("spring.datasource.username", "sa"),
+                Map.entry("spring.datasource.password", ""),
+                Map.entry("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect"),
+                Map.entry("spring.jpa.hibernate.ddl-auto", "create"),
+                Map.entry("spring.jpa.properties.hibernate.show_sql", "false"),
+                Map.entry("spring.jpa.properties.hibernate.format_sql", "false"),
+                Map.entry("spring.jpa.properties.hibernate.use_sql_comments", "false"),
+                Map.entry("spring.jwt.secret.key", Base64.getEncoder().encodeToString(new byte[32])),
+                Map.entry("spring.owner.token", "loadtest-owner-token"),
+                Map.entry("spring.bcrypt.target-millis", "0"),
+                Map.entry("logging.level.root", "WARN"),
+                Map.entry("logging.level.com.sparta.outsourcing.loadtest", "INFO"));
+        return overrides.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+}
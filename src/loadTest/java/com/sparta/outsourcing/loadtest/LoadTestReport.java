@@ -0,0 +1,74 @@
+package com.sparta.outsourcing.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 엔드포인트별 처리량 / 지연시간 백분위 - 콘솔 표와 report.json, report.csv 로 출력
+public class LoadTestReport {
+    private final LoadTestConfig config;
+    private final Map<Operation, LatencyRecorder> recorders;
+
+    public LoadTestReport(LoadTestConfig config, Map<Operation, LatencyRecorder> recorders) {
+        this.config = config;
+        this.recorders = recorders;
+    }
+
+    public void write() throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map.Entry<Operation, LatencyRecorder> entry : recorders.entrySet()) {
+            rows.add(row(entry.getKey().getEndpoint(), entry.getValue().snapshot()));
+        }
+        printTable(rows);
+
+        Path dir = Path.of(config.getReportDir());
+        Files.createDirectories(dir);
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("config", config.toString());
+        json.put("endpoints", rows);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(dir.resolve("report.json").toFile(), json);
+
+        List<String> csv = new ArrayList<>();
+        csv.add(String.join(",", rows.get(0).keySet()));
+        for (Map<String, Object> row : rows) {
+            csv.add(row.values().stream().map(String::valueOf).reduce((a, b) -> a + "," + b).orElse(""));
+        }
+        Files.write(dir.resolve("report.csv"), csv);
+        System.out.println("리포트: " + dir.toAbsolutePath().resolve("report.json"));
+    }
+
+    private Map<String, Object> row(String endpoint, LatencyRecorder.Snapshot snapshot) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("endpoint", endpoint);
+        row.put("requests", snapshot.count());
+        row.put("errors", snapshot.errors());
+        row.put("rps", round((double) snapshot.count() / config.getDurationSeconds()));
+        row.put("p50Ms", round(snapshot.percentileMillis(50)));
+        row.put("p99Ms", round(snapshot.percentileMillis(99)));
+        row.put("p999Ms", round(snapshot.percentileMillis(99.9)));
+        row.put("maxMs", round(snapshot.maxMillis()));
+        return row;
+    }
+
+    private void printTable(List<Map<String, Object>> rows) {
+        String format = "%-40s %10s %8s %10s %10s %10s %10s %10s%n";
+        System.out.printf(format, "endpoint", "requests", "errors", "rps", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        long total = 0;
+        for (Map<String, Object> row : rows) {
+            System.out.printf(format, row.values().toArray());
+            total += (long) row.get("requests");
+        }
+        System.out.printf("total rps: %.2f%n", (double) total / config.getDurationSeconds());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.outsourcing.loadtest;
+
+import lombok.Getter;
+
+// 부하 테스트 작업 종류 - 엔드포인트별로 지연시간을 집계
+@Getter
+public enum Operation {
+    LOGIN("login", "POST /api/user/login", 5),
+    SHOP_SEARCH("shop-search", "GET /api/shops/search", 30),
+    ORDER_CREATE("order-create", "POST /api/shops/{shopId}/orders", 20),
+    ORDER_STATUS("order-status", "PATCH /api/orders/{orderId}/status", 15),
+    REVIEW_LIST("review-list", "GET /api/shops/{shopId}/reviews/page", 30);
+
+    private final String key;
+    private final String endpoint;
+    private final int defaultWeight;
+
+    Operation(String key, String endpoint, int defaultWeight) {
+        this.key = key;
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+}
@@ -0,0 +1,52 @@
+package com.sparta.outsourcing.loadtest;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.order.entity.Order;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.domain.user.entity.User;
+import com.sparta.outsourcing.domain.user.entity.UserRoleEnum;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 부하 생성에 필요한 시드 데이터 식별자만 보관 (엔티티는 보관하지 않음)
+public record SeedData(List<Account> customers,
+                       List<Account> owners,
+                       List<ShopInfo> shops,
+                       List<OpenOrder> openOrders) {
+
+    public record Account(Long id, String email, UserRoleEnum role) {
+    }
+
+    public record ShopInfo(Long id, Long ownerId, String name, List<Long> menuIds) {
+    }
+
+    // 아직 완료 / 취소되지 않은 주문 - 상태 변경 작업 대상
+    public record OpenOrder(Long orderId, Long shopId, OrderStatus status) {
+    }
+
+    static SeedData of(List<User> users, List<Shop> shops, List<Menu> menus, List<Order> orders, LoadTestConfig config) {
+        List<Account> customers = new ArrayList<>();
+        List<Account> owners = new ArrayList<>();
+        for (User user : users) {
+            Account account = new Account(user.getId(), user.getEmail(), user.getRole());
+            (user.getRole() == UserRoleEnum.OWNER ? owners : customers).add(account);
+        }
+
+        List<ShopInfo> shopInfos = new ArrayList<>();
+        for (int i = 0; i < shops.size(); i++) {
+            Shop shop = shops.get(i);
+            List<Long> menuIds = menus.subList(i * config.getMenusPerShop(), (i + 1) * config.getMenusPerShop()).stream()
+                    .map(Menu::getId)
+                    .toList();
+            shopInfos.add(new ShopInfo(shop.getId(), shop.getOwner().getId(), shop.getName(), menuIds));
+        }
+
+        List<OpenOrder> openOrders = orders.stream()
+                .filter(order -> order.getOrderStatus() != OrderStatus.COMPLETED && order.getOrderStatus() != OrderStatus.CANCELED)
+                .map(order -> new OpenOrder(order.getId(), order.getShop().getId(), order.getOrderStatus()))
+                .toList();
+        return new SeedData(customers, owners, shopInfos, openOrders);
+    }
+}
@@ -0,0 +1,32 @@
+package com.sparta.outsourcing.domain.menu.cache;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// 주문 검증에 필요한 메뉴 정보의 불변 스냅샷
+@Getter
+public class MenuSnapshot {
+    private final Long id;
+    private final Long shopId;
+    private final String menuName;
+    private final BigDecimal price;
+    private final String status;
+
+    public MenuSnapshot(Long id, Long shopId, String menuName, BigDecimal price, String status) {
+        this.id = id;
+        this.shopId = shopId;
+        this.menuName = menuName;
+        this.price = price;
+        this.status = status;
+    }
+
+    public static MenuSnapshot from(Menu menu) {
+        return new MenuSnapshot(menu.getId(), menu.getShop().getId(), menu.getMenuName(), menu.getPrice(), menu.getStatus());
+    }
+
+    public boolean isDeleted() {
+        return "deleted".equals(status);
+    }
+}
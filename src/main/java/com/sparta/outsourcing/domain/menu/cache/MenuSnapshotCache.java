@@ -0,0 +1,43 @@
+package com.sparta.outsourcing.domain.menu.cache;
+
+import com.sparta.outsourcing.domain.menu.repository.MenuRepository;
+import com.sparta.outsourcing.global.cache.LocalCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 메뉴 스냅샷 read-through 캐시 - 메뉴 수정 / 삭제 시 무효화
+@Component
+@RequiredArgsConstructor
+public class MenuSnapshotCache {
+    private final MenuRepository menuRepository;
+
+    @Value("${spring.cache.menu-snapshot.max-size:50000}")
+    private long maxSize;
+    @Value("${spring.cache.menu-snapshot.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private LocalCache<Long, MenuSnapshot> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = LocalCache.create("menu-snapshot", maxSize, ttlSeconds);
+    }
+
+    // 해당 가게의 메뉴 스냅샷 조회
+    public MenuSnapshot get(Long shopId, Long menuId) {
+        MenuSnapshot snapshot = cache.get(menuId, id -> menuRepository.findByShopIdAndId(shopId, id)
+                .map(MenuSnapshot::from)
+                .orElse(null));
+        if (snapshot == null || !snapshot.getShopId().equals(shopId)) {
+            throw new EntityNotFoundException("해당 가게에 메뉴가 존재하지 않습니다.");
+        }
+        return snapshot;
+    }
+
+    public void evict(Long menuId) {
+        cache.evict(menuId);
+    }
+}
@@ -1,17 +1,22 @@
 package com.sparta.outsourcing.domain.menu.entity;
 
 import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.global.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "menu")
+// "deleted" 상태 변경도 엔티티 수정이므로 커밋 시 캐시 항목이 함께 갱신됨
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.MENU_REGION)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
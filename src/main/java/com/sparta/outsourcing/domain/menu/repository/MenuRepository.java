@@ -1,11 +1,20 @@
 package com.sparta.outsourcing.domain.menu.repository;
 
 import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.global.config.HibernateCacheConfig;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
+    // 결과(메뉴 id)는 쿼리 캐시, 메뉴는 2차 캐시에서 조회 - menu 테이블이 바뀌면 쿼리 캐시 무효화
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.MENU_QUERY_REGION)
+    })
     Optional<Menu> findByShopIdAndId(Long shopId, Long id);
 }
 
@@ -1,9 +1,11 @@
 package com.sparta.outsourcing.domain.menu.service;
 
+import com.sparta.outsourcing.domain.menu.cache.MenuSnapshotCache;
 import com.sparta.outsourcing.domain.menu.dto.MenuRequestDto;
 import com.sparta.outsourcing.domain.menu.dto.MenuResponseDto;
 import com.sparta.outsourcing.domain.menu.entity.Menu;
 import com.sparta.outsourcing.domain.menu.repository.MenuRepository;
+import com.sparta.outsourcing.domain.shop.cache.ShopDetailCache;
 import com.sparta.outsourcing.domain.shop.entity.Shop;
 import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
 import com.sparta.outsourcing.domain.user.dto.AuthUser;
@@ -24,6 +26,8 @@ public class MenuService {
     private final ShopRepository shopRepository;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final ShopDetailCache shopDetailCache;
 
     //메뉴 생성
     @Transactional
@@ -48,6 +52,7 @@ public class MenuService {
                 .build();
 
         Menu savedMenu = menuRepository.save(menu);
+        shopDetailCache.evict(shopId);
 
         return MenuResponseDto.builder()
                 .message("메뉴 생성 완료")
@@ -83,6 +88,8 @@ public class MenuService {
                 .build();
 
         Menu updatedMenu = menuRepository.save(menu);
+        menuSnapshotCache.evict(menuId);
+        shopDetailCache.evict(shopId);
 
         return MenuResponseDto.builder()
                 .message("메뉴 수정 완료")
@@ -117,6 +124,8 @@ public class MenuService {
                 .build();
 
         Menu deletedMenu = menuRepository.save(menu);
+        menuSnapshotCache.evict(menuId);
+        shopDetailCache.evict(shopId);
 
         return MenuResponseDto.builder()
                 .message("메뉴 삭제 완료")
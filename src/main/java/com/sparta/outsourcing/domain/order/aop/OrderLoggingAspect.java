@@ -1,23 +1,24 @@
 package com.sparta.outsourcing.domain.order.aop;
 
+import com.sparta.outsourcing.domain.order.audit.OrderAuditRecorder;
+import com.sparta.outsourcing.domain.order.audit.OrderAuditType;
+import com.sparta.outsourcing.domain.order.dto.OrderBulkStatusRequestDto;
+import com.sparta.outsourcing.domain.order.dto.OrderBulkStatusResponseDto;
 import com.sparta.outsourcing.domain.order.dto.OrderResponseDto;
-import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import com.sparta.outsourcing.domain.order.service.OrderTransitionResult;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-
+// 주문 생성 / 상태 변경 감사 로그 - 요청 스레드에서는 링 버퍼에 값만 넣고 기록은 OrderAuditRecorder 가 비동기로 수행
 @Aspect
 @Component
-@Slf4j
 @RequiredArgsConstructor
 public class OrderLoggingAspect {
 
-    private final OrderRepository orderRepository;
+    private final OrderAuditRecorder auditRecorder;
 
     // 주문 생성 성공 및 실패 로그 기록
     @Around("execution(* com.sparta.outsourcing.domain.order.service.OrderService.createOrder(..))")
@@ -25,14 +26,13 @@ public class OrderLoggingAspect {
         Object[] args = joinPoint.getArgs();
         Long shopId = (Long) args[1];
         Long userId = (Long) args[2];
-        LocalDateTime now = LocalDateTime.now();
 
         try {
             Object result = joinPoint.proceed();
-            log.info("INFO: [{}] 주문 생성 성공 - 가게 ID: {}, 주문 ID: {}, 주문 유저 ID: {}", now, shopId, ((OrderResponseDto) result).getOrderId(), userId);
+            auditRecorder.record(OrderAuditType.CREATE_SUCCEEDED, ((OrderResponseDto) result).getOrderId(), shopId, userId, null, null);
             return result;
         } catch (Exception ex) {
-            log.error("ERROR: [{}] 주문 생성 실패 - 가게 ID: {}, 주문 유저 ID: {}, 에러 발생", now, shopId, userId);
+            auditRecorder.record(OrderAuditType.CREATE_FAILED, null, shopId, userId, null, ex);
             throw ex;
         }
     }
@@ -45,18 +45,34 @@ public class OrderLoggingAspect {
         String newStatus = (String) args[1]; // 변경할 상태 값
         Long userId = (Long) args[2];
 
-        LocalDateTime now = LocalDateTime.now();
-
         try {
             Object result = joinPoint.proceed();
+            auditRecorder.record(OrderAuditType.STATUS_CHANGED, orderId, null, userId, newStatus, null);
+            return result;
+        } catch (Exception ex) {
+            auditRecorder.record(OrderAuditType.STATUS_CHANGE_FAILED, orderId, null, userId, newStatus, ex);
+            throw ex;
+        }
+    }
 
-            log.info("INFO: [{}] 주문 상태 변경 성공 - 주문 ID: {}, 유저 ID: {}, 변경 상태: {}",
-                    now, orderId, userId, newStatus);
+    // 주문 일괄 상태 변경 - 변경된 주문마다 상태 변경 로그 기록
+    @Around("execution(* com.sparta.outsourcing.domain.order.service.OrderService.bulkUpdateOrderStatus(..))")
+    public Object logBulkOrderStatusUpdate(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        Long shopId = (Long) args[0];
+        Long userId = (Long) args[1];
+        String newStatus = ((OrderBulkStatusRequestDto) args[2]).getNewStatus().name();
 
+        try {
+            OrderBulkStatusResponseDto result = (OrderBulkStatusResponseDto) joinPoint.proceed();
+            for (OrderBulkStatusResponseDto.Result orderResult : result.getResults()) {
+                if (orderResult.getOutcome() == OrderTransitionResult.Outcome.APPLIED) {
+                    auditRecorder.record(OrderAuditType.STATUS_CHANGED, orderResult.getOrderId(), shopId, userId, newStatus, null);
+                }
+            }
             return result;
         } catch (Exception ex) {
-            log.error("ERROR: [{}] 주문 상태 변경 실패 - 주문 ID: {}, 유저 ID: {}",
-                    now, orderId, userId);
+            auditRecorder.record(OrderAuditType.STATUS_CHANGE_FAILED, null, shopId, userId, newStatus, ex);
             throw ex;
         }
     }
@@ -0,0 +1,61 @@
+package com.sparta.outsourcing.domain.order.archive;
+
+import com.sparta.outsourcing.domain.order.repository.ArchivedOrderRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 보관 경계 - 보관 테이블의 주문은 모두 이 시각 이전에 생성됨
+// 조회 범위의 시작 (from) 이 경계 이후이면 보관 테이블은 조회하지 않음
+// 경계 = max(보관된 주문의 최대 주문 시각, 지금 - 보관 기간): 다른 인스턴스가 방금 옮긴 주문도
+// 보관 기간 이전에 생성된 주문이므로, 최대 주문 시각을 다시 읽기 전에도 경계 안에 포함됨
+@Slf4j
+@Component
+public class OrderArchiveHorizon {
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final boolean enabled;
+    private final int retentionDays;
+
+    // 보관 테이블의 최대 주문 시각 (비어 있으면 null)
+    private volatile LocalDateTime latestArchived;
+
+    public OrderArchiveHorizon(ArchivedOrderRepository archivedOrderRepository,
+                               @Value("${spring.order.archive.enabled:false}") boolean enabled,
+                               @Value("${spring.order.archive.retention-days:90}") int retentionDays) {
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${spring.order.archive.horizon-refresh-ms:300000}",
+            initialDelayString = "${spring.order.archive.horizon-refresh-ms:300000}")
+    public void refresh() {
+        try {
+            latestArchived = archivedOrderRepository.findLatestCreatedAt().orElse(null);
+        } catch (RuntimeException e) {
+            // 기존 값 유지 - 보관 기간 기준 경계는 계속 적용됨
+            log.warn("보관 경계 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 보관된 주문이 있을 수 있는 가장 늦은 주문 시각 (보관된 주문이 없고 보관도 꺼져 있으면 null)
+    public LocalDateTime get() {
+        LocalDateTime latest = latestArchived;
+        if (!enabled) {
+            return latest;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        return latest == null || latest.isBefore(cutoff) ? cutoff : latest;
+    }
+
+    // from 이후 범위에 보관된 주문이 있을 수 있는지
+    public boolean mayContain(LocalDateTime from) {
+        LocalDateTime horizon = get();
+        return horizon != null && (from == null || !from.isAfter(horizon));
+    }
+}
@@ -0,0 +1,145 @@
+package com.sparta.outsourcing.domain.order.archive;
+
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 주문 보관 - 보관 기간 이전에 완료 / 취소된 주문을 batch-size 건씩 orders -> orders_archive 로 이동
+// 한 배치는 한 트랜잭션 (보관 테이블 INSERT ... SELECT 후 원본 DELETE) 이라 중간에 실패해도 주문이 사라지거나 중복되지 않음
+// 종료 상태 주문은 더 이상 변경되지 않으므로 상태 변경과 경합하지 않음
+// 리뷰가 달린 주문은 reviews.order_id FK 가 참조하므로 이동하지 않음
+@Slf4j
+@Component
+public class OrderArchiver {
+    private static final List<String> TERMINAL_STATUSES =
+            List.of(OrderStatus.COMPLETED.name(), OrderStatus.CANCELED.name());
+    // 완료 / 취소 이후 modified_at 은 바뀌지 않고 created_at <= modified_at 이므로, 이동한 주문은 모두 cutoff 이전에 생성됨
+    private static final String SELECT_SQL = "SELECT o.id FROM orders o "
+            + "WHERE o.order_status IN (:statuses) AND o.modified_at < :cutoff "
+            + "AND NOT EXISTS (SELECT 1 FROM reviews r WHERE r.order_id = o.id) "
+            + "ORDER BY o.modified_at, o.id LIMIT :limit";
+    private static final String INSERT_ORDERS_SQL = "INSERT INTO orders_archive "
+            + "(id, user_id, shop_id, menu_id, address, phone_number, menu_name, menu_price, total_price, "
+            + "order_status, created_at, modified_at, archived_at) "
+            + "SELECT id, user_id, shop_id, menu_id, address, phone_number, menu_name, menu_price, total_price, "
+            + "order_status, created_at, modified_at, :archivedAt FROM orders WHERE id IN (:ids)";
+    private static final String INSERT_ITEMS_SQL = "INSERT INTO order_items_archive "
+            + "(order_id, line_no, menu_id, menu_name, menu_price, quantity) "
+            + "SELECT order_id, line_no, menu_id, menu_name, menu_price, quantity FROM order_items WHERE order_id IN (:ids)";
+    private static final String DELETE_ITEMS_SQL = "DELETE FROM order_items WHERE order_id IN (:ids)";
+    private static final String DELETE_ORDERS_SQL = "DELETE FROM orders WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderArchiveHorizon orderArchiveHorizon;
+    private final Counter archivedOrders;
+
+    @Value("${spring.order.archive.enabled:false}")
+    private boolean enabled;
+    @Value("${spring.order.archive.retention-days:90}")
+    private int retentionDays;
+    @Value("${spring.order.archive.batch-size:1000}")
+    private int batchSize;
+    // 한 번 실행에서 처리할 최대 배치 수 - 남은 주문은 다음 실행에서 이어서 처리
+    @Value("${spring.order.archive.max-batches:100}")
+    private int maxBatches;
+    // 배치 사이 대기 - 복제 지연 / 잠금 점유 완화
+    @Value("${spring.order.archive.pause-ms:100}")
+    private long pauseMillis;
+
+    public OrderArchiver(NamedParameterJdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate,
+                         OrderArchiveHorizon orderArchiveHorizon) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.orderArchiveHorizon = orderArchiveHorizon;
+        this.archivedOrders = Counter.builder("orders.archived")
+                .description("보관 테이블로 이동한 주문 수")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Scheduled(cron = "${spring.order.archive.cron:0 30 4 * * *}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            archive(LocalDateTime.now().minusDays(retentionDays));
+        } catch (RuntimeException e) {
+            // 이미 커밋된 배치는 유지, 나머지는 다음 실행에서 처리
+            log.error("주문 보관 실패", e);
+        }
+    }
+
+    // cutoff 이전에 완료 / 취소된 주문 이동, 이동한 주문 수 반환
+    public long archive(LocalDateTime cutoff) {
+        long startedAt = System.nanoTime();
+        long moved = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int count = archiveBatch(cutoff);
+                moved += count;
+                if (count < batchSize) {
+                    break;
+                }
+                pause();
+            }
+        } finally {
+            orderArchiveHorizon.refresh();
+        }
+        log.info("주문 보관 완료 - cutoff: {}, {}건, {} ms", cutoff, moved,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return moved;
+    }
+
+    int archiveBatch(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_SQL, new MapSqlParameterSource()
+                    .addValue("statuses", TERMINAL_STATUSES)
+                    .addValue("cutoff", Timestamp.valueOf(cutoff))
+                    .addValue("limit", batchSize), Long.class);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", ids)
+                    .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+            int inserted = jdbcTemplate.update(INSERT_ORDERS_SQL, params);
+            jdbcTemplate.update(INSERT_ITEMS_SQL, params);
+            jdbcTemplate.update(DELETE_ITEMS_SQL, params);
+            int deleted = jdbcTemplate.update(DELETE_ORDERS_SQL, params);
+            if (inserted != deleted) {
+                // 다른 인스턴스가 같은 주문을 먼저 옮긴 경우 등 - 배치 전체를 되돌림
+                throw new IllegalStateException("보관 대상 " + ids.size() + "건 중 복사 " + inserted + "건, 삭제 " + deleted + "건");
+            }
+            return deleted;
+        });
+        int count = moved == null ? 0 : moved;
+        archivedOrders.increment(count);
+        return count;
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 보관이 중단되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// 한 줄에 이벤트 하나인 JSON lines 파일 - maxBytes 를 넘으면 path.1 ~ path.(maxFiles - 1) 로 밀어내며 교체
+class FileOrderAuditSink implements OrderAuditSink {
+    private final Path path;
+    private final long maxBytes;
+    private final int maxFiles;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private BufferedWriter writer;
+    private long size;
+
+    FileOrderAuditSink(Path path, long maxBytes, int maxFiles) throws IOException {
+        this.path = path;
+        this.maxBytes = maxBytes;
+        this.maxFiles = Math.max(maxFiles, 1);
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        open();
+    }
+
+    @Override
+    public void write(OrderAuditEvent[] batch, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            format(batch[i]);
+            // 이벤트 필드는 ASCII 만 사용하므로 글자 수 = 바이트 수
+            if (size > 0 && size + line.length() > maxBytes) {
+                roll();
+            }
+            writer.append(line);
+            size += line.length();
+        }
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void format(OrderAuditEvent event) {
+        line.setLength(0);
+        line.append("{\"ts\":").append(event.getOccurredAt())
+                .append(",\"type\":\"").append(event.getType().name()).append('"');
+        if (event.hasOrderId()) {
+            line.append(",\"orderId\":").append(event.getOrderId());
+        }
+        if (event.hasShopId()) {
+            line.append(",\"shopId\":").append(event.getShopId());
+        }
+        if (event.hasUserId()) {
+            line.append(",\"userId\":").append(event.getUserId());
+        }
+        if (event.getOrderStatus() != null) {
+            line.append(",\"status\":\"");
+            appendEscaped(event.getOrderStatus());
+            line.append('"');
+        }
+        if (event.getErrorType() != null) {
+            line.append(",\"error\":\"").append(event.getErrorType().getSimpleName()).append('"');
+        }
+        line.append("}\n");
+    }
+
+    // 요청 값이 그대로 들어오는 상태 문자열은 ASCII 영숫자 / '_' 외 문자를 '?' 로 치환
+    private void appendEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            line.append(c < 128 && (Character.isLetterOrDigit(c) || c == '_') ? c : '?');
+        }
+    }
+
+    private void open() throws IOException {
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(path);
+    }
+
+    private void roll() throws IOException {
+        writer.close();
+        if (maxFiles == 1) {
+            Files.delete(path);
+        } else {
+            Files.deleteIfExists(rolled(maxFiles - 1));
+            for (int i = maxFiles - 2; i >= 1; i--) {
+                if (Files.exists(rolled(i))) {
+                    Files.move(rolled(i), rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(path, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private Path rolled(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+}
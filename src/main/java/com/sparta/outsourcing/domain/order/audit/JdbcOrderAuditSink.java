@@ -0,0 +1,41 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+// order_audit 테이블에 JDBC 배치 INSERT
+class JdbcOrderAuditSink implements OrderAuditSink {
+    private static final String INSERT_SQL = "INSERT INTO order_audit "
+            + "(event_type, occurred_at, order_id, shop_id, user_id, order_status, error_type) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] ARG_TYPES = {
+            Types.VARCHAR, Types.TIMESTAMP, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR};
+    private static final int MAX_STATUS_LENGTH = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    JdbcOrderAuditSink(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void write(OrderAuditEvent[] batch, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OrderAuditEvent event = batch[i];
+            String status = event.getOrderStatus();
+            rows.add(new Object[]{
+                    event.getType().name(),
+                    new Timestamp(event.getOccurredAt()),
+                    event.hasOrderId() ? event.getOrderId() : null,
+                    event.hasShopId() ? event.getShopId() : null,
+                    event.hasUserId() ? event.getUserId() : null,
+                    status != null && status.length() > MAX_STATUS_LENGTH ? status.substring(0, MAX_STATUS_LENGTH) : status,
+                    event.getErrorType() != null ? event.getErrorType().getSimpleName() : null});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, ARG_TYPES);
+    }
+}
@@ -0,0 +1,41 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// order_audit 테이블 매핑 (조회용) - 저장은 JdbcOrderAuditSink 가 배치 INSERT 로 수행
+@Entity
+@Getter
+@Immutable
+@Table(name = "order_audit", indexes = {
+        @Index(name = "idx_order_audit_order", columnList = "order_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private OrderAuditType eventType;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    private Long orderId;
+    private Long shopId;
+    private Long userId;
+
+    @Column(name = "order_status", length = 50)
+    private String orderStatus;
+
+    @Column(name = "error_type", length = 100)
+    private String errorType;
+}
@@ -0,0 +1,56 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import lombok.Getter;
+
+// 주문 감사 이벤트 - 링 버퍼 슬롯과 writer 쪽 배치 배열에 미리 만들어 두고 값만 덮어써서 재사용
+// 문자열 포맷팅은 writer 스레드에서만 수행 (요청 스레드는 참조 / 원시값만 기록)
+@Getter
+public class OrderAuditEvent {
+    static final long NONE = -1L;
+
+    private OrderAuditType type;
+    private long occurredAt;       // epoch millis
+    private long orderId = NONE;
+    private long shopId = NONE;
+    private long userId = NONE;
+    private String orderStatus;    // 변경 요청 상태 (요청 값 그대로)
+    private Class<?> errorType;    // 실패 시 예외 타입
+
+    void set(OrderAuditType type, long occurredAt, Long orderId, Long shopId, Long userId, String orderStatus, Class<?> errorType) {
+        this.type = type;
+        this.occurredAt = occurredAt;
+        this.orderId = orderId == null ? NONE : orderId;
+        this.shopId = shopId == null ? NONE : shopId;
+        this.userId = userId == null ? NONE : userId;
+        this.orderStatus = orderStatus;
+        this.errorType = errorType;
+    }
+
+    void copyFrom(OrderAuditEvent other) {
+        this.type = other.type;
+        this.occurredAt = other.occurredAt;
+        this.orderId = other.orderId;
+        this.shopId = other.shopId;
+        this.userId = other.userId;
+        this.orderStatus = other.orderStatus;
+        this.errorType = other.errorType;
+    }
+
+    // 다 쓴 슬롯이 문자열 / 클래스 참조를 붙잡고 있지 않도록 정리
+    void clear() {
+        this.orderStatus = null;
+        this.errorType = null;
+    }
+
+    public boolean hasOrderId() {
+        return orderId != NONE;
+    }
+
+    public boolean hasShopId() {
+        return shopId != NONE;
+    }
+
+    public boolean hasUserId() {
+        return userId != NONE;
+    }
+}
@@ -0,0 +1,155 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 주문 감사 로그 비동기 기록기 - 요청 스레드는 링 버퍼에 값만 넣고 바로 반환, writer 스레드가 배치로 sink 에 기록
+// 버퍼가 가득 차면 요청을 막지 않고 이벤트를 버림 (orders.audit.events{result=dropped} 로 노출)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderAuditRecorder {
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // file: 로컬 파일 (JSON lines), table: order_audit 테이블, none: 기록 안 함
+    @Value("${spring.order.audit.sink:file}")
+    private String sinkType;
+    @Value("${spring.order.audit.capacity:8192}")
+    private int capacity;
+    @Value("${spring.order.audit.batch-size:512}")
+    private int batchSize;
+    @Value("${spring.order.audit.file.path:logs/order-audit.log}")
+    private String filePath;
+    @Value("${spring.order.audit.file.max-bytes:52428800}")
+    private long fileMaxBytes;
+    @Value("${spring.order.audit.file.max-files:5}")
+    private int fileMaxFiles;
+
+    private OrderAuditRingBuffer buffer;
+    private OrderAuditSink sink;
+    private Counter written;
+    private Counter writeFailures;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() throws IOException {
+        sink = createSink();
+        if (sink == null) {
+            return;
+        }
+        buffer = new OrderAuditRingBuffer(capacity);
+        registerMetrics();
+        running = true;
+        writer = new Thread(this::drainLoop, "order-audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("주문 감사 로그 기록 시작 - sink: {}, capacity: {}, batch-size: {}", sinkType, buffer.capacity(), batchSize);
+    }
+
+    // 남은 이벤트를 모두 기록한 뒤 종료
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        try {
+            sink.close();
+        } catch (Exception e) {
+            log.warn("주문 감사 로그 sink 종료 실패", e);
+        }
+    }
+
+    // 요청 스레드에서 호출 - 버퍼가 가득 차면 버리고 바로 반환
+    public void record(OrderAuditType type, Long orderId, Long shopId, Long userId, String orderStatus, Throwable error) {
+        if (buffer == null) {
+            return;
+        }
+        buffer.publish(type, System.currentTimeMillis(), orderId, shopId, userId, orderStatus,
+                error == null ? null : error.getClass());
+    }
+
+    private OrderAuditSink createSink() throws IOException {
+        return switch (sinkType.toLowerCase()) {
+            case "file" -> new FileOrderAuditSink(Path.of(filePath), fileMaxBytes, fileMaxFiles);
+            case "table" -> new JdbcOrderAuditSink(jdbcTemplate);
+            case "none" -> null;
+            default -> throw new IllegalArgumentException("지원하지 않는 감사 로그 sink 입니다: " + sinkType);
+        };
+    }
+
+    private void registerMetrics() {
+        FunctionCounter.builder("orders.audit.events", buffer, OrderAuditRingBuffer::published)
+                .description("감사 로그 버퍼에 들어간 이벤트 수")
+                .tag("result", "published")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("orders.audit.events", buffer, OrderAuditRingBuffer::dropped)
+                .description("버퍼가 가득 차 버려진 이벤트 수")
+                .tag("result", "dropped")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("orders.audit.backlog", buffer, OrderAuditRingBuffer::backlog)
+                .description("아직 기록되지 않은 이벤트 수")
+                .register(Metrics.globalRegistry);
+        written = Counter.builder("orders.audit.written")
+                .description("sink 에 기록된 이벤트 수")
+                .register(Metrics.globalRegistry);
+        writeFailures = Counter.builder("orders.audit.write.failures")
+                .description("sink 기록 실패로 유실된 이벤트 수")
+                .register(Metrics.globalRegistry);
+    }
+
+    // 이벤트가 없으면 점점 길게 park (최대 50ms) - 이벤트가 들어오면 다시 바쁘게 읽음
+    private void drainLoop() {
+        OrderAuditEvent[] batch = new OrderAuditEvent[batchSize];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = new OrderAuditEvent();
+        }
+        long parkNanos = 0;
+        while (true) {
+            int count = buffer.drainTo(batch);
+            if (count > 0) {
+                writeBatch(batch, count);
+                parkNanos = 0;
+                continue;
+            }
+            if (!running) {
+                return;
+            }
+            parkNanos = parkNanos == 0 ? TimeUnit.MICROSECONDS.toNanos(100) : Math.min(parkNanos * 2, MAX_IDLE_PARK_NANOS);
+            LockSupport.parkNanos(this, parkNanos);
+        }
+    }
+
+    private void writeBatch(OrderAuditEvent[] batch, int count) {
+        try {
+            sink.write(batch, count);
+            written.increment(count);
+        } catch (Exception e) {
+            writeFailures.increment(count);
+            log.error("주문 감사 로그 기록 실패 - {}건", count, e);
+        } finally {
+            for (int i = 0; i < count; i++) {
+                batch[i].clear();
+            }
+        }
+    }
+}
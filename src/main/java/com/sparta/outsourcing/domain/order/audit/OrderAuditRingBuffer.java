@@ -0,0 +1,85 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 다중 생산자 / 단일 소비자 고정 크기 링 버퍼 - lock 없이 CAS 로 슬롯을 확보하고, 가득 차면 기다리지 않고 버림
+// 슬롯의 published 값이 (sequence + 1) 이 되어야 소비자가 읽으므로 쓰기 도중인 슬롯은 읽지 않음
+class OrderAuditRingBuffer {
+    private final Slot[] slots;
+    private final int mask;
+    private final int capacity;
+    // 다음에 확보할 sequence (생산자)
+    private final AtomicLong tail = new AtomicLong();
+    // 다음에 읽을 sequence (소비자만 변경)
+    private volatile long head;
+    private final LongAdder dropped = new LongAdder();
+
+    OrderAuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("감사 로그 버퍼 크기는 2 이상이어야 합니다.");
+        }
+        capacity = Integer.highestOneBit(requestedCapacity - 1) << 1; // 2의 거듭제곱으로 올림
+        mask = capacity - 1;
+        slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    // 버퍼가 가득 차면 false (drop 카운트 증가)
+    boolean publish(OrderAuditType type, long occurredAt, Long orderId, Long shopId, Long userId,
+                    String orderStatus, Class<?> errorType) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head >= capacity) {
+                dropped.increment();
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.event.set(type, occurredAt, orderId, shopId, userId, orderStatus, errorType);
+        slot.published = sequence + 1;
+        return true;
+    }
+
+    // 게시 완료된 이벤트를 batch 에 복사하고 슬롯을 바로 반환 - 복사한 개수 반환 (소비자 스레드 전용)
+    int drainTo(OrderAuditEvent[] batch) {
+        long read = head;
+        int count = 0;
+        while (count < batch.length) {
+            Slot slot = slots[(int) (read & mask)];
+            if (slot.published != read + 1) {
+                break;
+            }
+            batch[count++].copyFrom(slot.event);
+            slot.event.clear();
+            read++;
+        }
+        head = read;
+        return count;
+    }
+
+    long backlog() {
+        return tail.get() - head;
+    }
+
+    long published() {
+        return tail.get();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    private static final class Slot {
+        private final OrderAuditEvent event = new OrderAuditEvent();
+        private volatile long published;
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import java.io.IOException;
+
+// 감사 이벤트 저장소 - writer 스레드에서만 호출
+interface OrderAuditSink extends AutoCloseable {
+
+    void write(OrderAuditEvent[] batch, int count) throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+}
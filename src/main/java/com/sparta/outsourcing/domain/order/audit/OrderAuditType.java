@@ -0,0 +1,8 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+public enum OrderAuditType {
+    CREATE_SUCCEEDED,          // 주문 생성 성공
+    CREATE_FAILED,             // 주문 생성 실패
+    STATUS_CHANGED,            // 주문 상태 변경 성공
+    STATUS_CHANGE_FAILED       // 주문 상태 변경 실패
+}
@@ -1,17 +1,30 @@
 package com.sparta.outsourcing.domain.order.controller;
 
+import com.sparta.outsourcing.domain.order.dto.OrderBulkStatusRequestDto;
+import com.sparta.outsourcing.domain.order.dto.OrderBulkStatusResponseDto;
+import com.sparta.outsourcing.domain.order.dto.OrderPageRequestDto;
 import com.sparta.outsourcing.domain.order.dto.OrderRequestDto;
 import com.sparta.outsourcing.domain.order.dto.OrderResponseDto;
 import com.sparta.outsourcing.domain.order.dto.OrderStatusRequestDto;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.order.export.OrderExportFormat;
 import com.sparta.outsourcing.domain.order.service.OrderService;
 import com.sparta.outsourcing.domain.user.dto.AuthUser;
 import com.sparta.outsourcing.global.annotation.Auth;
+import com.sparta.outsourcing.global.pagination.CursorPageResponseDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -31,7 +44,7 @@ public class OrderController {
         return ResponseEntity.ok(orderService.createOrder(orderRequestDto, shopId, userId, authUser));
     }
 
-    // 주문 조회 (Owner)
+    // 주문 조회 (Owner) - 최신 주문 첫 페이지
     @GetMapping("/shops/{shopId}/orders")
     public ResponseEntity<List<OrderResponseDto>> getShopOrders(@PathVariable Long shopId,
                                                                 @Auth AuthUser authUser) {
@@ -39,13 +52,85 @@ public class OrderController {
         return ResponseEntity.ok(orderService.getShopOrders(shopId, ownerId));
     }
 
-    // 주문 조회 (User)
+    // 주문 조회 (User) - 최신 주문 첫 페이지
     @GetMapping("/orders")
     public ResponseEntity<List<OrderResponseDto>> getUserOrders(@Auth AuthUser authUser) {
         Long userId = authUser.getId();
         return ResponseEntity.ok(orderService.getUserOrders(userId));
     }
 
+    // 주문 페이지 조회 (Owner) - nextCursor 로 다음 페이지 요청
+    @GetMapping("/shops/{shopId}/orders/page")
+    public ResponseEntity<CursorPageResponseDto<OrderResponseDto>> getShopOrderPage(
+            @PathVariable Long shopId,
+            @RequestParam(value = "status", required = false) OrderStatus status,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @Auth AuthUser authUser) {
+        OrderPageRequestDto pageRequest = OrderPageRequestDto.builder()
+                .status(status)
+                .from(from)
+                .to(to)
+                .cursor(cursor)
+                .size(size)
+                .build();
+        return ResponseEntity.ok(orderService.getShopOrderPage(shopId, authUser.getId(), pageRequest));
+    }
+
+    // 주문 페이지 조회 (User) - nextCursor 로 다음 페이지 요청
+    @GetMapping("/orders/page")
+    public ResponseEntity<CursorPageResponseDto<OrderResponseDto>> getUserOrderPage(
+            @RequestParam(value = "status", required = false) OrderStatus status,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @Auth AuthUser authUser) {
+        OrderPageRequestDto pageRequest = OrderPageRequestDto.builder()
+                .status(status)
+                .from(from)
+                .to(to)
+                .cursor(cursor)
+                .size(size)
+                .build();
+        return ResponseEntity.ok(orderService.getUserOrderPage(authUser.getId(), pageRequest));
+    }
+
+    // 가게 주문 내보내기 (Owner) - format: csv (기본) / ndjson, 주문 시각 오름차순
+    @GetMapping("/shops/{shopId}/orders/export")
+    public ResponseEntity<StreamingResponseBody> exportShopOrders(
+            @PathVariable Long shopId,
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "status", required = false) OrderStatus status,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Auth AuthUser authUser) {
+        OrderExportFormat exportFormat = OrderExportFormat.from(format);
+        StreamingResponseBody body = orderService.exportShopOrders(shopId, authUser.getId(), exportFormat, status, from, to);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("shop-" + shopId + "-orders." + exportFormat.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    // 주문 이벤트 구독 (User) - 본인 주문의 생성 / 상태 변경을 SSE 로 수신
+    @GetMapping(value = "/orders/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeUserOrders(@Auth AuthUser authUser) {
+        return orderService.subscribeUserOrders(authUser.getId());
+    }
+
+    // 주문 이벤트 구독 (Owner) - 가게 주문의 생성 / 상태 변경을 SSE 로 수신
+    @GetMapping(value = "/shops/{shopId}/orders/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeShopOrders(@PathVariable Long shopId,
+                                          @Auth AuthUser authUser) {
+        return orderService.subscribeShopOrders(shopId, authUser.getId());
+    }
+
     // 주문 상태 변경
     @PatchMapping("/orders/{orderId}/status")
     public ResponseEntity<String> updateOrderStatus(@PathVariable Long orderId,
@@ -54,4 +139,12 @@ public class OrderController {
         Long ownerId = authUser.getId();
         return ResponseEntity.ok(orderService.updateOrderStatus(orderId, orderStatusRequestDto.getNewStatus(), ownerId));
     }
+
+    // 주문 일괄 상태 변경 (Owner) - 주문별 결과 반환
+    @PatchMapping("/shops/{shopId}/orders/status")
+    public ResponseEntity<OrderBulkStatusResponseDto> bulkUpdateOrderStatus(@PathVariable Long shopId,
+                                                                            @Valid @RequestBody OrderBulkStatusRequestDto requestDto,
+                                                                            @Auth AuthUser authUser) {
+        return ResponseEntity.ok(orderService.bulkUpdateOrderStatus(shopId, authUser.getId(), requestDto));
+    }
 }
@@ -0,0 +1,28 @@
+package com.sparta.outsourcing.domain.order.dto;
+
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 한 가게의 여러 주문을 같은 상태로 한 번에 변경
+@Getter
+@NoArgsConstructor
+public class OrderBulkStatusRequestDto {
+
+    @NotEmpty(message = "변경할 주문 id 를 입력해주세요.")
+    @Size(max = 100, message = "한 번에 변경할 수 있는 주문은 100개 이하입니다.")
+    private List<@NotNull Long> orderIds;
+
+    @NotNull(message = "변경할 상태는 필수 값입니다.")
+    private OrderStatus newStatus;
+
+    public OrderBulkStatusRequestDto(List<Long> orderIds, OrderStatus newStatus) {
+        this.orderIds = orderIds;
+        this.newStatus = newStatus;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sparta.outsourcing.domain.order.dto;
+
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.order.service.OrderTransitionResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일괄 상태 변경 결과 - 요청한 주문 id 순서대로 주문별 결과
+@Getter
+@AllArgsConstructor
+public class OrderBulkStatusResponseDto {
+    private OrderStatus newStatus;
+    private int appliedCount;
+    private List<Result> results;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private Long orderId;
+        private OrderTransitionResult.Outcome outcome;
+        // 변경하지 못한 경우 현재 상태 (주문이 없으면 null)
+        private OrderStatus currentStatus;
+        private String message;
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.outsourcing.domain.order.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderItemRequestDto {
+
+    @NotNull(message = "메뉴 id는 필수 값입니다.")
+    private Long menuId;
+
+    @Min(value = 1, message = "수량은 1개 이상이어야 합니다.")
+    @Max(value = 99, message = "수량은 99개 이하여야 합니다.")
+    private int quantity;
+}
@@ -0,0 +1,19 @@
+package com.sparta.outsourcing.domain.order.dto;
+
+import com.sparta.outsourcing.domain.order.entity.OrderItem;
+import lombok.Getter;
+
+@Getter
+public class OrderItemResponseDto {
+    private Long menuId;
+    private String menuName;
+    private double menuPrice;
+    private int quantity;
+
+    public OrderItemResponseDto(OrderItem item) {
+        this.menuId = item.getMenuId();
+        this.menuName = item.getMenuName();
+        this.menuPrice = item.getMenuPrice();
+        this.quantity = item.getQuantity();
+    }
+}
@@ -0,0 +1,39 @@
+package com.sparta.outsourcing.domain.order.dto;
+
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.global.pagination.KeysetCursor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class OrderPageRequestDto {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private OrderStatus status;   // 주문 상태 필터 (선택)
+    private LocalDateTime from;   // 주문 시각 하한, 포함 (선택)
+    private LocalDateTime to;     // 주문 시각 상한, 미포함 (선택)
+    private String cursor;        // 이전 페이지의 nextCursor, 없으면 첫 페이지
+    private Integer size;
+
+    public static OrderPageRequestDto firstPage() {
+        return OrderPageRequestDto.builder().build();
+    }
+
+    public int getPageSize() {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1부터 " + MAX_SIZE + "까지 가능합니다.");
+        }
+        return size;
+    }
+
+    public KeysetCursor getKeysetCursor() {
+        return KeysetCursor.decode(cursor);
+    }
+}
@@ -1,10 +1,14 @@
 package com.sparta.outsourcing.domain.order.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @Builder
 public class OrderRequestDto {
@@ -12,11 +16,29 @@ public class OrderRequestDto {
     private Long shopId;
     private Long menuId;
 
+    // 여러 메뉴를 한 번에 주문할 때 사용 - 비어 있으면 menuId 1개를 주문
+    @Valid
+    @Size(max = 50, message = "한 번에 주문할 수 있는 항목은 50개 이하입니다.")
+    private List<OrderItemRequestDto> items;
+
     @NotNull(message = "주소는 필수 값입니다.")
     @NotBlank(message = "주소는 공백일 수 없습니다.")
+    @Size(max = 255, message = "주소는 255자 이하입니다.")
     private String address;
 
     @NotNull(message = "전화번호는 필수 값입니다.")
     @NotBlank(message = "전화번호는 공백일 수 없습니다.")
+    @Size(max = 255, message = "전화번호는 255자 이하입니다.")
     private String phoneNumber;
+
+    // 주문 항목 목록 - 단건 주문(menuId)도 수량 1인 항목으로 변환
+    public List<OrderItemRequestDto> getOrderLines() {
+        if (items == null || items.isEmpty()) {
+            if (menuId == null) {
+                throw new IllegalArgumentException("주문할 메뉴를 선택해주세요.");
+            }
+            return List.of(new OrderItemRequestDto(menuId, 1));
+        }
+        return items;
+    }
 }
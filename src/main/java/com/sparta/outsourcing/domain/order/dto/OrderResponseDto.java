@@ -1,10 +1,12 @@
 package com.sparta.outsourcing.domain.order.dto;
 
 import com.sparta.outsourcing.domain.order.entity.Order;
+import com.sparta.outsourcing.domain.order.entity.OrderItem;
 import com.sparta.outsourcing.domain.order.entity.OrderStatus;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 public class OrderResponseDto {
@@ -13,20 +15,48 @@ public class OrderResponseDto {
     private Long menuId;
     private String menuName;
     private double menuPrice;
+    private double totalPrice;
+    // 주문 생성 응답에만 포함 (목록 조회에서는 null)
+    private List<OrderItemResponseDto> items;
     private String address;
     private String phoneNumber;
     private OrderStatus orderStatus;
     private LocalDateTime orderTime;
 
+    // JPQL 생성자 표현식용 - 엔티티를 거치지 않고 필요한 컬럼만 조회
+    public OrderResponseDto(Long orderId, Long shopId, Long menuId, String menuName, double menuPrice, Double totalPrice,
+                            String address, String phoneNumber, OrderStatus orderStatus, LocalDateTime orderTime) {
+        this.orderId = orderId;
+        this.shopId = shopId;
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.menuPrice = menuPrice;
+        this.totalPrice = totalPrice != null ? totalPrice : menuPrice;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.orderStatus = orderStatus;
+        this.orderTime = orderTime;
+    }
+
     public OrderResponseDto(Order order) {
         this.orderId = order.getId();
         this.shopId = order.getShop().getId();
         this.menuId = order.getMenu().getId();
         this.menuName = order.getMenuName();  // 저장된 메뉴 이름 사용
         this.menuPrice = order.getMenuPrice();  // 저장된 메뉴 가격 사용
+        this.totalPrice = order.getTotalPrice();
+        this.items = order.getItems().stream().map(OrderItemResponseDto::new).toList();
         this.address = order.getAddress();
         this.phoneNumber = order.getPhoneNumber();
         this.orderStatus = order.getOrderStatus();
         this.orderTime = order.getCreatedAt();
     }
+
+    // 배치 저장 경로용 - 커밋된 주문 id 와 항목으로 응답 생성
+    public OrderResponseDto(Long orderId, Long shopId, List<OrderItem> items, double totalPrice,
+                            String address, String phoneNumber, LocalDateTime orderTime) {
+        this(orderId, shopId, items.get(0).getMenuId(), items.get(0).getMenuName(), items.get(0).getMenuPrice(),
+                totalPrice, address, phoneNumber, OrderStatus.PENDING, orderTime);
+        this.items = items.stream().map(OrderItemResponseDto::new).toList();
+    }
 }
@@ -0,0 +1,14 @@
+package com.sparta.outsourcing.domain.order.dto;
+
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 상태 변경용 - 주문 id, 주문 유저 id 와 현재 상태만 조회
+@Getter
+@AllArgsConstructor
+public class OrderStatusRow {
+    private Long orderId;
+    private Long userId;
+    private OrderStatus orderStatus;
+}
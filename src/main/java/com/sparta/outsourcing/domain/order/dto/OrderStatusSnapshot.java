@@ -0,0 +1,15 @@
+package com.sparta.outsourcing.domain.order.dto;
+
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 상태 전환 실패 원인 확인 / 주문 이벤트 대상 확인용 - 주문의 현재 상태와 가게, 사장, 주문 유저 id 만 조회
+@Getter
+@AllArgsConstructor
+public class OrderStatusSnapshot {
+    private OrderStatus orderStatus;
+    private Long ownerId;
+    private Long shopId;
+    private Long userId;
+}
@@ -0,0 +1,60 @@
+package com.sparta.outsourcing.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 보관 주문 - 보관 기간이 지난 완료 / 취소 주문을 orders 에서 옮겨 둔 읽기 전용 사본 (id, 시각은 원본 그대로)
+// 가게 / 메뉴는 FK 없이 id 만 보관, 행은 OrderArchiver 가 INSERT ... SELECT 로만 추가
+@Entity
+@Getter
+@Table(name = "orders_archive", indexes = {
+        @Index(name = "idx_orders_archive_shop_created", columnList = "shop_id, created_at, id"),
+        @Index(name = "idx_orders_archive_user_created", columnList = "user_id, created_at, id"),
+        // 매출 집계 재구성 시 기간 내 완료 주문 조회
+        @Index(name = "idx_orders_archive_status_modified", columnList = "order_status, modified_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrder {
+
+    @Id
+    private Long id;
+
+    private Long userId;
+
+    @Column(name = "shop_id", nullable = false)
+    private Long shopId;
+
+    @Column(name = "menu_id", nullable = false)
+    private Long menuId;
+
+    private String address;
+    private String phoneNumber;
+
+    @Column(nullable = false)
+    private String menuName;
+
+    @Column(nullable = false)
+    private double menuPrice;
+
+    private Double totalPrice;
+
+    @ElementCollection
+    @CollectionTable(name = "order_items_archive", joinColumns = @JoinColumn(name = "order_id"))
+    @OrderColumn(name = "line_no")
+    private List<OrderItem> items = new ArrayList<>();
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -8,9 +8,17 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Entity
 @Getter
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_shop_created", columnList = "shop_id, created_at, id"),
+        @Index(name = "idx_orders_user_created", columnList = "user_id, created_at, id"),
+        // 매출 집계 재구성 시 기간 내 완료 주문 조회
+        @Index(name = "idx_orders_status_modified", columnList = "order_status, modified_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends Timestamped {
 
@@ -37,6 +45,15 @@ public class Order extends Timestamped {
     @Column(nullable = false)
     private double menuPrice;  //주문 당시 메뉴 가격 저장
 
+    // 주문 항목 합계 - 항목 도입 이전 주문은 null (menuPrice 가 합계)
+    private Double totalPrice;
+
+    // 주문 항목 - 주문과 함께 order_items 에 배치로 INSERT
+    @ElementCollection
+    @CollectionTable(name = "order_items", joinColumns = @JoinColumn(name = "order_id"))
+    @OrderColumn(name = "line_no")
+    private List<OrderItem> items = new ArrayList<>();
+
     @Enumerated(EnumType.STRING)
     private OrderStatus orderStatus = OrderStatus.PENDING;
 
@@ -50,6 +67,23 @@ public class Order extends Timestamped {
         this.menuPrice = menu.getPrice().doubleValue();  // 주문 당시 메뉴 가격 저장
     }
 
+    // 캐시된 메뉴 스냅샷으로 주문 생성 - shop / menu 는 프록시 참조만 사용, menu 는 첫 번째 항목의 메뉴
+    public Order(Long userId, Shop shop, Menu menu, List<OrderItem> items, String address, String phoneNumber) {
+        this.userId = userId;
+        this.shop = shop;
+        this.menu = menu;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.menuName = items.get(0).getMenuName();
+        this.menuPrice = items.get(0).getMenuPrice();
+        this.items.addAll(items);
+        this.totalPrice = items.stream().mapToDouble(OrderItem::getLinePrice).sum();
+    }
+
+    public double getTotalPrice() {
+        return totalPrice != null ? totalPrice : menuPrice;
+    }
+
     public void changeOrderStatus(OrderStatus newStatus) {
         this.orderStatus = newStatus;
     }
@@ -0,0 +1,37 @@
+package com.sparta.outsourcing.domain.order.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 주문 항목 - 주문 당시 메뉴 이름 / 가격과 수량을 저장
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderItem {
+
+    @Column(name = "menu_id", nullable = false)
+    private Long menuId;
+
+    @Column(name = "menu_name", nullable = false)
+    private String menuName;
+
+    @Column(name = "menu_price", nullable = false)
+    private double menuPrice;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    public OrderItem(Long menuId, String menuName, double menuPrice, int quantity) {
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.menuPrice = menuPrice;
+        this.quantity = quantity;
+    }
+
+    public double getLinePrice() {
+        return menuPrice * quantity;
+    }
+}
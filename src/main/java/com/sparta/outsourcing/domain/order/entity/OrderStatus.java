@@ -1,9 +1,52 @@
 package com.sparta.outsourcing.domain.order.entity;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
     PENDING,       // 주문 대기
     ACCEPTED,      // 주문 수락됨
     IN_PROGRESS,   // 진행 중
     COMPLETED,     // 완료됨
-    CANCELED       // 취소됨
+    CANCELED;      // 취소됨
+
+    // 허용된 상태 전환 표 (현재 상태 -> 변경 가능한 상태)
+    // 대기 -> 수락, 수락 -> 진행 중, 진행 중 -> 완료 (수락 이후 취소 불가), 완료 / 취소는 종료 상태
+    private static final Map<OrderStatus, Set<OrderStatus>> NEXT = new EnumMap<>(OrderStatus.class);
+    // 역방향 표 (변경 상태 -> 전환 가능한 현재 상태) - 조건부 UPDATE 의 WHERE 절에 사용
+    private static final Map<OrderStatus, Set<OrderStatus>> PREVIOUS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        for (OrderStatus status : values()) {
+            NEXT.put(status, EnumSet.noneOf(OrderStatus.class));
+            PREVIOUS.put(status, EnumSet.noneOf(OrderStatus.class));
+        }
+        allow(PENDING, ACCEPTED);
+        allow(ACCEPTED, IN_PROGRESS);
+        allow(IN_PROGRESS, COMPLETED);
+        NEXT.replaceAll((status, next) -> Collections.unmodifiableSet(next));
+        PREVIOUS.replaceAll((status, previous) -> Collections.unmodifiableSet(previous));
+    }
+
+    private static void allow(OrderStatus from, OrderStatus to) {
+        NEXT.get(from).add(to);
+        PREVIOUS.get(to).add(from);
+    }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return NEXT.get(this).contains(next);
+    }
+
+    // 이 상태로 전환할 수 있는 현재 상태 목록
+    public Set<OrderStatus> allowedPrevious() {
+        return PREVIOUS.get(this);
+    }
+
+    // 더 이상 상태를 변경할 수 없는 상태 (완료 / 취소)
+    public boolean isTerminal() {
+        return this == COMPLETED || this == CANCELED;
+    }
 }
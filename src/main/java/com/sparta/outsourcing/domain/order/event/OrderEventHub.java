@@ -0,0 +1,219 @@
+package com.sparta.outsourcing.domain.order.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 주문 상태 SSE 구독 관리 - 유저 id / 가게 id 별 구독자에게 커밋된 주문 이벤트 전송
+// 연결은 서블릿 비동기 요청으로 유지되므로 대기 중인 구독자는 요청 스레드를 점유하지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderEventHub {
+    static final String EVENT_NAME = "order-status";
+
+    private final ObjectMapper objectMapper;
+    private final OrderRepository orderRepository;
+
+    @Value("${spring.order.events.timeout-ms:1800000}")
+    private long timeoutMillis;
+    @Value("${spring.order.events.max-subscribers:10000}")
+    private int maxSubscribers;
+    @Value("${spring.order.events.sender.pool-size:2}")
+    private int senderPoolSize;
+    @Value("${spring.order.events.sender.queue-capacity:1000}")
+    private int senderQueueCapacity;
+
+    private final Map<Long, Set<SseEmitter>> userSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<SseEmitter>> shopSubscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter dropped = Counter.builder("orders.events.dropped")
+            .description("전송 대기열이 가득 차 버려진 주문 이벤트 수")
+            .register(Metrics.globalRegistry);
+    // 이벤트 전송 전용 스레드 - 커밋한 요청 스레드가 느린 구독자 전송을 기다리지 않도록 함
+    // 주문 id 로 스레드를 고정해 같은 주문의 이벤트 (ACCEPTED -> IN_PROGRESS 등) 는 발행 순서대로 전송
+    private final List<ThreadPoolExecutor> senders = new ArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        int queueCapacity = Math.max(1, senderQueueCapacity / senderPoolSize);
+        for (int i = 1; i <= senderPoolSize; i++) {
+            String threadName = "order-event-sender-" + i;
+            senders.add(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy()));
+        }
+        Gauge.builder("orders.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("주문 이벤트 SSE 구독자 수")
+                .register(Metrics.globalRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.forEach(ThreadPoolExecutor::shutdown);
+        userSubscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        shopSubscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    }
+
+    // 유저 본인의 주문 이벤트 구독
+    public SseEmitter subscribeUser(Long userId) {
+        return subscribe(userSubscribers, userId);
+    }
+
+    // 가게의 주문 이벤트 구독 (가게 소유 확인은 호출하는 쪽에서 수행)
+    public SseEmitter subscribeShop(Long shopId) {
+        return subscribe(shopSubscribers, shopId);
+    }
+
+    public boolean hasSubscribers() {
+        return subscriberCount.get() > 0;
+    }
+
+    // 커밋 이후 호출 - 구독자가 없으면 아무것도 하지 않고, 전송 대기열이 가득 차면 버림
+    public void publish(OrderStatusEvent event) {
+        if (isEmpty(userSubscribers.get(event.getUserId())) && isEmpty(shopSubscribers.get(event.getShopId()))) {
+            return;
+        }
+        execute(event.getOrderId(), () -> send(event));
+    }
+
+    // 상태 전환 커밋 이후 호출 - 주문 유저 / 가게 조회는 요청 스레드가 아닌 전송 스레드에서 수행
+    public void publishTransition(Long orderId, OrderStatus status, LocalDateTime occurredAt) {
+        if (!hasSubscribers()) {
+            return;
+        }
+        execute(orderId, () -> orderRepository.findStatusSnapshot(orderId).ifPresent(order ->
+                send(new OrderStatusEvent(orderId, order.getShopId(), order.getUserId(), status, occurredAt))));
+    }
+
+    // 프록시 / 로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송, 끊긴 연결은 여기서 정리
+    @Scheduled(fixedDelayString = "${spring.order.events.heartbeat-ms:30000}",
+            initialDelayString = "${spring.order.events.heartbeat-ms:30000}")
+    public void heartbeat() {
+        userSubscribers.forEach((userId, emitters) -> ping(userSubscribers, userId, emitters));
+        shopSubscribers.forEach((shopId, emitters) -> ping(shopSubscribers, shopId, emitters));
+    }
+
+    private void execute(Long orderId, Runnable task) {
+        try {
+            senders.get(Math.floorMod(orderId.hashCode(), senders.size())).execute(task);
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    private void send(OrderStatusEvent event) {
+        Set<SseEmitter> users = userSubscribers.get(event.getUserId());
+        Set<SseEmitter> shops = shopSubscribers.get(event.getShopId());
+        if (isEmpty(users) && isEmpty(shops)) {
+            return;
+        }
+        String data = toJson(event);
+        if (data == null) {
+            return;
+        }
+        sendAll(userSubscribers, event.getUserId(), users, data, event.getOrderId());
+        sendAll(shopSubscribers, event.getShopId(), shops, data, event.getOrderId());
+    }
+
+    private SseEmitter subscribe(Map<Long, Set<SseEmitter>> subscribers, Long key) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new RejectedExecutionException("주문 알림 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        SseEmitter emitter = createEmitter();
+        // 추가 / 제거를 키 단위로 원자적으로 수행 - 빈 집합을 지우는 사이 추가된 연결이 유실되지 않도록 함
+        subscribers.compute(key, (k, emitters) -> {
+            Set<SseEmitter> result = emitters == null ? ConcurrentHashMap.newKeySet() : emitters;
+            result.add(emitter);
+            return result;
+        });
+        Runnable remove = () -> remove(subscribers, key, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        return emitter;
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void remove(Map<Long, Set<SseEmitter>> subscribers, Long key, SseEmitter emitter) {
+        subscribers.computeIfPresent(key, (k, emitters) -> {
+            if (emitters.remove(emitter)) {
+                subscriberCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private void sendAll(Map<Long, Set<SseEmitter>> subscribers, Long key, Set<SseEmitter> emitters, String data, Long orderId) {
+        if (isEmpty(emitters)) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).id(String.valueOf(orderId)).data(data));
+            } catch (IOException | IllegalStateException e) {
+                remove(subscribers, key, emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void ping(Map<Long, Set<SseEmitter>> subscribers, Long key, Set<SseEmitter> emitters) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException e) {
+                remove(subscribers, key, emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    // 구독자 수와 상관없이 이벤트당 한 번만 직렬화
+    private String toJson(OrderStatusEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("주문 이벤트 직렬화 실패 - 주문 ID: {}", event.getOrderId(), e);
+            return null;
+        }
+    }
+
+    private static boolean isEmpty(Set<SseEmitter> emitters) {
+        return emitters == null || emitters.isEmpty();
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.outsourcing.domain.order.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 주문 생성 / 상태 변경 알림 - 주문한 유저와 가게 구독자에게 전송
+@Getter
+@AllArgsConstructor
+public class OrderStatusEvent {
+    private Long orderId;
+    private Long shopId;
+    // 구독자 선택용 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private Long userId;
+    private OrderStatus orderStatus;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,292 @@
+package com.sparta.outsourcing.domain.order.export;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sparta.outsourcing.domain.order.archive.OrderArchiveHorizon;
+import com.sparta.outsourcing.domain.order.dto.OrderResponseDto;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.order.repository.ArchivedOrderRepository;
+import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+// 가게 주문 내보내기 - 읽기 전용 트랜잭션에서 forward-only 커서로 고정 크기씩 읽어 응답 스트림에 바로 기록
+// 한 번에 한 행만 메모리에 두므로 주문 수와 관계없이 메모리 사용량이 일정
+// 내보내는 동안 DB 커넥션을 점유하므로 동시 내보내기 수를 제한 (초과 시 429)
+@Slf4j
+@Component
+public class OrderExporter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String PERMIT_RELEASE_KEY = OrderExporter.class.getName() + ".PERMIT_RELEASE";
+    private static final String CSV_HEADER =
+            "orderId,shopId,menuId,menuName,menuPrice,totalPrice,address,phoneNumber,orderStatus,orderTime";
+
+    private static final Comparator<OrderResponseDto> ORDER_TIME = Comparator.comparing(OrderResponseDto::getOrderTime)
+            .thenComparing(OrderResponseDto::getOrderId);
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderArchiveHorizon orderArchiveHorizon;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    // 행마다 응답 스트림까지 flush 하지 않도록 함 - 버퍼가 찰 때와 finish 에서만 내보냄
+    private final ObjectWriter rowJsonWriter;
+    private final Semaphore permits;
+
+    public OrderExporter(OrderRepository orderRepository,
+                         ArchivedOrderRepository archivedOrderRepository,
+                         OrderArchiveHorizon orderArchiveHorizon,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper,
+                         @Value("${spring.order.export.max-concurrent:2}") int maxConcurrent) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.orderArchiveHorizon = orderArchiveHorizon;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 목록 조회용 필드 (items) 는 null 이므로 제외
+        this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.rowJsonWriter = this.objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    // 권한 / 형식 검증 이후 호출 - 자리가 없으면 응답을 시작하기 전에 거절
+    public StreamingResponseBody export(Long shopId, OrderExportFormat format, OrderStatus status,
+                                        LocalDateTime from, LocalDateTime to) {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("진행 중인 주문 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        AtomicBoolean held = new AtomicBoolean(true);
+        Runnable release = () -> {
+            if (held.compareAndSet(true, false)) {
+                permits.release();
+            }
+        };
+        releaseOnRequestCompletion(release);
+        return outputStream -> {
+            // 요청이 먼저 끝나 자리를 반환했으면 (비동기 타임아웃 등) 기록하지 않음
+            if (!held.get()) {
+                return;
+            }
+            try {
+                long startedAt = System.nanoTime();
+                long rows = write(outputStream, shopId, format, status, from, to);
+                log.info("주문 내보내기 완료 - shopId: {}, format: {}, {}건, {} ms", shopId, format, rows,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            } finally {
+                release.run();
+            }
+        };
+    }
+
+    // 본문이 실행되지 않고 요청이 끝나도 (비동기 작업 거절, 시작 전 타임아웃, 응답 생성 중 예외) 자리를 반환
+    // 비동기 처리가 시작됐으면 비동기 요청 종료 시점에, 시작 전에 끝났으면 요청 종료 시점에 반환
+    private void releaseOnRequestCompletion(Runnable release) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return;
+        }
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(servletAttributes.getRequest());
+        asyncManager.registerCallableInterceptor(PERMIT_RELEASE_KEY, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                release.run();
+            }
+        });
+        attributes.registerDestructionCallback(PERMIT_RELEASE_KEY, () -> {
+            if (!asyncManager.isConcurrentHandlingStarted()) {
+                release.run();
+            }
+        }, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    long write(OutputStream outputStream, Long shopId, OrderExportFormat format, OrderStatus status,
+               LocalDateTime from, LocalDateTime to) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        RowWriter rowWriter = format == OrderExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        Counter exported = Counter.builder("orders.export.rows")
+                .description("내보낸 주문 행 수")
+                .tag("format", format.name().toLowerCase())
+                .register(Metrics.globalRegistry);
+        Long rows = readOnlyTransaction.execute(transactionStatus -> {
+            long count = 0;
+            // 범위에 보관된 주문이 있을 수 있으면 두 커서를 함께 열어 주문 시각 순으로 병합
+            boolean withArchive = orderArchiveHorizon.mayContain(from);
+            try (Stream<OrderResponseDto> orders = orderRepository.streamShopOrders(shopId, status, from, to);
+                 Stream<OrderResponseDto> archived = withArchive
+                         ? archivedOrderRepository.streamShopOrders(shopId, status, from, to) : Stream.empty()) {
+                Iterator<OrderResponseDto> cursor = withArchive
+                        ? new MergingIterator(orders.iterator(), archived.iterator()) : orders.iterator();
+                while (cursor.hasNext()) {
+                    rowWriter.write(cursor.next());
+                    count++;
+                }
+                rowWriter.finish();
+            } catch (IOException e) {
+                // 클라이언트 연결 종료 등 - 커서를 닫고 트랜잭션 종료
+                throw new UncheckedIOException(e);
+            } finally {
+                exported.increment(count);
+            }
+            return count;
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    // 정렬된 두 커서를 주문 시각 오름차순으로 병합
+    private static final class MergingIterator implements Iterator<OrderResponseDto> {
+        private final Iterator<OrderResponseDto> left;
+        private final Iterator<OrderResponseDto> right;
+        private OrderResponseDto nextLeft;
+        private OrderResponseDto nextRight;
+
+        MergingIterator(Iterator<OrderResponseDto> left, Iterator<OrderResponseDto> right) {
+            this.left = left;
+            this.right = right;
+            this.nextLeft = left.hasNext() ? left.next() : null;
+            this.nextRight = right.hasNext() ? right.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLeft != null || nextRight != null;
+        }
+
+        @Override
+        public OrderResponseDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            OrderResponseDto next;
+            if (nextRight == null || (nextLeft != null && ORDER_TIME.compare(nextLeft, nextRight) <= 0)) {
+                next = nextLeft;
+                nextLeft = left.hasNext() ? left.next() : null;
+            } else {
+                next = nextRight;
+                nextRight = right.hasNext() ? right.next() : null;
+            }
+            return next;
+        }
+    }
+
+    private interface RowWriter {
+        void write(OrderResponseDto order) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    // RFC 4180 CSV - 엑셀에서 한글이 깨지지 않도록 BOM 으로 시작
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write('\uFEFF');
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(OrderResponseDto order) throws IOException {
+            writer.write(String.valueOf(order.getOrderId()));
+            writer.write(',');
+            writer.write(String.valueOf(order.getShopId()));
+            writer.write(',');
+            writer.write(String.valueOf(order.getMenuId()));
+            writer.write(',');
+            writeText(order.getMenuName());
+            writer.write(',');
+            writeAmount(order.getMenuPrice());
+            writer.write(',');
+            writeAmount(order.getTotalPrice());
+            writer.write(',');
+            writeText(order.getAddress());
+            writer.write(',');
+            writeText(order.getPhoneNumber());
+            writer.write(',');
+            writer.write(order.getOrderStatus() == null ? "" : order.getOrderStatus().name());
+            writer.write(',');
+            writer.write(order.getOrderTime() == null ? "" : order.getOrderTime().toString());
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        // 금액은 원 단위 정수로 기록 (20000.0 -> 20000)
+        private void writeAmount(double amount) throws IOException {
+            if (amount == Math.rint(amount)) {
+                writer.write(Long.toString((long) amount));
+            } else {
+                writer.write(Double.toString(amount));
+            }
+        }
+
+        // 사용자 입력 문자열 - 스프레드시트 수식으로 해석되지 않도록 '=', '+', '-', '@' 로 시작하면 ' 를 붙이고 필요 시 따옴표로 감쌈
+        private void writeText(String value) throws IOException {
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            String text = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+            boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    // 한 줄에 주문 하나 (JSON)
+    private final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+        }
+
+        @Override
+        public void write(OrderResponseDto order) throws IOException {
+            rowJsonWriter.writeValue(generator, order);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
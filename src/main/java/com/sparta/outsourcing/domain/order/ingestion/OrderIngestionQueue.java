@@ -0,0 +1,236 @@
+package com.sparta.outsourcing.domain.order.ingestion;
+
+import com.sparta.outsourcing.domain.order.entity.OrderItem;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 주문 write-behind 대기열 - 검증된 주문을 모아 writer 스레드가 JDBC 배치 INSERT 로 저장
+// IDENTITY 키는 배치 실행 후 getGeneratedKeys 로 받아 커밋 이후 호출자에게 전달
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderIngestionQueue {
+    private static final String INSERT_SQL = "INSERT INTO orders "
+            + "(user_id, shop_id, menu_id, menu_name, menu_price, total_price, address, phone_number, order_status, created_at, modified_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ITEM_SQL = "INSERT INTO order_items "
+            + "(order_id, line_no, menu_id, menu_name, menu_price, quantity) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // sync: 요청마다 JPA 로 저장, batched: 대기열에 넣고 배치로 저장
+    @Value("${spring.order.ingestion.mode:sync}")
+    private String mode;
+    @Value("${spring.order.ingestion.batch-size:200}")
+    private int batchSize;
+    @Value("${spring.order.ingestion.queue-capacity:5000}")
+    private int queueCapacity;
+    // 호출자가 배치 커밋을 기다리는 최대 시간
+    @Value("${spring.order.ingestion.await-timeout-ms:10000}")
+    private long awaitTimeoutMillis;
+
+    private BlockingQueue<PendingOrder> queue;
+    private Thread writer;
+    private volatile boolean running;
+    // 접수 (running 확인 + offer) 와 종료 (running 변경) 를 원자적으로 - 종료 이후에는 대기열에 새 주문이 들어오지 않음
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    public void start() {
+        if (!isBatched()) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::drainLoop, "order-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("주문 배치 저장 모드 시작 - batch-size: {}, queue-capacity: {}", batchSize, queueCapacity);
+    }
+
+    // 남은 주문을 모두 저장한 뒤 종료, 제한 시간 안에 저장하지 못한 주문은 실패 처리
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        markStopped();
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        if (writer.isAlive()) {
+            writer.interrupt();
+        }
+        failRemaining();
+    }
+
+    public boolean isBatched() {
+        return "batched".equalsIgnoreCase(mode);
+    }
+
+    public long getAwaitTimeoutMillis() {
+        return awaitTimeoutMillis;
+    }
+
+    // 대기열이 가득 차거나 종료 중이면 즉시 거절 (429)
+    public PendingOrder submit(PendingOrder order) {
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running || !queue.offer(order)) {
+                throw new RejectedExecutionException("주문 접수 대기열이 가득 찼습니다.");
+            }
+            return order;
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        boolean interrupted = false;
+        try {
+            while (running) {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+            markStopped();
+        }
+        // 종료 - 대기 없이 남은 주문을 한 번만 저장하고 끝냄 (인터럽트 상태는 저장을 마친 뒤 복원)
+        batch.clear();
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void markStopped() {
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+    }
+
+    private void failRemaining() {
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (remaining.isEmpty()) {
+            return;
+        }
+        log.warn("종료 시 저장하지 못한 주문 {}건 실패 처리", remaining.size());
+        RejectedExecutionException cause = new RejectedExecutionException("주문 접수가 종료되었습니다.");
+        remaining.forEach(order -> order.fail(cause));
+    }
+
+    // 하나의 트랜잭션으로 주문 / 주문 항목을 배치 INSERT 후 커밋되면 각 주문에 id 전달
+    // 배치가 실패하면 주문마다 별도 트랜잭션으로 다시 저장 - 잘못된 주문 하나 때문에 나머지가 함께 실패하지 않도록
+    void flush(List<PendingOrder> batch) {
+        try {
+            insertAndComplete(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("주문 저장 실패", e);
+                batch.get(0).fail(e);
+                return;
+            }
+            log.warn("주문 배치 저장 실패 - {}건을 주문별로 다시 저장", batch.size(), e);
+            batch.forEach(order -> flush(List.of(order)));
+        } catch (Throwable e) {
+            // Error - 재시도하지 않음, writer 스레드는 계속 동작하고 대기 중인 호출자는 실패 응답을 받음
+            log.error("주문 배치 저장 실패 - {}건", batch.size(), e);
+            batch.forEach(order -> order.fail(e));
+        }
+    }
+
+    private void insertAndComplete(List<PendingOrder> batch) {
+        List<Long> ids = transactionTemplate.execute(status -> insertBatch(batch));
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).complete(ids.get(i));
+        }
+    }
+
+    private List<Long> insertBatch(List<PendingOrder> batch) {
+        List<Long> ids = insertOrders(batch);
+        insertItems(batch, ids);
+        return ids;
+    }
+
+    private List<Long> insertOrders(List<PendingOrder> batch) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (PendingOrder order : batch) {
+                    OrderItem first = order.getFirstItem();
+                    Timestamp createdAt = Timestamp.valueOf(order.getCreatedAt());
+                    ps.setLong(1, order.getUserId());
+                    ps.setLong(2, order.getShopId());
+                    ps.setLong(3, first.getMenuId());
+                    ps.setString(4, first.getMenuName());
+                    ps.setDouble(5, first.getMenuPrice());
+                    ps.setDouble(6, order.getTotalPrice());
+                    ps.setString(7, order.getAddress());
+                    ps.setString(8, order.getPhoneNumber());
+                    ps.setString(9, OrderStatus.PENDING.name());
+                    ps.setTimestamp(10, createdAt);
+                    ps.setTimestamp(11, createdAt);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(batch.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != batch.size()) {
+                    throw new IllegalStateException("생성된 주문 id 수가 일치하지 않습니다.");
+                }
+                return ids;
+            }
+        });
+    }
+
+    private void insertItems(List<PendingOrder> batch, List<Long> ids) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            List<OrderItem> items = batch.get(i).getItems();
+            for (int line = 0; line < items.size(); line++) {
+                OrderItem item = items.get(line);
+                rows.add(new Object[]{ids.get(i), line, item.getMenuId(), item.getMenuName(), item.getMenuPrice(), item.getQuantity()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, rows);
+    }
+}
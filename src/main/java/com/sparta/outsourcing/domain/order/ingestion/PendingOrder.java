@@ -0,0 +1,47 @@
+package com.sparta.outsourcing.domain.order.ingestion;
+
+import com.sparta.outsourcing.domain.order.dto.OrderResponseDto;
+import com.sparta.outsourcing.domain.order.entity.OrderItem;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// 검증을 마치고 배치 저장을 기다리는 주문
+@Getter
+public class PendingOrder {
+    private final Long userId;
+    private final Long shopId;
+    private final List<OrderItem> items;
+    private final double totalPrice;
+    private final String address;
+    private final String phoneNumber;
+    private final LocalDateTime createdAt;
+    // 배치가 커밋되면 완료되는 응답
+    private final CompletableFuture<OrderResponseDto> result = new CompletableFuture<>();
+
+    public PendingOrder(Long userId, Long shopId, List<OrderItem> items, String address, String phoneNumber,
+                        LocalDateTime createdAt) {
+        this.userId = userId;
+        this.shopId = shopId;
+        this.items = List.copyOf(items);
+        this.totalPrice = items.stream().mapToDouble(OrderItem::getLinePrice).sum();
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.createdAt = createdAt;
+    }
+
+    // 대표 메뉴는 첫 번째 항목
+    public OrderItem getFirstItem() {
+        return items.get(0);
+    }
+
+    void complete(Long orderId) {
+        result.complete(new OrderResponseDto(orderId, shopId, items, totalPrice, address, phoneNumber, createdAt));
+    }
+
+    void fail(Throwable cause) {
+        result.completeExceptionally(cause);
+    }
+}
@@ -0,0 +1,103 @@
+package com.sparta.outsourcing.domain.order.repository;
+
+import com.sparta.outsourcing.domain.order.dto.OrderResponseDto;
+import com.sparta.outsourcing.domain.order.dto.OrderStatusSnapshot;
+import com.sparta.outsourcing.domain.order.entity.ArchivedOrder;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.sales.dto.SalesAggregateRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// 보관 주문 조회 - OrderRepository 의 목록 / 내보내기 / 매출 집계 쿼리와 같은 조건, 같은 DTO
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    String RESPONSE_PROJECTION = "new com.sparta.outsourcing.domain.order.dto.OrderResponseDto(" +
+            "a.id, a.shopId, a.menuId, a.menuName, a.menuPrice, a.totalPrice, a.address, a.phoneNumber, a.orderStatus, a.createdAt)";
+
+    // 보관된 주문 중 가장 늦은 주문 시각 - 이 시각 이후 범위의 조회는 보관 테이블을 볼 필요 없음
+    @Query("SELECT MAX(a.createdAt) FROM ArchivedOrder a")
+    Optional<LocalDateTime> findLatestCreatedAt();
+
+    @Query("SELECT " + RESPONSE_PROJECTION + " FROM ArchivedOrder a " +
+            "WHERE a.shopId = :shopId " +
+            "AND (:status IS NULL OR a.orderStatus = :status) " +
+            "AND (:from IS NULL OR a.createdAt >= :from) " +
+            "AND (:to IS NULL OR a.createdAt < :to) " +
+            "AND (:cursorTime IS NULL OR a.createdAt < :cursorTime " +
+            "     OR (a.createdAt = :cursorTime AND a.id < :cursorId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<OrderResponseDto> findShopOrderPage(@Param("shopId") Long shopId,
+                                             @Param("status") OrderStatus status,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("cursorTime") LocalDateTime cursorTime,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    @Query("SELECT " + RESPONSE_PROJECTION + " FROM ArchivedOrder a " +
+            "WHERE a.userId = :userId " +
+            "AND (:status IS NULL OR a.orderStatus = :status) " +
+            "AND (:from IS NULL OR a.createdAt >= :from) " +
+            "AND (:to IS NULL OR a.createdAt < :to) " +
+            "AND (:cursorTime IS NULL OR a.createdAt < :cursorTime " +
+            "     OR (a.createdAt = :cursorTime AND a.id < :cursorId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<OrderResponseDto> findUserOrderPage(@Param("userId") Long userId,
+                                             @Param("status") OrderStatus status,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("cursorTime") LocalDateTime cursorTime,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = OrderRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT " + RESPONSE_PROJECTION + " FROM ArchivedOrder a " +
+            "WHERE a.shopId = :shopId " +
+            "AND (:status IS NULL OR a.orderStatus = :status) " +
+            "AND (:from IS NULL OR a.createdAt >= :from) " +
+            "AND (:to IS NULL OR a.createdAt < :to) " +
+            "ORDER BY a.createdAt, a.id")
+    Stream<OrderResponseDto> streamShopOrders(@Param("shopId") Long shopId,
+                                              @Param("status") OrderStatus status,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+
+    // 상태 전환 실패 원인 확인 - 보관된 주문은 종료 상태
+    @Query("SELECT new com.sparta.outsourcing.domain.order.dto.OrderStatusSnapshot(a.orderStatus, s.owner.id, s.id, a.userId) " +
+            "FROM ArchivedOrder a JOIN Shop s ON s.id = a.shopId WHERE a.id = :orderId")
+    Optional<OrderStatusSnapshot> findStatusSnapshot(@Param("orderId") Long orderId);
+
+    // 매출 집계 재구성 - OrderRepository.aggregateShopSales 와 같은 집계
+    @Query("SELECT new com.sparta.outsourcing.domain.sales.dto.SalesAggregateRow(a.shopId, CAST(a.modifiedAt AS LocalDate), " +
+            "EXTRACT(HOUR FROM a.modifiedAt), COUNT(a), SUM(COALESCE(a.totalPrice, a.menuPrice))) " +
+            "FROM ArchivedOrder a WHERE a.orderStatus = com.sparta.outsourcing.domain.order.entity.OrderStatus.COMPLETED " +
+            "AND a.modifiedAt >= :from AND a.modifiedAt < :to " +
+            "GROUP BY a.shopId, CAST(a.modifiedAt AS LocalDate), EXTRACT(HOUR FROM a.modifiedAt)")
+    List<SalesAggregateRow> aggregateShopSales(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 매출 집계 재구성 - OrderRepository.aggregateMenuSales 와 같은 집계
+    @Query("SELECT new com.sparta.outsourcing.domain.sales.dto.SalesAggregateRow(a.shopId, COALESCE(i.menuId, a.menuId), " +
+            "CAST(a.modifiedAt AS LocalDate), EXTRACT(HOUR FROM a.modifiedAt), COUNT(DISTINCT a.id), " +
+            "SUM(COALESCE(i.quantity, 1)), SUM(COALESCE(i.menuPrice * i.quantity, a.menuPrice))) " +
+            "FROM ArchivedOrder a LEFT JOIN a.items i " +
+            "WHERE a.orderStatus = com.sparta.outsourcing.domain.order.entity.OrderStatus.COMPLETED " +
+            "AND a.modifiedAt >= :from AND a.modifiedAt < :to " +
+            "GROUP BY a.shopId, COALESCE(i.menuId, a.menuId), CAST(a.modifiedAt AS LocalDate), EXTRACT(HOUR FROM a.modifiedAt)")
+    List<SalesAggregateRow> aggregateMenuSales(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT MIN(a.modifiedAt) FROM ArchivedOrder a WHERE a.orderStatus = com.sparta.outsourcing.domain.order.entity.OrderStatus.COMPLETED")
+    Optional<LocalDateTime> findFirstCompletedAt();
+}
@@ -1,14 +1,150 @@
 package com.sparta.outsourcing.domain.order.repository;
 
+import com.sparta.outsourcing.domain.order.dto.OrderResponseDto;
+import com.sparta.outsourcing.domain.order.dto.OrderStatusRow;
+import com.sparta.outsourcing.domain.order.dto.OrderStatusSnapshot;
 import com.sparta.outsourcing.domain.order.entity.Order;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.sales.dto.SalesAggregateRow;
+import com.sparta.outsourcing.domain.sales.dto.SalesLine;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    String EXPORT_FETCH_SIZE = "1000";
+
+    String RESPONSE_PROJECTION = "new com.sparta.outsourcing.domain.order.dto.OrderResponseDto(" +
+            "o.id, o.shop.id, o.menu.id, o.menuName, o.menuPrice, o.totalPrice, o.address, o.phoneNumber, o.orderStatus, o.createdAt)";
+
     List<Order> findByShopId(@Param("shopId") Long shopId);
 
     List<Order> findByUserId(Long userId);
+
+    // 가게 주문 내보내기 - forward-only 커서로 EXPORT_FETCH_SIZE 건씩 읽음 (MySQL 은 useCursorFetch=true 필요)
+    // DTO 조회라 영속성 컨텍스트에 엔티티가 쌓이지 않음 - 호출 측에서 트랜잭션 안에서 스트림을 닫아야 함
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT " + RESPONSE_PROJECTION + " FROM Order o " +
+            "WHERE o.shop.id = :shopId " +
+            "AND (:status IS NULL OR o.orderStatus = :status) " +
+            "AND (:from IS NULL OR o.createdAt >= :from) " +
+            "AND (:to IS NULL OR o.createdAt < :to) " +
+            "ORDER BY o.createdAt, o.id")
+    Stream<OrderResponseDto> streamShopOrders(@Param("shopId") Long shopId,
+                                              @Param("status") OrderStatus status,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+
+    // 가게 주문 keyset 페이지 조회 - (created_at, id) 내림차순, idx_orders_shop_created 사용
+    // 응답에 필요한 컬럼만 DTO 로 조회 (shop, menu 는 FK 값만 사용하므로 join / 추가 조회 없음)
+    @Query("SELECT " + RESPONSE_PROJECTION + " FROM Order o " +
+            "WHERE o.shop.id = :shopId " +
+            "AND (:status IS NULL OR o.orderStatus = :status) " +
+            "AND (:from IS NULL OR o.createdAt >= :from) " +
+            "AND (:to IS NULL OR o.createdAt < :to) " +
+            "AND (:cursorTime IS NULL OR o.createdAt < :cursorTime " +
+            "     OR (o.createdAt = :cursorTime AND o.id < :cursorId)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderResponseDto> findShopOrderPage(@Param("shopId") Long shopId,
+                                             @Param("status") OrderStatus status,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("cursorTime") LocalDateTime cursorTime,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    // 유저 주문 keyset 페이지 조회 - (created_at, id) 내림차순, idx_orders_user_created 사용
+    @Query("SELECT " + RESPONSE_PROJECTION + " FROM Order o " +
+            "WHERE o.userId = :userId " +
+            "AND (:status IS NULL OR o.orderStatus = :status) " +
+            "AND (:from IS NULL OR o.createdAt >= :from) " +
+            "AND (:to IS NULL OR o.createdAt < :to) " +
+            "AND (:cursorTime IS NULL OR o.createdAt < :cursorTime " +
+            "     OR (o.createdAt = :cursorTime AND o.id < :cursorId)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderResponseDto> findUserOrderPage(@Param("userId") Long userId,
+                                             @Param("status") OrderStatus status,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("cursorTime") LocalDateTime cursorTime,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    // 조건부 상태 전환 - 현재 상태가 허용된 이전 상태이고 요청자가 가게 사장일 때만 변경, 변경된 행 수 반환
+    // 동시에 같은 주문을 바꾸려는 요청 중 하나만 1 을 받음 (사전 SELECT 없음)
+    @Modifying
+    @Query("UPDATE Order o SET o.orderStatus = :newStatus, o.modifiedAt = :now " +
+            "WHERE o.id = :orderId AND o.orderStatus IN :allowedStatuses " +
+            "AND o.shop.id IN (SELECT s.id FROM Shop s WHERE s.owner.id = :ownerId)")
+    int transitionStatus(@Param("orderId") Long orderId,
+                         @Param("allowedStatuses") Collection<OrderStatus> allowedStatuses,
+                         @Param("newStatus") OrderStatus newStatus,
+                         @Param("ownerId") Long ownerId,
+                         @Param("now") LocalDateTime now);
+
+    // 상태 전환 실패 시 원인 확인 / 주문 이벤트 대상 확인용 조회
+    @Query("SELECT new com.sparta.outsourcing.domain.order.dto.OrderStatusSnapshot(o.orderStatus, s.owner.id, s.id, o.userId) " +
+            "FROM Order o JOIN o.shop s WHERE o.id = :orderId")
+    Optional<OrderStatusSnapshot> findStatusSnapshot(@Param("orderId") Long orderId);
+
+    // 일괄 상태 변경 대상 조회 - 가게의 주문만, id 순으로 행 잠금 (동시 일괄 변경 간 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.sparta.outsourcing.domain.order.dto.OrderStatusRow(o.id, o.userId, o.orderStatus) " +
+            "FROM Order o WHERE o.shop.id = :shopId AND o.id IN :orderIds ORDER BY o.id")
+    List<OrderStatusRow> findStatusRowsForUpdate(@Param("shopId") Long shopId,
+                                                 @Param("orderIds") Collection<Long> orderIds);
+
+    // 검증된 주문들을 UPDATE 1회로 변경
+    @Modifying
+    @Query("UPDATE Order o SET o.orderStatus = :newStatus, o.modifiedAt = :now " +
+            "WHERE o.id IN :orderIds AND o.orderStatus IN :allowedStatuses")
+    int bulkTransitionStatus(@Param("orderIds") Collection<Long> orderIds,
+                             @Param("allowedStatuses") Collection<OrderStatus> allowedStatuses,
+                             @Param("newStatus") OrderStatus newStatus,
+                             @Param("now") LocalDateTime now);
+
+    // 매출 집계용 완료 주문 항목 - 항목 도입 이전 주문은 대표 메뉴 / 주문 가격으로 1행
+    @Query("SELECT new com.sparta.outsourcing.domain.sales.dto.SalesLine(o.id, o.shop.id, COALESCE(i.menuId, o.menu.id), " +
+            "COALESCE(i.quantity, 1), COALESCE(i.menuPrice * i.quantity, o.menuPrice)) " +
+            "FROM Order o LEFT JOIN o.items i WHERE o.id IN :orderIds")
+    List<SalesLine> findSalesLines(@Param("orderIds") Collection<Long> orderIds);
+
+    // 매출 집계 재구성 - 기간 내 완료 주문을 가게 / 시간 단위로 집계 (완료 이후 주문은 변경되지 않으므로 modifiedAt 이 완료 시각)
+    @Query("SELECT new com.sparta.outsourcing.domain.sales.dto.SalesAggregateRow(o.shop.id, CAST(o.modifiedAt AS LocalDate), " +
+            "EXTRACT(HOUR FROM o.modifiedAt), COUNT(o), SUM(COALESCE(o.totalPrice, o.menuPrice))) " +
+            "FROM Order o WHERE o.orderStatus = com.sparta.outsourcing.domain.order.entity.OrderStatus.COMPLETED " +
+            "AND o.modifiedAt >= :from AND o.modifiedAt < :to " +
+            "GROUP BY o.shop.id, CAST(o.modifiedAt AS LocalDate), EXTRACT(HOUR FROM o.modifiedAt)")
+    List<SalesAggregateRow> aggregateShopSales(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 매출 집계 재구성 - 가게 / 메뉴 / 시간 단위
+    @Query("SELECT new com.sparta.outsourcing.domain.sales.dto.SalesAggregateRow(o.shop.id, COALESCE(i.menuId, o.menu.id), " +
+            "CAST(o.modifiedAt AS LocalDate), EXTRACT(HOUR FROM o.modifiedAt), COUNT(DISTINCT o.id), " +
+            "SUM(COALESCE(i.quantity, 1)), SUM(COALESCE(i.menuPrice * i.quantity, o.menuPrice))) " +
+            "FROM Order o LEFT JOIN o.items i " +
+            "WHERE o.orderStatus = com.sparta.outsourcing.domain.order.entity.OrderStatus.COMPLETED " +
+            "AND o.modifiedAt >= :from AND o.modifiedAt < :to " +
+            "GROUP BY o.shop.id, COALESCE(i.menuId, o.menu.id), CAST(o.modifiedAt AS LocalDate), EXTRACT(HOUR FROM o.modifiedAt)")
+    List<SalesAggregateRow> aggregateMenuSales(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 재구성 시작 시점 - 가장 오래된 완료 시각
+    @Query("SELECT MIN(o.modifiedAt) FROM Order o WHERE o.orderStatus = com.sparta.outsourcing.domain.order.entity.OrderStatus.COMPLETED")
+    Optional<LocalDateTime> findFirstCompletedAt();
 }
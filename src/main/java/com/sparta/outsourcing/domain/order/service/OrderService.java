@@ -1,125 +1,394 @@
 package com.sparta.outsourcing.domain.order.service;
 
-import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.menu.cache.MenuSnapshot;
+import com.sparta.outsourcing.domain.menu.cache.MenuSnapshotCache;
 import com.sparta.outsourcing.domain.menu.repository.MenuRepository;
+import com.sparta.outsourcing.domain.order.archive.OrderArchiveHorizon;
+import com.sparta.outsourcing.domain.order.dto.OrderBulkStatusRequestDto;
+import com.sparta.outsourcing.domain.order.dto.OrderBulkStatusResponseDto;
+import com.sparta.outsourcing.domain.order.dto.OrderItemRequestDto;
+import com.sparta.outsourcing.domain.order.dto.OrderPageRequestDto;
 import com.sparta.outsourcing.domain.order.dto.OrderRequestDto;
 import com.sparta.outsourcing.domain.order.dto.OrderResponseDto;
+import com.sparta.outsourcing.domain.order.dto.OrderStatusRow;
+import com.sparta.outsourcing.domain.order.dto.OrderStatusSnapshot;
 import com.sparta.outsourcing.domain.order.entity.Order;
+import com.sparta.outsourcing.domain.order.entity.OrderItem;
 import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.order.event.OrderEventHub;
+import com.sparta.outsourcing.domain.order.event.OrderStatusEvent;
+import com.sparta.outsourcing.domain.order.export.OrderExportFormat;
+import com.sparta.outsourcing.domain.order.export.OrderExporter;
+import com.sparta.outsourcing.domain.order.ingestion.OrderIngestionQueue;
+import com.sparta.outsourcing.domain.order.ingestion.PendingOrder;
+import com.sparta.outsourcing.domain.order.repository.ArchivedOrderRepository;
 import com.sparta.outsourcing.domain.order.repository.OrderRepository;
-import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.domain.sales.rollup.SalesRollupRecorder;
+import com.sparta.outsourcing.domain.shop.cache.ShopSnapshot;
+import com.sparta.outsourcing.domain.shop.cache.ShopSnapshotCache;
 import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
 import com.sparta.outsourcing.domain.user.dto.AuthUser;
 import com.sparta.outsourcing.domain.user.entity.UserRoleEnum;
+import com.sparta.outsourcing.global.datasource.ReadYourWritesTracker;
+import com.sparta.outsourcing.global.pagination.CursorPageResponseDto;
+import com.sparta.outsourcing.global.pagination.KeysetCursor;
+import com.sparta.outsourcing.global.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OrderService {
 
+    // 허용된 (현재 상태, 변경 상태) 별 전환 카운터 - 요청마다 태그로 meter 를 조회하지 않도록 미리 등록
+    private static final Map<OrderStatus, Map<OrderStatus, Counter>> TRANSITION_COUNTERS = transitionCounters();
+
     private final ShopRepository shopRepository;
     private final MenuRepository menuRepository;
     private final OrderRepository orderRepository;
+    private final ShopSnapshotCache shopSnapshotCache;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final OrderIngestionQueue orderIngestionQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderEventHub orderEventHub;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final SalesRollupRecorder salesRollupRecorder;
+    private final OrderExporter orderExporter;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderArchiveHorizon orderArchiveHorizon;
 
-    //주문생성
-    @Transactional
+    //주문생성 - 검증은 트랜잭션 밖에서 수행하고 저장 구간만 트랜잭션으로 묶음
     public OrderResponseDto createOrder(OrderRequestDto orderRequestDto, Long shopId, Long userId, AuthUser authUser) {
         if (authUser.getRole() == UserRoleEnum.OWNER) {
             throw new SecurityException("사장님 계정으로는 주문을 할 수 없습니다.");
         }
 
-        Shop shop = shopRepository.findById(shopId)
-                .orElseThrow(() -> new EntityNotFoundException("가게를 찾을 수 없습니다."));
+        // 가게 / 메뉴 검증은 캐시된 스냅샷으로 수행 (캐시 적중 시 SELECT 없음)
+        ShopSnapshot shop = shopSnapshotCache.get(shopId);
+
+        List<OrderItem> items = new ArrayList<>();
+        BigDecimal totalPrice = BigDecimal.ZERO;
+        for (OrderItemRequestDto line : orderRequestDto.getOrderLines()) {
+            MenuSnapshot menu = menuSnapshotCache.get(shopId, line.getMenuId());
+
+            if (menu.isDeleted()) {
+                throw new EntityNotFoundException("해당 가게에 메뉴가 존재하지 않습니다.");
+            }
 
-        Menu menu = menuRepository.findByShopIdAndId(shopId, orderRequestDto.getMenuId())
-                .orElseThrow(() -> new EntityNotFoundException("해당 가게에 메뉴가 존재하지 않습니다."));
+            if (menu.getPrice() == null || shop.getMinOrderAmount() == null) {
+                throw new IllegalStateException("메뉴 가격 또는 최소 주문 금액이 잘못 설정되었습니다.");
+            }
 
-        if (menu.getPrice() == null || shop.getMinOrderAmount() == null) {
-            throw new IllegalStateException("메뉴 가격 또는 최소 주문 금액이 잘못 설정되었습니다.");
+            items.add(new OrderItem(menu.getId(), menu.getMenuName(), menu.getPrice().doubleValue(), line.getQuantity()));
+            totalPrice = totalPrice.add(menu.getPrice().multiply(BigDecimal.valueOf(line.getQuantity())));
+        }
+
+        if (shop.isClosed()) {
+            throw new IllegalStateException("폐업한 가게입니다.");
         }
 
         if (!isShopOpen(shop)) {
             throw new IllegalStateException("가게의 영업 시간이 아닙니다.");
         }
 
-        if (menu.getPrice().compareTo(shop.getMinOrderAmount()) < 0) {
+        // 최소 주문 금액은 전체 항목 합계 기준
+        if (totalPrice.compareTo(shop.getMinOrderAmount()) < 0) {
             throw new IllegalStateException("최소 주문 금액을 만족하지 않습니다.");
         }
 
-        Order order = new Order(userId, shop, menu, orderRequestDto.getAddress(), orderRequestDto.getPhoneNumber());
-        orderRepository.save(order);
+        if (orderIngestionQueue.isBatched()) {
+            // 배치 커밋 이후에 반환되므로 바로 알림
+            OrderResponseDto response = awaitBatchedInsert(new PendingOrder(userId, shopId, items, orderRequestDto.getAddress(),
+                    orderRequestDto.getPhoneNumber(), LocalDateTime.now()));
+            readYourWritesTracker.markWrite(userId);
+            publishOrderEvent(response.getOrderId(), shopId, userId, OrderStatus.PENDING);
+            return response;
+        }
+
+        // 연관 엔티티는 프록시 참조로만 연결 - 주문 INSERT 1회 + 주문 항목 배치 INSERT
+        return transactionTemplate.execute(status -> {
+            Order order = new Order(userId,
+                    shopRepository.getReferenceById(shopId),
+                    menuRepository.getReferenceById(items.get(0).getMenuId()),
+                    items,
+                    orderRequestDto.getAddress(),
+                    orderRequestDto.getPhoneNumber());
+            orderRepository.save(order);
+            TransactionUtils.afterCommit(() -> {
+                // 복제 지연 동안 본인 주문 조회는 primary 로
+                readYourWritesTracker.markWrite(userId);
+                publishOrderEvent(order.getId(), shopId, userId, OrderStatus.PENDING);
+            });
+            return new OrderResponseDto(order);
+        });
+    }
 
-        return new OrderResponseDto(order);
+    // 배치 대기열에 넣고 해당 배치가 커밋될 때까지 대기 (대기 중에는 DB 커넥션을 점유하지 않음)
+    // 제한 시간이 지나면 실패 응답 - 배치가 늦게 커밋되면 주문은 저장될 수 있음
+    private OrderResponseDto awaitBatchedInsert(PendingOrder pendingOrder) {
+        try {
+            return orderIngestionQueue.submit(pendingOrder).getResult()
+                    .orTimeout(orderIngestionQueue.getAwaitTimeoutMillis(), TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                throw new IllegalStateException("주문 저장이 지연되고 있습니다. 주문 내역을 확인해주세요.", e.getCause());
+            }
+            throw e;
+        }
     }
 
-    //주문 조회(Owner)
+    //주문 조회(Owner) - 첫 페이지
     @Transactional(readOnly = true)
     public List<OrderResponseDto> getShopOrders(Long shopId, Long ownerId) {
-        Shop shop = shopRepository.findById(shopId)
-                .orElseThrow(() -> new EntityNotFoundException("가게를 찾을 수 없습니다."));
+        return getShopOrderPage(shopId, ownerId, OrderPageRequestDto.firstPage()).getContent();
+    }
+
+    //주문 조회(User) - 첫 페이지
+    @Transactional(readOnly = true)
+    public List<OrderResponseDto> getUserOrders(Long userId) {
+        return getUserOrderPage(userId, OrderPageRequestDto.firstPage()).getContent();
+    }
+
+    //주문 페이지 조회(Owner)
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<OrderResponseDto> getShopOrderPage(Long shopId, Long ownerId, OrderPageRequestDto pageRequest) {
+        ShopSnapshot shop = shopSnapshotCache.get(shopId);
 
-        if (!shop.getOwner().getId().equals(ownerId)) {
+        if (!shop.getOwnerId().equals(ownerId)) {
             throw new SecurityException("가게 소유자가 아닙니다.");
         }
-        return orderRepository.findByShopId(shopId)
-                .stream()
-                .map(OrderResponseDto::new)
-                .collect(Collectors.toList());
+
+        int size = pageRequest.getPageSize();
+        KeysetCursor cursor = pageRequest.getKeysetCursor();
+        List<OrderResponseDto> rows = orderRepository.findShopOrderPage(shopId,
+                pageRequest.getStatus(), pageRequest.getFrom(), pageRequest.getTo(),
+                cursor == null ? null : cursor.getTime(), cursor == null ? null : cursor.getId(),
+                PageRequest.of(0, size + 1));
+        rows = withArchivedOrders(rows, size + 1, pageRequest.getFrom(), () -> archivedOrderRepository.findShopOrderPage(shopId,
+                pageRequest.getStatus(), pageRequest.getFrom(), pageRequest.getTo(),
+                cursor == null ? null : cursor.getTime(), cursor == null ? null : cursor.getId(),
+                PageRequest.of(0, size + 1)));
+        return CursorPageResponseDto.of(rows, size, order -> new KeysetCursor(order.getOrderTime(), order.getOrderId()));
     }
 
-    //주문 조회(User)
+    //주문 페이지 조회(User)
     @Transactional(readOnly = true)
-    public List<OrderResponseDto> getUserOrders(Long userId) {
-        return orderRepository.findByUserId(userId)
-                .stream()
-                .map(OrderResponseDto::new)
-                .collect(Collectors.toList());
+    public CursorPageResponseDto<OrderResponseDto> getUserOrderPage(Long userId, OrderPageRequestDto pageRequest) {
+        int size = pageRequest.getPageSize();
+        KeysetCursor cursor = pageRequest.getKeysetCursor();
+        List<OrderResponseDto> rows = orderRepository.findUserOrderPage(userId,
+                pageRequest.getStatus(), pageRequest.getFrom(), pageRequest.getTo(),
+                cursor == null ? null : cursor.getTime(), cursor == null ? null : cursor.getId(),
+                PageRequest.of(0, size + 1));
+        rows = withArchivedOrders(rows, size + 1, pageRequest.getFrom(), () -> archivedOrderRepository.findUserOrderPage(userId,
+                pageRequest.getStatus(), pageRequest.getFrom(), pageRequest.getTo(),
+                cursor == null ? null : cursor.getTime(), cursor == null ? null : cursor.getId(),
+                PageRequest.of(0, size + 1)));
+        return CursorPageResponseDto.of(rows, size, order -> new KeysetCursor(order.getOrderTime(), order.getOrderId()));
     }
 
-    //주문 상태 변경
+    //주문 상태 변경 - 조건부 UPDATE 한 번으로 적용하고, 실패한 경우에만 원인을 조회해 기존 예외로 변환
     @Transactional
     public String updateOrderStatus(Long orderId, String newStatus, Long ownerId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
+        OrderStatus newOrderStatus = OrderStatus.valueOf(newStatus.toUpperCase());
+        OrderTransitionResult result = transitionOrderStatus(orderId, newOrderStatus, ownerId);
 
-        Shop shop = order.getShop();
-        if (!shop.getOwner().getId().equals(ownerId)) {
-            throw new SecurityException("해당 주문을 수정할 권한이 없습니다.");
+        switch (result.getOutcome()) {
+            case APPLIED:
+                return "주문 상태가 성공적으로 변경되었습니다.";
+            case NOT_FOUND:
+                throw new EntityNotFoundException("주문을 찾을 수 없습니다.");
+            case FORBIDDEN:
+                throw new SecurityException("해당 주문을 수정할 권한이 없습니다.");
+            case CONFLICT:
+                throw new IllegalStateException("다른 요청에 의해 주문 상태가 이미 변경되었습니다.");
+            default:
+                OrderStatus currentStatus = result.getCurrentStatus();
+                if (currentStatus.isTerminal()) {
+                    throw new IllegalStateException(getInvalidStatusTransitionMessage(currentStatus, newOrderStatus));
+                }
+                throw new IllegalArgumentException(getInvalidStatusTransitionMessage(currentStatus, newOrderStatus));
         }
+    }
 
-        // 현재 주문 상태를 가져오고, 새로 변경할 상태를 파라미터로 받음
-        OrderStatus currentStatus = order.getOrderStatus();
-        OrderStatus newOrderStatus = OrderStatus.valueOf(newStatus.toUpperCase());
+    // 상태 전환 적용 - 성공 시 UPDATE 1회, 실패 시 원인 확인용 조회 1회 추가
+    @Transactional
+    public OrderTransitionResult transitionOrderStatus(Long orderId, OrderStatus newStatus, Long ownerId) {
+        Set<OrderStatus> allowedPrevious = newStatus.allowedPrevious();
+        LocalDateTime now = LocalDateTime.now();
+        if (!allowedPrevious.isEmpty()
+                && orderRepository.transitionStatus(orderId, allowedPrevious, newStatus, ownerId, now) == 1) {
+            // 허용된 이전 상태가 하나뿐인 전환만 있으므로 이전 상태가 확정됨
+            OrderStatus previous = allowedPrevious.iterator().next();
+            TransactionUtils.afterCommit(() -> {
+                TRANSITION_COUNTERS.get(previous).get(newStatus).increment();
+                readYourWritesTracker.markWrite(ownerId);
+            });
+            if (newStatus == OrderStatus.COMPLETED) {
+                salesRollupRecorder.recordCompleted(List.of(orderId), now);
+            }
+            // 알림 대상 (주문 유저, 가게) 조회는 커밋 이후 전송 스레드에서 수행 - 전환 요청은 UPDATE 1회로 유지
+            TransactionUtils.afterCommit(() -> orderEventHub.publishTransition(orderId, newStatus, now));
+            return OrderTransitionResult.applied();
+        }
+
+        OrderStatusSnapshot snapshot = orderRepository.findStatusSnapshot(orderId)
+                .or(() -> archivedOrderRepository.findStatusSnapshot(orderId))
+                .orElse(null);
+        if (snapshot == null) {
+            return OrderTransitionResult.notFound();
+        }
+        if (!snapshot.getOwnerId().equals(ownerId)) {
+            return OrderTransitionResult.forbidden();
+        }
+        OrderStatus currentStatus = snapshot.getOrderStatus();
+        if (currentStatus == newStatus || currentStatus.canTransitionTo(newStatus)) {
+            // 이미 같은 상태로 바뀌었거나, UPDATE 이후 다른 요청이 상태를 바꾼 경우
+            return OrderTransitionResult.conflict(currentStatus);
+        }
+        return OrderTransitionResult.rejected(currentStatus);
+    }
+
+    //주문 일괄 상태 변경 - 가게 소유 확인 1회, 대상 주문 잠금 조회 1회, 허용된 주문만 UPDATE 1회
+    @Transactional
+    public OrderBulkStatusResponseDto bulkUpdateOrderStatus(Long shopId, Long ownerId, OrderBulkStatusRequestDto requestDto) {
+        ShopSnapshot shop = shopSnapshotCache.get(shopId);
+        if (!shop.getOwnerId().equals(ownerId)) {
+            throw new SecurityException("가게 소유자가 아닙니다.");
+        }
+
+        OrderStatus newStatus = requestDto.getNewStatus();
+        Set<Long> orderIds = new LinkedHashSet<>(requestDto.getOrderIds());
+        Map<Long, OrderStatusRow> rows = new HashMap<>();
+        for (OrderStatusRow row : orderRepository.findStatusRowsForUpdate(shopId, orderIds)) {
+            rows.put(row.getOrderId(), row);
+        }
+
+        List<Long> applicable = new ArrayList<>();
+        List<OrderBulkStatusResponseDto.Result> results = new ArrayList<>(orderIds.size());
+        for (Long orderId : orderIds) {
+            OrderStatusRow row = rows.get(orderId);
+            OrderStatus currentStatus = row == null ? null : row.getOrderStatus();
+            if (currentStatus == null) {
+                results.add(new OrderBulkStatusResponseDto.Result(orderId, OrderTransitionResult.Outcome.NOT_FOUND, null,
+                        "주문을 찾을 수 없습니다."));
+            } else if (!currentStatus.canTransitionTo(newStatus)) {
+                results.add(new OrderBulkStatusResponseDto.Result(orderId, OrderTransitionResult.Outcome.REJECTED, currentStatus,
+                        getInvalidStatusTransitionMessage(currentStatus, newStatus)));
+            } else {
+                applicable.add(orderId);
+                results.add(new OrderBulkStatusResponseDto.Result(orderId, OrderTransitionResult.Outcome.APPLIED, null, null));
+            }
+        }
+
+        if (!applicable.isEmpty()) {
+            // 잠금을 잡은 상태이므로 검증한 주문은 모두 변경됨
+            LocalDateTime now = LocalDateTime.now();
+            orderRepository.bulkTransitionStatus(applicable, newStatus.allowedPrevious(), newStatus, now);
+            if (newStatus == OrderStatus.COMPLETED) {
+                salesRollupRecorder.recordCompleted(applicable, now);
+            }
+            OrderStatus previous = newStatus.allowedPrevious().iterator().next();
+            int applied = applicable.size();
+            TransactionUtils.afterCommit(() -> {
+                TRANSITION_COUNTERS.get(previous).get(newStatus).increment(applied);
+                readYourWritesTracker.markWrite(ownerId);
+                for (Long orderId : applicable) {
+                    publishOrderEvent(orderId, shopId, rows.get(orderId).getUserId(), newStatus);
+                }
+            });
+        }
+        return new OrderBulkStatusResponseDto(newStatus, applicable.size(), results);
+    }
+
+    // 주문 이벤트 구독 (User) - 본인 주문의 생성 / 상태 변경 알림
+    public SseEmitter subscribeUserOrders(Long userId) {
+        return orderEventHub.subscribeUser(userId);
+    }
 
-        if (currentStatus == OrderStatus.COMPLETED) {
-            throw new IllegalStateException("이미 완료된 주문의 상태는 변경할 수 없습니다.");
-        } else if (currentStatus == OrderStatus.CANCELED) {
-            // 상태가 CANCELED일 경우 IllegalArgumentException 던짐
-            throw new IllegalStateException("취소된 주문의 상태는 변경할 수 없습니다.");
+    // 주문 이벤트 구독 (Owner) - 가게 주문의 생성 / 상태 변경 알림
+    public SseEmitter subscribeShopOrders(Long shopId, Long ownerId) {
+        ShopSnapshot shop = shopSnapshotCache.get(shopId);
+        if (!shop.getOwnerId().equals(ownerId)) {
+            throw new SecurityException("가게 소유자가 아닙니다.");
         }
+        return orderEventHub.subscribeShop(shopId);
+    }
 
-        // 상태 전환이 유효한지 확인
-        if (!isValidStatusTransition(currentStatus, newOrderStatus)) {
-            throw new IllegalArgumentException(getInvalidStatusTransitionMessage(currentStatus, newOrderStatus));
+    // 가게 주문 내보내기 (Owner) - 권한 / 기간 검증 후 응답 스트림에 바로 기록하는 본문 반환
+    public StreamingResponseBody exportShopOrders(Long shopId, Long ownerId, OrderExportFormat format,
+                                                  OrderStatus status, LocalDateTime from, LocalDateTime to) {
+        ShopSnapshot shop = shopSnapshotCache.get(shopId);
+        if (!shop.getOwnerId().equals(ownerId)) {
+            throw new SecurityException("가게 소유자가 아닙니다.");
         }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+        return orderExporter.export(shopId, format, status, from, to);
+    }
 
-        order.changeOrderStatus(newOrderStatus);
-        orderRepository.save(order);
+    // 페이지 범위에 보관된 주문이 있을 수 있으면 보관 테이블의 같은 페이지와 합쳐 (주문 시각, id) 내림차순으로 limit 건
+    // 최근 주문 페이지가 이미 limit 건이고 마지막 주문이 보관 경계 이후이면 보관 테이블은 조회하지 않음
+    private List<OrderResponseDto> withArchivedOrders(List<OrderResponseDto> rows, int limit, LocalDateTime from,
+                                                      Supplier<List<OrderResponseDto>> archivedPage) {
+        LocalDateTime horizon = orderArchiveHorizon.get();
+        if (horizon == null || (from != null && from.isAfter(horizon))) {
+            return rows;
+        }
+        if (rows.size() >= limit && rows.get(rows.size() - 1).getOrderTime().isAfter(horizon)) {
+            return rows;
+        }
+        List<OrderResponseDto> archived = archivedPage.get();
+        if (archived.isEmpty()) {
+            return rows;
+        }
+        List<OrderResponseDto> merged = new ArrayList<>(rows.size() + archived.size());
+        merged.addAll(rows);
+        merged.addAll(archived);
+        merged.sort(Comparator.comparing(OrderResponseDto::getOrderTime)
+                .thenComparing(OrderResponseDto::getOrderId)
+                .reversed());
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
 
-        return "주문 상태가 성공적으로 변경되었습니다.";
+    // 커밋 이후에만 호출
+    private void publishOrderEvent(Long orderId, Long shopId, Long userId, OrderStatus status) {
+        orderEventHub.publish(new OrderStatusEvent(orderId, shopId, userId, status, LocalDateTime.now()));
     }
 
     // 영업시간 확인 메서드
-    private boolean isShopOpen(Shop shop) {
+    private boolean isShopOpen(ShopSnapshot shop) {
         LocalTime now = LocalTime.now();
         LocalTime openTime = shop.getOpentime();
         LocalTime closeTime = shop.getClosetime();
@@ -132,6 +401,24 @@ public class OrderService {
         }
     }
 
+    private static Map<OrderStatus, Map<OrderStatus, Counter>> transitionCounters() {
+        Map<OrderStatus, Map<OrderStatus, Counter>> counters = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus from : OrderStatus.values()) {
+            Map<OrderStatus, Counter> byTarget = new EnumMap<>(OrderStatus.class);
+            for (OrderStatus to : OrderStatus.values()) {
+                if (from.canTransitionTo(to)) {
+                    byTarget.put(to, Counter.builder("orders.status.transitions")
+                            .description("주문 상태 전환 수")
+                            .tag("from", from.name())
+                            .tag("to", to.name())
+                            .register(Metrics.globalRegistry));
+                }
+            }
+            counters.put(from, byTarget);
+        }
+        return counters;
+    }
+
     private String getInvalidStatusTransitionMessage(OrderStatus currentStatus, OrderStatus newStatus) {
         switch (currentStatus) {
             case PENDING:
@@ -148,25 +435,4 @@ public class OrderService {
                 return "주문 상태를 이전 상태로 변경할 수 없습니다.";
         }
     }
-
-    // 상태 전환 유효 체크
-    private boolean isValidStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
-        // 완료 또는 취소된 주문은 상태 전환이 불가능함
-        if (currentStatus == OrderStatus.COMPLETED || currentStatus == OrderStatus.CANCELED) {
-            return false;
-        }
-        switch (currentStatus) {
-            case PENDING:
-                // 대기 중인 주문은 수락으로만 전환 가능
-                return newStatus == OrderStatus.ACCEPTED;
-            case ACCEPTED:
-                // 수락된 주문은 진행 중으로만 전환 가능 (취소 불가)
-                return newStatus == OrderStatus.IN_PROGRESS;
-            case IN_PROGRESS:
-                // 진행 중인 주문은 완료로만 전환 가능 (취소 불가)
-                return newStatus == OrderStatus.COMPLETED;
-            default:
-                throw new IllegalArgumentException("Unexpected OrderStatus: " + currentStatus);
-        }
-    }
 }
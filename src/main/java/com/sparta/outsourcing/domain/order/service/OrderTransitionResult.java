@@ -0,0 +1,52 @@
+package com.sparta.outsourcing.domain.order.service;
+
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 조건부 UPDATE 로 적용한 상태 전환 결과
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrderTransitionResult {
+
+    public enum Outcome {
+        APPLIED,     // 전환 적용
+        NOT_FOUND,   // 주문 없음
+        FORBIDDEN,   // 가게 사장이 아님
+        REJECTED,    // 현재 상태에서 허용되지 않는 전환
+        CONFLICT     // 다른 요청이 먼저 같은 상태로 변경함
+    }
+
+    private static final OrderTransitionResult APPLIED = new OrderTransitionResult(Outcome.APPLIED, null);
+    private static final OrderTransitionResult NOT_FOUND = new OrderTransitionResult(Outcome.NOT_FOUND, null);
+    private static final OrderTransitionResult FORBIDDEN = new OrderTransitionResult(Outcome.FORBIDDEN, null);
+
+    private final Outcome outcome;
+    // 실패 시 확인한 현재 상태 (APPLIED / NOT_FOUND / FORBIDDEN 은 null)
+    private final OrderStatus currentStatus;
+
+    static OrderTransitionResult applied() {
+        return APPLIED;
+    }
+
+    static OrderTransitionResult notFound() {
+        return NOT_FOUND;
+    }
+
+    static OrderTransitionResult forbidden() {
+        return FORBIDDEN;
+    }
+
+    static OrderTransitionResult rejected(OrderStatus currentStatus) {
+        return new OrderTransitionResult(Outcome.REJECTED, currentStatus);
+    }
+
+    static OrderTransitionResult conflict(OrderStatus currentStatus) {
+        return new OrderTransitionResult(Outcome.CONFLICT, currentStatus);
+    }
+
+    public boolean isApplied() {
+        return outcome == Outcome.APPLIED;
+    }
+}
@@ -1,17 +1,19 @@
 package com.sparta.outsourcing.domain.review.controller;
 
+import com.sparta.outsourcing.domain.review.dto.ReviewPageRequestDto;
 import com.sparta.outsourcing.domain.review.dto.ReviewRequestDto;
 import com.sparta.outsourcing.domain.review.dto.ReviewResponseDto;
+import com.sparta.outsourcing.domain.review.dto.ShopRatingSummaryResponseDto;
 import com.sparta.outsourcing.domain.review.service.ReviewService;
 import com.sparta.outsourcing.domain.user.dto.AuthUser;
 import com.sparta.outsourcing.global.annotation.Auth;
+import com.sparta.outsourcing.global.pagination.CursorPageResponseDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -43,11 +45,53 @@ class ReviewController {
     public ResponseEntity<Map<String, Object>> getShopReviews(@PathVariable Long shopId,
                                                               @RequestParam(value = "minRating", required = false) Integer minRating,
                                                               @RequestParam(value = "maxRating", required = false) Integer maxRating) {
-        List<ReviewResponseDto> reviews = reviewService.getShopReviews(shopId, minRating, maxRating);
+        CursorPageResponseDto<ReviewResponseDto> firstPage = reviewService.getShopReviews(shopId, minRating, maxRating);
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "리뷰 조회 성공");
-        response.put("data", reviews);
+        response.put("data", firstPage.getContent());
+        response.put("nextCursor", firstPage.getNextCursor()); // 다음 페이지는 /reviews/page?cursor= 로 조회
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 리뷰 페이지 조회 - nextCursor 로 다음 페이지 요청
+    @GetMapping("/shops/{shopId}/reviews/page")
+    public ResponseEntity<CursorPageResponseDto<ReviewResponseDto>> getShopReviewPage(
+            @PathVariable Long shopId,
+            @RequestParam(value = "minRating", required = false) Integer minRating,
+            @RequestParam(value = "maxRating", required = false) Integer maxRating,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        ReviewPageRequestDto pageRequest = ReviewPageRequestDto.builder()
+                .minRating(minRating)
+                .maxRating(maxRating)
+                .cursor(cursor)
+                .size(size)
+                .build();
+        return ResponseEntity.ok(reviewService.getShopReviewPage(shopId, pageRequest));
+    }
+
+    // 가게 별점 집계 조회 (리뷰 수, 평균 별점, 별점별 리뷰 수)
+    @GetMapping("/shops/{shopId}/reviews/summary")
+    public ResponseEntity<Map<String, Object>> getRatingSummary(@PathVariable Long shopId) {
+        ShopRatingSummaryResponseDto summary = reviewService.getRatingSummary(shopId);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "별점 집계 조회 성공");
+        response.put("data", summary);
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 가게 별점 집계 재구성 (사장님)
+    @PostMapping("/shops/{shopId}/reviews/summary/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRatingSummary(@PathVariable Long shopId, @Auth AuthUser authUser) {
+        ShopRatingSummaryResponseDto summary = reviewService.rebuildRatingSummary(shopId, authUser.getId());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "별점 집계 재구성 완료");
+        response.put("data", summary);
 
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,39 @@
+package com.sparta.outsourcing.domain.review.dto;
+
+import com.sparta.outsourcing.global.pagination.KeysetCursor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ReviewPageRequestDto {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private Integer minRating;    // 최소 별점, 없으면 1
+    private Integer maxRating;    // 최대 별점, 없으면 5
+    private String cursor;        // 이전 페이지의 nextCursor, 없으면 첫 페이지
+    private Integer size;
+
+    public int getMinRatingOrDefault() {
+        return minRating == null ? 1 : minRating;
+    }
+
+    public int getMaxRatingOrDefault() {
+        return maxRating == null ? 5 : maxRating;
+    }
+
+    public int getPageSize() {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1부터 " + MAX_SIZE + "까지 가능합니다.");
+        }
+        return size;
+    }
+
+    public KeysetCursor getKeysetCursor() {
+        return KeysetCursor.decode(cursor);
+    }
+}
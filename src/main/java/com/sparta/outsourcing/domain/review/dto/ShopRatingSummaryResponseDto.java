@@ -0,0 +1,26 @@
+package com.sparta.outsourcing.domain.review.dto;
+
+import com.sparta.outsourcing.domain.review.entity.ShopRatingSummary;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+public class ShopRatingSummaryResponseDto {
+    private Long shopId;
+    private long reviewCount;
+    private double averageRating;
+    // 별점(1~5)별 리뷰 수
+    private Map<Integer, Long> histogram;
+
+    public ShopRatingSummaryResponseDto(ShopRatingSummary summary) {
+        this.shopId = summary.getShopId();
+        this.reviewCount = summary.getReviewCount();
+        this.averageRating = Math.round(summary.getAverageRating() * 100) / 100.0;
+        this.histogram = new LinkedHashMap<>();
+        for (int rating = 1; rating <= 5; rating++) {
+            histogram.put(rating, summary.getCount(rating));
+        }
+    }
+}
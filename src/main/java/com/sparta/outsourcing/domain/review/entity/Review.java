@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_shop_time", columnList = "shop_id, review_time, id, rating")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Review extends Timestamped {
 
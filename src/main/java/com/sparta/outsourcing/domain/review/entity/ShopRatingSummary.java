@@ -0,0 +1,83 @@
+package com.sparta.outsourcing.domain.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 가게별 별점 집계 - 리뷰 작성 시 UPDATE 한 번으로 증가, reviews 테이블로부터 재구성 가능
+@Entity
+@Getter
+@Table(name = "shop_rating_summary")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShopRatingSummary {
+
+    @Id
+    @Column(name = "shop_id")
+    private Long shopId;
+
+    private long reviewCount;
+    private long ratingSum;
+
+    // 별점별 리뷰 수
+    private long rating1;
+    private long rating2;
+    private long rating3;
+    private long rating4;
+    private long rating5;
+
+    // JPQL 생성자 표현식용 - reviews 테이블 집계 결과로 생성
+    public ShopRatingSummary(Long shopId, Long reviewCount, Long ratingSum,
+                             Long rating1, Long rating2, Long rating3, Long rating4, Long rating5) {
+        this.shopId = shopId;
+        this.reviewCount = reviewCount;
+        this.ratingSum = ratingSum;
+        this.rating1 = rating1;
+        this.rating2 = rating2;
+        this.rating3 = rating3;
+        this.rating4 = rating4;
+        this.rating5 = rating5;
+    }
+
+    public static ShopRatingSummary empty(Long shopId) {
+        return new ShopRatingSummary(shopId, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    public double getAverageRating() {
+        return reviewCount == 0 ? 0 : (double) ratingSum / reviewCount;
+    }
+
+    public long getCount(int rating) {
+        return switch (rating) {
+            case 1 -> rating1;
+            case 2 -> rating2;
+            case 3 -> rating3;
+            case 4 -> rating4;
+            case 5 -> rating5;
+            default -> throw new IllegalArgumentException("별점은 1점부터 5점까지만 가능합니다.");
+        };
+    }
+
+    // 별점 범위 내 리뷰 수
+    public long countBetween(int minRating, int maxRating) {
+        long count = 0;
+        for (int rating = minRating; rating <= maxRating; rating++) {
+            count += getCount(rating);
+        }
+        return count;
+    }
+
+    // 재구성 시 기존 행을 집계 결과로 덮어씀
+    public void overwrite(ShopRatingSummary rebuilt) {
+        this.reviewCount = rebuilt.reviewCount;
+        this.ratingSum = rebuilt.ratingSum;
+        this.rating1 = rebuilt.rating1;
+        this.rating2 = rebuilt.rating2;
+        this.rating3 = rebuilt.rating3;
+        this.rating4 = rebuilt.rating4;
+        this.rating5 = rebuilt.rating5;
+    }
+}
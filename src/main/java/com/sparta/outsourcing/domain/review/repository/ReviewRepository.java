@@ -1,11 +1,31 @@
 package com.sparta.outsourcing.domain.review.repository;
 
+import com.sparta.outsourcing.domain.review.dto.ReviewResponseDto;
 import com.sparta.outsourcing.domain.review.entity.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     boolean existsByOrderId(Long orderId);
-    List<Review> findByShopIdAndRatingBetweenOrderByReviewTimeDesc(Long shopId, Integer minRating, Integer maxRating);
+
+    // 가게 리뷰 keyset 페이지 조회 - (review_time, id) 내림차순, idx_reviews_shop_time 사용
+    // 별점 조건은 인덱스에 포함된 rating 으로 거르므로 범위 필터가 있어도 정렬 없이 인덱스 순서대로 읽음
+    @Query("SELECT new com.sparta.outsourcing.domain.review.dto.ReviewResponseDto(" +
+            "r.id, r.userId, r.rating, r.reviewContent, r.reviewTime) FROM Review r " +
+            "WHERE r.shopId = :shopId " +
+            "AND r.rating BETWEEN :minRating AND :maxRating " +
+            "AND (:cursorTime IS NULL OR r.reviewTime < :cursorTime " +
+            "     OR (r.reviewTime = :cursorTime AND r.id < :cursorId)) " +
+            "ORDER BY r.reviewTime DESC, r.id DESC")
+    List<ReviewResponseDto> findShopReviewPage(@Param("shopId") Long shopId,
+                                               @Param("minRating") int minRating,
+                                               @Param("maxRating") int maxRating,
+                                               @Param("cursorTime") LocalDateTime cursorTime,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
 }
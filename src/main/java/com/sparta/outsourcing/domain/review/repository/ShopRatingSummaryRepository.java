@@ -0,0 +1,45 @@
+package com.sparta.outsourcing.domain.review.repository;
+
+import com.sparta.outsourcing.domain.review.entity.ShopRatingSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ShopRatingSummaryRepository extends JpaRepository<ShopRatingSummary, Long> {
+
+    // 리뷰 1건 반영 - 행 잠금 하나로 원자적으로 증가, 집계 행이 없으면 0 반환
+    @Modifying
+    @Query("UPDATE ShopRatingSummary s SET s.reviewCount = s.reviewCount + 1, s.ratingSum = s.ratingSum + :rating, " +
+            "s.rating1 = s.rating1 + CASE WHEN :rating = 1 THEN 1 ELSE 0 END, " +
+            "s.rating2 = s.rating2 + CASE WHEN :rating = 2 THEN 1 ELSE 0 END, " +
+            "s.rating3 = s.rating3 + CASE WHEN :rating = 3 THEN 1 ELSE 0 END, " +
+            "s.rating4 = s.rating4 + CASE WHEN :rating = 4 THEN 1 ELSE 0 END, " +
+            "s.rating5 = s.rating5 + CASE WHEN :rating = 5 THEN 1 ELSE 0 END " +
+            "WHERE s.shopId = :shopId")
+    int increment(@Param("shopId") Long shopId, @Param("rating") int rating);
+
+    // 집계 행 생성 - 같은 가게 행이 이미 있으면 중복 키로 실패 (DataIntegrityViolationException)
+    @Modifying
+    @Query(value = "INSERT INTO shop_rating_summary (shop_id, review_count, rating_sum, rating1, rating2, rating3, rating4, rating5) " +
+            "VALUES (:#{#summary.shopId}, :#{#summary.reviewCount}, :#{#summary.ratingSum}, :#{#summary.rating1}, " +
+            ":#{#summary.rating2}, :#{#summary.rating3}, :#{#summary.rating4}, :#{#summary.rating5})", nativeQuery = true)
+    int insert(@Param("summary") ShopRatingSummary summary);
+
+    // 재구성용 - 집계 행을 잠가 재구성 중 들어온 리뷰의 increment 가 재구성 커밋 뒤로 줄 서도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ShopRatingSummary s WHERE s.shopId = :shopId")
+    Optional<ShopRatingSummary> findByIdForUpdate(@Param("shopId") Long shopId);
+
+    // reviews 테이블로부터 집계 - 리뷰가 없으면 빈 값
+    @Query("SELECT new com.sparta.outsourcing.domain.review.entity.ShopRatingSummary(r.shopId, COUNT(r), SUM(r.rating), " +
+            "SUM(CASE WHEN r.rating = 1 THEN 1L ELSE 0L END), SUM(CASE WHEN r.rating = 2 THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN r.rating = 3 THEN 1L ELSE 0L END), SUM(CASE WHEN r.rating = 4 THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN r.rating = 5 THEN 1L ELSE 0L END)) " +
+            "FROM Review r WHERE r.shopId = :shopId GROUP BY r.shopId")
+    Optional<ShopRatingSummary> aggregateFromReviews(@Param("shopId") Long shopId);
+}
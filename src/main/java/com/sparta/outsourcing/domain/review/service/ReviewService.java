@@ -3,19 +3,27 @@ package com.sparta.outsourcing.domain.review.service;
 import com.sparta.outsourcing.domain.order.entity.Order;
 import com.sparta.outsourcing.domain.order.entity.OrderStatus;
 import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import com.sparta.outsourcing.domain.review.dto.ReviewPageRequestDto;
 import com.sparta.outsourcing.domain.review.dto.ReviewRequestDto;
 import com.sparta.outsourcing.domain.review.dto.ReviewResponseDto;
+import com.sparta.outsourcing.domain.review.dto.ShopRatingSummaryResponseDto;
 import com.sparta.outsourcing.domain.review.entity.Review;
+import com.sparta.outsourcing.domain.review.entity.ShopRatingSummary;
 import com.sparta.outsourcing.domain.review.repository.ReviewRepository;
+import com.sparta.outsourcing.domain.review.repository.ShopRatingSummaryRepository;
+import com.sparta.outsourcing.domain.shop.cache.ShopSnapshotCache;
 import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
+import com.sparta.outsourcing.global.pagination.CursorPageResponseDto;
+import com.sparta.outsourcing.global.pagination.KeysetCursor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 @Service
@@ -25,6 +33,9 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final OrderRepository orderRepository;
     private final ShopRepository shopRepository;
+    private final ShopRatingSummaryRepository shopRatingSummaryRepository;
+    private final ShopSnapshotCache shopSnapshotCache;
+    private final ShopRatingSummaryCreator shopRatingSummaryCreator;
 
     // 리뷰 생성
     @Transactional
@@ -44,6 +55,7 @@ public class ReviewService {
                 .build();
 
         reviewRepository.save(review);
+        applyToRatingSummary(review);
 
         return ReviewResponseDto.builder()
                 .reviewId(review.getId())
@@ -54,9 +66,9 @@ public class ReviewService {
                 .build();
     }
 
-    // 리뷰 조회
+    // 리뷰 조회 - 기존 계약 유지, 최신 리뷰 첫 페이지만 반환 (다음 페이지는 getShopReviewPage)
     @Transactional(readOnly = true)
-    public List<ReviewResponseDto> getShopReviews(Long shopId, Integer minRating, Integer maxRating) {
+    public CursorPageResponseDto<ReviewResponseDto> getShopReviews(Long shopId, Integer minRating, Integer maxRating) {
         // 기본값 처리: minRating이 없으면 1, maxRating이 없으면 5로 설정
         minRating = (minRating == null) ? 1 : minRating;
         maxRating = (maxRating == null) ? 5 : maxRating;
@@ -67,26 +79,92 @@ public class ReviewService {
         shopRepository.findById(shopId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 가게를 찾을 수 없습니다."));
 
-        List<Review> allReviews = reviewRepository.findByShopIdAndRatingBetweenOrderByReviewTimeDesc(shopId, 1, 5);
-        if (allReviews.isEmpty()) {
+        // 리뷰 존재 여부는 별점 집계로 확인 (리뷰 전체 조회 없음)
+        ShopRatingSummary summary = findRatingSummary(shopId);
+        if (summary.getReviewCount() == 0) {
             throw new IllegalArgumentException("해당 가게에 대한 리뷰가 존재하지 않습니다.");
         }
+        if (summary.countBetween(minRating, maxRating) == 0) {
+            throw new IllegalArgumentException("해당 범위 내 리뷰가 존재하지 않습니다.");
+        }
 
-        List<Review> reviews = reviewRepository.findByShopIdAndRatingBetweenOrderByReviewTimeDesc(shopId, minRating, maxRating);
+        return findShopReviewPage(shopId, minRating, maxRating, null, ReviewPageRequestDto.DEFAULT_SIZE);
+    }
 
-        if (reviews.isEmpty()) {
-            throw new IllegalArgumentException("해당 범위 내 리뷰가 존재하지 않습니다.");
+    // 리뷰 페이지 조회 - nextCursor 로 다음 페이지 요청, 리뷰가 없으면 빈 페이지
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ReviewResponseDto> getShopReviewPage(Long shopId, ReviewPageRequestDto pageRequest) {
+        int minRating = pageRequest.getMinRatingOrDefault();
+        int maxRating = pageRequest.getMaxRatingOrDefault();
+        validateRatingRange(minRating, maxRating);
+        int size = pageRequest.getPageSize();
+        KeysetCursor cursor = pageRequest.getKeysetCursor();
+
+        if (!shopRepository.existsById(shopId)) {
+            throw new EntityNotFoundException("해당 가게를 찾을 수 없습니다.");
         }
 
-        return reviews.stream()
-                .map(review -> ReviewResponseDto.builder()
-                        .reviewId(review.getId())
-                        .userId(review.getUserId())
-                        .rating(review.getRating())
-                        .reviewContent(review.getReviewContent())
-                        .reviewTime(review.getReviewTime())
-                        .build())
-                .collect(Collectors.toList());
+        return findShopReviewPage(shopId, minRating, maxRating, cursor, size);
+    }
+
+    // 가게 별점 집계 조회
+    @Transactional(readOnly = true)
+    public ShopRatingSummaryResponseDto getRatingSummary(Long shopId) {
+        shopRepository.findById(shopId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 가게를 찾을 수 없습니다."));
+
+        return new ShopRatingSummaryResponseDto(findRatingSummary(shopId));
+    }
+
+    // 가게 별점 집계를 reviews 테이블 기준으로 재구성 (가게 사장님만 가능)
+    // 재구성은 ShopRatingSummaryCreator 의 별도 트랜잭션에서 수행하므로 여기서는 트랜잭션을 열지 않음
+    public ShopRatingSummaryResponseDto rebuildRatingSummary(Long shopId, Long ownerId) {
+        if (!shopSnapshotCache.get(shopId).getOwnerId().equals(ownerId)) {
+            throw new SecurityException("가게 소유자가 아닙니다.");
+        }
+        return new ShopRatingSummaryResponseDto(rebuild(shopId));
+    }
+
+    // 새 리뷰를 집계에 반영 - 집계 행이 없으면(첫 리뷰 / 도입 이전 가게) 커밋된 리뷰로 행을 만든 뒤 다시 반영
+    private void applyToRatingSummary(Review review) {
+        if (shopRatingSummaryRepository.increment(review.getShopId(), review.getRating()) == 1) {
+            return;
+        }
+        createRatingSummary(review.getShopId());
+        shopRatingSummaryRepository.increment(review.getShopId(), review.getRating());
+    }
+
+    private ShopRatingSummary rebuild(Long shopId) {
+        try {
+            return shopRatingSummaryCreator.rebuild(shopId);
+        } catch (DataIntegrityViolationException e) {
+            // 집계 행이 없어 만드는 사이 다른 요청이 먼저 만든 경우 - 이제 있는 행을 잠그고 재구성
+            return shopRatingSummaryCreator.rebuild(shopId);
+        }
+    }
+
+    private void createRatingSummary(Long shopId) {
+        try {
+            shopRatingSummaryCreator.create(shopId);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 집계 행을 만든 경우 - 그 행을 그대로 사용
+        }
+    }
+
+    // 집계 행이 아직 없는 가게는 저장하지 않고 reviews 테이블에서 바로 집계
+    private ShopRatingSummary findRatingSummary(Long shopId) {
+        return shopRatingSummaryRepository.findById(shopId)
+                .or(() -> shopRatingSummaryRepository.aggregateFromReviews(shopId))
+                .orElseGet(() -> ShopRatingSummary.empty(shopId));
+    }
+
+    // size + 1 건을 조회해 다음 페이지 존재 여부 판단
+    private CursorPageResponseDto<ReviewResponseDto> findShopReviewPage(Long shopId, int minRating, int maxRating,
+                                                                        KeysetCursor cursor, int size) {
+        List<ReviewResponseDto> rows = reviewRepository.findShopReviewPage(shopId, minRating, maxRating,
+                cursor == null ? null : cursor.getTime(), cursor == null ? null : cursor.getId(),
+                PageRequest.of(0, size + 1));
+        return CursorPageResponseDto.of(rows, size, review -> new KeysetCursor(review.getReviewTime(), review.getReviewId()));
     }
 
     // 리뷰 생성 검증 로직
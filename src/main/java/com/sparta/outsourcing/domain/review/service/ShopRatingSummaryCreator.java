@@ -0,0 +1,40 @@
+package com.sparta.outsourcing.domain.review.service;
+
+import com.sparta.outsourcing.domain.review.entity.ShopRatingSummary;
+import com.sparta.outsourcing.domain.review.repository.ShopRatingSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 가게 별점 집계 행 생성 / 재구성 - 호출 측과 분리된 트랜잭션에서 커밋된 리뷰로 집계
+// 생성: 같은 가게의 첫 리뷰가 동시에 들어와 중복 키로 실패해도 이 트랜잭션만 롤백되고 리뷰 작성은 유지됨
+// 작성 중인 리뷰는 아직 커밋 전이라 포함되지 않으므로 호출 측에서 이어서 increment
+@Component
+@RequiredArgsConstructor
+public class ShopRatingSummaryCreator {
+
+    private final ShopRatingSummaryRepository shopRatingSummaryRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ShopRatingSummary create(Long shopId) {
+        ShopRatingSummary summary = shopRatingSummaryRepository.aggregateFromReviews(shopId)
+                .orElseGet(() -> ShopRatingSummary.empty(shopId));
+        shopRatingSummaryRepository.insert(summary);
+        return summary;
+    }
+
+    // 재구성: 집계 행을 먼저 잠근 뒤 집계 - 잠금 이전에 커밋된 리뷰는 집계에 포함되고,
+    // 이후 리뷰의 increment 는 잠금을 기다렸다가 재구성 결과 위에 더해짐 (새 트랜잭션이라 집계 시점의 읽기도 잠금 이후)
+    // 집계 행이 없으면 생성 (동시에 다른 요청이 만들면 중복 키로 실패)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ShopRatingSummary rebuild(Long shopId) {
+        ShopRatingSummary summary = shopRatingSummaryRepository.findByIdForUpdate(shopId).orElse(null);
+        if (summary == null) {
+            return create(shopId);
+        }
+        summary.overwrite(shopRatingSummaryRepository.aggregateFromReviews(shopId)
+                .orElseGet(() -> ShopRatingSummary.empty(shopId)));
+        return summary;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sparta.outsourcing.domain.sales.controller;
+
+import com.sparta.outsourcing.domain.sales.dto.ShopSalesResponseDto;
+import com.sparta.outsourcing.domain.sales.service.SalesService;
+import com.sparta.outsourcing.domain.user.dto.AuthUser;
+import com.sparta.outsourcing.global.annotation.Auth;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+class SalesController {
+
+    private final SalesService salesService;
+
+    // 가게 매출 조회 (사장님) - COMPLETED 주문 기준, from / to 는 ISO 날짜시간 (정시로 내림), interval 은 DAY(기본) 또는 HOUR
+    @GetMapping("/shops/{shopId}/sales")
+    public ResponseEntity<Map<String, Object>> getShopSales(
+            @PathVariable Long shopId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "interval", required = false) String interval,
+            @Auth AuthUser authUser) {
+        ShopSalesResponseDto sales = salesService.getShopSales(shopId, authUser.getId(), from, to, interval);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "매출 조회 성공");
+        response.put("data", sales);
+
+        return ResponseEntity.ok(response);
+    }
+}
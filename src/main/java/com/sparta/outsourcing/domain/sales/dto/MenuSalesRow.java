@@ -0,0 +1,14 @@
+package com.sparta.outsourcing.domain.sales.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 기간 내 메뉴별 합계
+@Getter
+@AllArgsConstructor
+public class MenuSalesRow {
+    private Long menuId;
+    private Long orderCount;
+    private Long quantity;
+    private Double revenue;
+}
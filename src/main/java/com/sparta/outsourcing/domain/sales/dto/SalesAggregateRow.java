@@ -0,0 +1,32 @@
+package com.sparta.outsourcing.domain.sales.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 재구성용 orders 테이블 시간 단위 집계 결과 - 가게별이면 menuId 는 null
+@Getter
+public class SalesAggregateRow {
+    private final Long shopId;
+    private final Long menuId;
+    private final LocalDateTime hour;
+    private final long orderCount;
+    private final long quantity;
+    private final double revenue;
+
+    // 가게별
+    public SalesAggregateRow(Long shopId, LocalDate day, Integer hour, Long orderCount, Double revenue) {
+        this(shopId, null, day, hour, orderCount, 0L, revenue);
+    }
+
+    // 메뉴별
+    public SalesAggregateRow(Long shopId, Long menuId, LocalDate day, Integer hour, Long orderCount, Long quantity, Double revenue) {
+        this.shopId = shopId;
+        this.menuId = menuId;
+        this.hour = day.atTime(hour, 0);
+        this.orderCount = orderCount;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,15 @@
+package com.sparta.outsourcing.domain.sales.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 완료된 주문의 매출 항목 - 주문 항목 1개 (항목 도입 이전 주문은 대표 메뉴 1개, 수량 1)
+@Getter
+@AllArgsConstructor
+public class SalesLine {
+    private Long orderId;
+    private Long shopId;
+    private Long menuId;
+    private int quantity;
+    private double revenue;
+}
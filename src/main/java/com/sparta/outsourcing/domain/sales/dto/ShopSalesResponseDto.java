@@ -0,0 +1,41 @@
+package com.sparta.outsourcing.domain.sales.dto;
+
+import com.sparta.outsourcing.domain.sales.entity.SalesGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ShopSalesResponseDto {
+    private Long shopId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private SalesGranularity interval;
+    private long orderCount;
+    private double revenue;
+    // 매출 순
+    private List<MenuSales> menus;
+    // 구간별 매출 (매출이 없는 구간은 생략)
+    private List<Point> series;
+
+    @Getter
+    @AllArgsConstructor
+    public static class MenuSales {
+        private Long menuId;
+        private String menuName;
+        private long orderCount;
+        private long quantity;
+        private double revenue;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDateTime bucketStart;
+        private long orderCount;
+        private double revenue;
+    }
+}
@@ -0,0 +1,52 @@
+package com.sparta.outsourcing.domain.sales.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 메뉴별 시간 / 일 단위 매출 집계 - 주문 항목 기준 (항목 도입 이전 주문은 대표 메뉴 1개)
+// 유니크 키가 (가게, 단위, 구간) 순이라 가게의 기간 조회도 같은 인덱스로 처리
+@Entity
+@Getter
+@Table(name = "menu_sales_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_menu_sales_rollup", columnNames = {"shop_id", "granularity", "bucket_start", "menu_id"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MenuSalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "shop_id", nullable = false)
+    private Long shopId;
+
+    @Column(name = "menu_id", nullable = false)
+    private Long menuId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private SalesGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    // 이 메뉴가 포함된 주문 수
+    private long orderCount;
+    private long quantity;
+    private double revenue;
+
+    public MenuSalesRollup(Long shopId, Long menuId, SalesGranularity granularity, LocalDateTime bucketStart,
+                           long orderCount, long quantity, double revenue) {
+        this.shopId = shopId;
+        this.menuId = menuId;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.orderCount = orderCount;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sparta.outsourcing.domain.sales.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 매출 집계 단위 - 시간 / 일
+public enum SalesGranularity {
+    HOUR,
+    DAY;
+
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return this == HOUR ? time.truncatedTo(ChronoUnit.HOURS) : time.truncatedTo(ChronoUnit.DAYS);
+    }
+
+    public static SalesGranularity from(String value) {
+        if (value == null) {
+            return DAY;
+        }
+        try {
+            return SalesGranularity.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("집계 단위는 HOUR 또는 DAY 만 가능합니다.");
+        }
+    }
+}
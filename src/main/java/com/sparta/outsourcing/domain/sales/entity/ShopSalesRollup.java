@@ -0,0 +1,45 @@
+package com.sparta.outsourcing.domain.sales.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 가게별 시간 / 일 단위 매출 집계 (COMPLETED 주문 기준, 완료 시각으로 구간 결정)
+// 완료 전환 시 누적분을 모아 UPDATE 로 증가, orders 테이블로부터 재구성 가능
+@Entity
+@Getter
+@Table(name = "shop_sales_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_shop_sales_rollup", columnNames = {"shop_id", "granularity", "bucket_start"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShopSalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "shop_id", nullable = false)
+    private Long shopId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private SalesGranularity granularity;
+
+    // 구간 시작 시각 (정시 / 자정)
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    private long orderCount;
+    private double revenue;
+
+    public ShopSalesRollup(Long shopId, SalesGranularity granularity, LocalDateTime bucketStart, long orderCount, double revenue) {
+        this.shopId = shopId;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,45 @@
+package com.sparta.outsourcing.domain.sales.repository;
+
+import com.sparta.outsourcing.domain.sales.dto.MenuSalesRow;
+import com.sparta.outsourcing.domain.sales.entity.MenuSalesRollup;
+import com.sparta.outsourcing.domain.sales.entity.SalesGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MenuSalesRollupRepository extends JpaRepository<MenuSalesRollup, Long> {
+
+    // 누적분 반영 - 집계 행이 없으면 0 반환
+    @Modifying
+    @Query("UPDATE MenuSalesRollup r SET r.orderCount = r.orderCount + :orderCount, r.quantity = r.quantity + :quantity, " +
+            "r.revenue = r.revenue + :revenue " +
+            "WHERE r.shopId = :shopId AND r.granularity = :granularity AND r.bucketStart = :bucketStart AND r.menuId = :menuId")
+    int increment(@Param("shopId") Long shopId,
+                  @Param("menuId") Long menuId,
+                  @Param("granularity") SalesGranularity granularity,
+                  @Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("orderCount") long orderCount,
+                  @Param("quantity") long quantity,
+                  @Param("revenue") double revenue);
+
+    // 기간 내 메뉴별 합계 - 구간 분할은 ShopSalesRollupRepository.findRange 와 같음
+    @Query("SELECT new com.sparta.outsourcing.domain.sales.dto.MenuSalesRow(r.menuId, SUM(r.orderCount), SUM(r.quantity), SUM(r.revenue)) " +
+            "FROM MenuSalesRollup r WHERE r.shopId = :shopId AND (" +
+            "(r.granularity = com.sparta.outsourcing.domain.sales.entity.SalesGranularity.HOUR " +
+            "AND ((r.bucketStart >= :headFrom AND r.bucketStart < :headTo) OR (r.bucketStart >= :tailFrom AND r.bucketStart < :tailTo))) " +
+            "OR (r.granularity = com.sparta.outsourcing.domain.sales.entity.SalesGranularity.DAY " +
+            "AND r.bucketStart >= :dayFrom AND r.bucketStart < :dayTo)) " +
+            "GROUP BY r.menuId")
+    List<MenuSalesRow> sumByMenu(@Param("shopId") Long shopId,
+                                 @Param("headFrom") LocalDateTime headFrom, @Param("headTo") LocalDateTime headTo,
+                                 @Param("dayFrom") LocalDateTime dayFrom, @Param("dayTo") LocalDateTime dayTo,
+                                 @Param("tailFrom") LocalDateTime tailFrom, @Param("tailTo") LocalDateTime tailTo);
+
+    @Modifying
+    @Query("DELETE FROM MenuSalesRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
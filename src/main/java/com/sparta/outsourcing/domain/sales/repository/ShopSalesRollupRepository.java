@@ -0,0 +1,49 @@
+package com.sparta.outsourcing.domain.sales.repository;
+
+import com.sparta.outsourcing.domain.sales.entity.SalesGranularity;
+import com.sparta.outsourcing.domain.sales.entity.ShopSalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ShopSalesRollupRepository extends JpaRepository<ShopSalesRollup, Long> {
+
+    // 누적분 반영 - 집계 행이 없으면 0 반환
+    @Modifying
+    @Query("UPDATE ShopSalesRollup r SET r.orderCount = r.orderCount + :orderCount, r.revenue = r.revenue + :revenue " +
+            "WHERE r.shopId = :shopId AND r.granularity = :granularity AND r.bucketStart = :bucketStart")
+    int increment(@Param("shopId") Long shopId,
+                  @Param("granularity") SalesGranularity granularity,
+                  @Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("orderCount") long orderCount,
+                  @Param("revenue") double revenue);
+
+    // 기간 조회 - 양 끝의 일부 날짜는 시간 단위, 가운데 온전한 날짜는 일 단위 행으로 (인덱스 범위 조회 1회)
+    @Query("SELECT r FROM ShopSalesRollup r WHERE r.shopId = :shopId AND (" +
+            "(r.granularity = com.sparta.outsourcing.domain.sales.entity.SalesGranularity.HOUR " +
+            "AND ((r.bucketStart >= :headFrom AND r.bucketStart < :headTo) OR (r.bucketStart >= :tailFrom AND r.bucketStart < :tailTo))) " +
+            "OR (r.granularity = com.sparta.outsourcing.domain.sales.entity.SalesGranularity.DAY " +
+            "AND r.bucketStart >= :dayFrom AND r.bucketStart < :dayTo)) " +
+            "ORDER BY r.bucketStart")
+    List<ShopSalesRollup> findRange(@Param("shopId") Long shopId,
+                                    @Param("headFrom") LocalDateTime headFrom, @Param("headTo") LocalDateTime headTo,
+                                    @Param("dayFrom") LocalDateTime dayFrom, @Param("dayTo") LocalDateTime dayTo,
+                                    @Param("tailFrom") LocalDateTime tailFrom, @Param("tailTo") LocalDateTime tailTo);
+
+    // 한 단위의 구간별 행
+    @Query("SELECT r FROM ShopSalesRollup r WHERE r.shopId = :shopId AND r.granularity = :granularity " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<ShopSalesRollup> findSeries(@Param("shopId") Long shopId,
+                                     @Param("granularity") SalesGranularity granularity,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+
+    // 재구성 전 기간 내 모든 가게의 집계 삭제
+    @Modifying
+    @Query("DELETE FROM ShopSalesRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
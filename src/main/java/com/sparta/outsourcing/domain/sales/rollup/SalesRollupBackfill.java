@@ -0,0 +1,184 @@
+package com.sparta.outsourcing.domain.sales.rollup;
+
+import com.sparta.outsourcing.domain.order.repository.ArchivedOrderRepository;
+import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import com.sparta.outsourcing.domain.sales.dto.SalesAggregateRow;
+import com.sparta.outsourcing.domain.sales.entity.SalesGranularity;
+import com.sparta.outsourcing.domain.sales.repository.MenuSalesRollupRepository;
+import com.sparta.outsourcing.domain.sales.repository.ShopSalesRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+// 매출 집계 재구성 - 날짜 하나를 한 단위로 나눠 병렬로 처리, 날짜마다 한 트랜잭션에서 기존 집계 삭제 후 orders 집계로 다시 INSERT
+// 보관 테이블 (orders_archive) 로 옮겨진 완료 주문도 함께 집계
+// 오늘은 실시간 누적분과 겹치므로 기본으로는 어제까지만 재구성
+// 매일 자정 직후 전날을 재구성 - 반영 전 종료로 메모리에서 사라진 누적분은 다음 날 복구됨
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRollupBackfill implements ApplicationRunner {
+    private static final String INSERT_SHOP_SQL = "INSERT INTO shop_sales_rollup "
+            + "(shop_id, granularity, bucket_start, order_count, revenue) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_MENU_SQL = "INSERT INTO menu_sales_rollup "
+            + "(shop_id, menu_id, granularity, bucket_start, order_count, quantity, revenue) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ShopSalesRollupRepository shopSalesRollupRepository;
+    private final MenuSalesRollupRepository menuSalesRollupRepository;
+    private final SalesRollupRecorder salesRollupRecorder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.order.sales.enabled:true}")
+    private boolean enabled;
+    @Value("${spring.order.sales.backfill.daily:true}")
+    private boolean daily;
+    @Value("${spring.order.sales.backfill.on-startup:false}")
+    private boolean onStartup;
+    // yyyy-MM-dd, 비우면 가장 오래된 완료 주문의 날짜부터
+    @Value("${spring.order.sales.backfill.from:}")
+    private String from;
+    @Value("${spring.order.sales.backfill.parallelism:4}")
+    private int parallelism;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (onStartup) {
+            rebuild(from.isBlank() ? null : LocalDate.parse(from), LocalDate.now());
+        }
+    }
+
+    // 전날 누적분이 모두 반영되도록 자정에서 조금 지난 시각에 실행 (여러 인스턴스가 함께 실행해도 결과는 같음)
+    @Scheduled(cron = "${spring.order.sales.backfill.daily-cron:0 10 0 * * *}")
+    public void rebuildPreviousDay() {
+        if (enabled && daily) {
+            rebuildPreviousDay(LocalDate.now());
+        }
+    }
+
+    void rebuildPreviousDay(LocalDate today) {
+        rebuild(today.minusDays(1), today);
+    }
+
+    // [from, to) 날짜의 집계 재구성, 다시 쓴 집계 행 수 반환
+    public long rebuild(LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : Stream.of(orderRepository.findFirstCompletedAt(),
+                        archivedOrderRepository.findFirstCompletedAt())
+                .flatMap(Optional::stream)
+                .min(Comparator.naturalOrder())
+                .map(LocalDateTime::toLocalDate)
+                .orElse(to);
+        if (!start.isBefore(to)) {
+            return 0;
+        }
+        // 이미 커밋된 완료 전환의 누적분을 먼저 반영해 재구성 결과와 겹치지 않도록 함
+        salesRollupRecorder.flush();
+
+        long startedAt = System.nanoTime();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "sales-backfill-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (LocalDate day = start; day.isBefore(to); day = day.plusDays(1)) {
+                LocalDate chunk = day;
+                chunks.add(executor.submit(() -> rebuildDay(chunk)));
+            }
+            long rows = 0;
+            for (Future<Integer> chunk : chunks) {
+                rows += chunk.get();
+            }
+            log.info("매출 집계 재구성 완료 - {} ~ {} ({}일), {}행, {} ms", start, to.minusDays(1), chunks.size(), rows,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return rows;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("매출 집계 재구성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("매출 집계 재구성에 실패했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    int rebuildDay(LocalDate day) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        LocalDateTime dayEnd = dayStart.plusDays(1);
+        Integer rows = transactionTemplate.execute(status -> {
+            shopSalesRollupRepository.deleteRange(dayStart, dayEnd);
+            menuSalesRollupRepository.deleteRange(dayStart, dayEnd);
+            List<Object[]> shopRows = rollupRows(mergeHours(orderRepository.aggregateShopSales(dayStart, dayEnd),
+                    archivedOrderRepository.aggregateShopSales(dayStart, dayEnd)), dayStart, false);
+            List<Object[]> menuRows = rollupRows(mergeHours(orderRepository.aggregateMenuSales(dayStart, dayEnd),
+                    archivedOrderRepository.aggregateMenuSales(dayStart, dayEnd)), dayStart, true);
+            jdbcTemplate.batchUpdate(INSERT_SHOP_SQL, shopRows);
+            jdbcTemplate.batchUpdate(INSERT_MENU_SQL, menuRows);
+            return shopRows.size() + menuRows.size();
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    // orders / orders_archive 의 같은 가게 (메뉴), 같은 시간 집계를 합산
+    private static List<SalesAggregateRow> mergeHours(List<SalesAggregateRow> rows, List<SalesAggregateRow> archivedRows) {
+        if (archivedRows.isEmpty()) {
+            return rows;
+        }
+        Map<List<Object>, SalesAggregateRow> merged = new LinkedHashMap<>();
+        for (SalesAggregateRow row : rows) {
+            merged.put(Arrays.asList(row.getShopId(), row.getMenuId(), row.getHour()), row);
+        }
+        for (SalesAggregateRow row : archivedRows) {
+            merged.merge(Arrays.asList(row.getShopId(), row.getMenuId(), row.getHour()), row, (a, b) ->
+                    new SalesAggregateRow(a.getShopId(), a.getMenuId(), a.getHour().toLocalDate(), a.getHour().getHour(),
+                            a.getOrderCount() + b.getOrderCount(), a.getQuantity() + b.getQuantity(),
+                            a.getRevenue() + b.getRevenue()));
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    // 시간 단위 행은 그대로, 일 단위 행은 같은 가게 (메뉴) 의 시간 단위 행 합계
+    private static List<Object[]> rollupRows(List<SalesAggregateRow> hourRows, LocalDateTime dayStart, boolean perMenu) {
+        List<Object[]> rows = new ArrayList<>(hourRows.size() + 16);
+        Map<List<Long>, long[]> dayCounts = new LinkedHashMap<>();
+        Map<List<Long>, Double> dayRevenue = new HashMap<>();
+        for (SalesAggregateRow row : hourRows) {
+            rows.add(rollupRow(row.getShopId(), row.getMenuId(), SalesGranularity.HOUR, row.getHour(),
+                    row.getOrderCount(), row.getQuantity(), row.getRevenue(), perMenu));
+            List<Long> key = Arrays.asList(row.getShopId(), row.getMenuId());
+            long[] counts = dayCounts.computeIfAbsent(key, k -> new long[2]);
+            counts[0] += row.getOrderCount();
+            counts[1] += row.getQuantity();
+            dayRevenue.merge(key, row.getRevenue(), Double::sum);
+        }
+        dayCounts.forEach((key, counts) -> rows.add(rollupRow(key.get(0), key.get(1), SalesGranularity.DAY, dayStart,
+                counts[0], counts[1], dayRevenue.get(key), perMenu)));
+        return rows;
+    }
+
+    private static Object[] rollupRow(Long shopId, Long menuId, SalesGranularity granularity, LocalDateTime bucketStart,
+                                      long orderCount, long quantity, double revenue, boolean perMenu) {
+        Timestamp bucket = Timestamp.valueOf(bucketStart);
+        return perMenu
+                ? new Object[]{shopId, menuId, granularity.name(), bucket, orderCount, quantity, revenue}
+                : new Object[]{shopId, granularity.name(), bucket, orderCount, revenue};
+    }
+}
@@ -0,0 +1,153 @@
+package com.sparta.outsourcing.domain.sales.rollup;
+
+import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import com.sparta.outsourcing.domain.sales.dto.SalesLine;
+import com.sparta.outsourcing.domain.sales.entity.MenuSalesRollup;
+import com.sparta.outsourcing.domain.sales.entity.SalesGranularity;
+import com.sparta.outsourcing.domain.sales.entity.ShopSalesRollup;
+import com.sparta.outsourcing.domain.sales.repository.MenuSalesRollupRepository;
+import com.sparta.outsourcing.domain.sales.repository.ShopSalesRollupRepository;
+import com.sparta.outsourcing.global.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 매출 집계 증분 반영 - 완료 전환이 커밋되면 (가게 / 메뉴, 단위, 구간) 별 누적분을 메모리에 합산하고
+// flush 가 주기적으로 구간당 UPDATE 1회로 반영 (같은 가게의 완료 전환끼리 집계 행 잠금을 다투지 않음)
+// 반영 전 종료 등으로 누락된 누적분은 SalesRollupBackfill 이 매일 전날을 재구성해 복구
+@Slf4j
+@Component
+public class SalesRollupRecorder {
+    private static final SalesGranularity[] GRANULARITIES = SalesGranularity.values();
+    // 여러 인스턴스가 같은 행을 갱신할 때 교착이 생기지 않도록 항상 같은 순서로 반영
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::shopId)
+            .thenComparing(Key::granularity)
+            .thenComparing(Key::bucketStart)
+            .thenComparing(Key::menuId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final OrderRepository orderRepository;
+    private final ShopSalesRollupRepository shopSalesRollupRepository;
+    private final MenuSalesRollupRepository menuSalesRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private final Map<Key, Delta> pending = new ConcurrentHashMap<>();
+    private final Counter flushedRows;
+    private final Counter flushFailures;
+
+    public SalesRollupRecorder(OrderRepository orderRepository,
+                               ShopSalesRollupRepository shopSalesRollupRepository,
+                               MenuSalesRollupRepository menuSalesRollupRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${spring.order.sales.enabled:true}") boolean enabled) {
+        this.orderRepository = orderRepository;
+        this.shopSalesRollupRepository = shopSalesRollupRepository;
+        this.menuSalesRollupRepository = menuSalesRollupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        Gauge.builder("sales.rollup.pending", pending, Map::size)
+                .description("반영 대기 중인 매출 집계 구간 수")
+                .register(Metrics.globalRegistry);
+        this.flushedRows = Counter.builder("sales.rollup.flushed")
+                .description("반영된 매출 집계 구간 수")
+                .register(Metrics.globalRegistry);
+        this.flushFailures = Counter.builder("sales.rollup.flush.failures")
+                .description("매출 집계 반영 실패 횟수 (다음 주기에 재시도)")
+                .register(Metrics.globalRegistry);
+    }
+
+    // 완료 전환 트랜잭션 안에서 호출 - 주문 항목은 지금 조회하고 누적은 커밋 이후
+    public void recordCompleted(Collection<Long> orderIds, LocalDateTime completedAt) {
+        if (!enabled || orderIds.isEmpty()) {
+            return;
+        }
+        List<SalesLine> lines = orderRepository.findSalesLines(orderIds);
+        TransactionUtils.afterCommit(() -> accumulate(lines, completedAt));
+    }
+
+    void accumulate(List<SalesLine> lines, LocalDateTime completedAt) {
+        // 주문 수는 가게 / 메뉴별로 주문당 한 번만 셈
+        Map<Long, List<SalesLine>> linesByOrder = new LinkedHashMap<>();
+        for (SalesLine line : lines) {
+            linesByOrder.computeIfAbsent(line.getOrderId(), id -> new ArrayList<>()).add(line);
+        }
+        for (List<SalesLine> orderLines : linesByOrder.values()) {
+            Long shopId = orderLines.get(0).getShopId();
+            Map<Long, Delta> menus = new HashMap<>();
+            double revenue = 0;
+            for (SalesLine line : orderLines) {
+                revenue += line.getRevenue();
+                menus.merge(line.getMenuId(), new Delta(0, line.getQuantity(), line.getRevenue()), Delta::plus);
+            }
+            for (SalesGranularity granularity : GRANULARITIES) {
+                LocalDateTime bucketStart = granularity.bucketOf(completedAt);
+                pending.merge(new Key(shopId, null, granularity, bucketStart), new Delta(1, 0, revenue), Delta::plus);
+                menus.forEach((menuId, delta) -> pending.merge(new Key(shopId, menuId, granularity, bucketStart),
+                        new Delta(1, delta.quantity(), delta.revenue()), Delta::plus));
+            }
+        }
+    }
+
+    // 모인 누적분을 한 트랜잭션으로 반영 - 실패하면 되돌려 놓고 다음 주기에 재시도
+    // (다른 인스턴스와 같은 행을 동시에 INSERT 한 경우 재시도 시 UPDATE 로 반영됨)
+    @Scheduled(fixedDelayString = "${spring.order.sales.flush-ms:1000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        SortedMap<Key, Delta> drained = new TreeMap<>(KEY_ORDER);
+        for (Key key : pending.keySet()) {
+            Delta delta = pending.remove(key);
+            if (delta != null) {
+                drained.put(key, delta);
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach(this::apply));
+            flushedRows.increment(drained.size());
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            drained.forEach((key, delta) -> pending.merge(key, delta, Delta::plus));
+            log.warn("매출 집계 반영 실패 - {}개 구간을 다음 주기에 재시도: {}", drained.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+
+    private void apply(Key key, Delta delta) {
+        if (key.menuId() == null) {
+            if (shopSalesRollupRepository.increment(key.shopId(), key.granularity(), key.bucketStart(),
+                    delta.orderCount(), delta.revenue()) == 0) {
+                shopSalesRollupRepository.save(new ShopSalesRollup(key.shopId(), key.granularity(), key.bucketStart(),
+                        delta.orderCount(), delta.revenue()));
+            }
+        } else if (menuSalesRollupRepository.increment(key.shopId(), key.menuId(), key.granularity(), key.bucketStart(),
+                delta.orderCount(), delta.quantity(), delta.revenue()) == 0) {
+            menuSalesRollupRepository.save(new MenuSalesRollup(key.shopId(), key.menuId(), key.granularity(), key.bucketStart(),
+                    delta.orderCount(), delta.quantity(), delta.revenue()));
+        }
+    }
+
+    // menuId 가 null 이면 가게 합계
+    private record Key(Long shopId, Long menuId, SalesGranularity granularity, LocalDateTime bucketStart) {
+    }
+
+    private record Delta(long orderCount, long quantity, double revenue) {
+        Delta plus(Delta other) {
+            return new Delta(orderCount + other.orderCount, quantity + other.quantity, revenue + other.revenue);
+        }
+    }
+}
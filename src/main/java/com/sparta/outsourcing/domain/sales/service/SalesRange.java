@@ -0,0 +1,53 @@
+package com.sparta.outsourcing.domain.sales.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 조회 기간 [from, to) 를 시간 단위 앞부분 / 일 단위 가운데 / 시간 단위 뒷부분으로 나눔 - 기간이 길어도 조회 행 수는 일 수 + 최대 46
+// from, to 는 정시로 내림
+@Getter
+class SalesRange {
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final LocalDateTime headTo;
+    private final LocalDateTime dayFrom;
+    private final LocalDateTime dayTo;
+    private final LocalDateTime tailFrom;
+
+    private SalesRange(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+        LocalDateTime firstMidnight = from.truncatedTo(ChronoUnit.DAYS);
+        if (firstMidnight.isBefore(from)) {
+            firstMidnight = firstMidnight.plusDays(1);
+        }
+        LocalDateTime lastMidnight = to.truncatedTo(ChronoUnit.DAYS);
+        if (firstMidnight.isBefore(lastMidnight)) {
+            headTo = firstMidnight;
+            dayFrom = firstMidnight;
+            dayTo = lastMidnight;
+            tailFrom = lastMidnight;
+        } else {
+            // 온전한 날짜가 없으면 전체를 시간 단위로
+            headTo = to;
+            dayFrom = to;
+            dayTo = to;
+            tailFrom = to;
+        }
+    }
+
+    static SalesRange of(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = to.truncatedTo(ChronoUnit.HOURS);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다. (최소 1시간)");
+        }
+        return new SalesRange(start, end);
+    }
+
+    long hours() {
+        return ChronoUnit.HOURS.between(from, to);
+    }
+}
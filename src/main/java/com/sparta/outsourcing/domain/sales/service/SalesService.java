@@ -0,0 +1,85 @@
+package com.sparta.outsourcing.domain.sales.service;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.menu.repository.MenuRepository;
+import com.sparta.outsourcing.domain.sales.dto.MenuSalesRow;
+import com.sparta.outsourcing.domain.sales.dto.ShopSalesResponseDto;
+import com.sparta.outsourcing.domain.sales.entity.SalesGranularity;
+import com.sparta.outsourcing.domain.sales.entity.ShopSalesRollup;
+import com.sparta.outsourcing.domain.sales.repository.MenuSalesRollupRepository;
+import com.sparta.outsourcing.domain.sales.repository.ShopSalesRollupRepository;
+import com.sparta.outsourcing.domain.shop.cache.ShopSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SalesService {
+    static final int DEFAULT_DAYS = 7;
+    // 시간 단위 구간 조회 최대 기간 (31일)
+    static final long MAX_HOURLY_HOURS = 31 * 24;
+
+    private final ShopSalesRollupRepository shopSalesRollupRepository;
+    private final MenuSalesRollupRepository menuSalesRollupRepository;
+    private final MenuRepository menuRepository;
+    private final ShopSnapshotCache shopSnapshotCache;
+
+    // 가게 매출 조회 (사장님) - 집계 행만 읽음, 기간이 없으면 현재 시간을 포함한 최근 7일
+    @Transactional(readOnly = true)
+    public ShopSalesResponseDto getShopSales(Long shopId, Long ownerId, LocalDateTime from, LocalDateTime to, String interval) {
+        if (!shopSnapshotCache.get(shopId).getOwnerId().equals(ownerId)) {
+            throw new SecurityException("가게 소유자가 아닙니다.");
+        }
+        SalesGranularity granularity = SalesGranularity.from(interval);
+        LocalDateTime end = to != null ? to : LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        SalesRange range = SalesRange.of(from != null ? from : end.minusDays(DEFAULT_DAYS), end);
+
+        List<ShopSalesRollup> rows;
+        if (granularity == SalesGranularity.HOUR) {
+            if (range.hours() > MAX_HOURLY_HOURS) {
+                throw new IllegalArgumentException("시간 단위 조회는 최대 31일까지 가능합니다.");
+            }
+            rows = shopSalesRollupRepository.findSeries(shopId, SalesGranularity.HOUR, range.getFrom(), range.getTo());
+        } else {
+            rows = shopSalesRollupRepository.findRange(shopId, range.getFrom(), range.getHeadTo(),
+                    range.getDayFrom(), range.getDayTo(), range.getTailFrom(), range.getTo());
+        }
+
+        long orderCount = 0;
+        double revenue = 0;
+        // 일 단위면 앞뒤 일부 날짜의 시간 단위 행도 해당 날짜로 합침
+        Map<LocalDateTime, ShopSalesResponseDto.Point> series = new LinkedHashMap<>();
+        for (ShopSalesRollup row : rows) {
+            orderCount += row.getOrderCount();
+            revenue += row.getRevenue();
+            series.merge(granularity.bucketOf(row.getBucketStart()),
+                    new ShopSalesResponseDto.Point(granularity.bucketOf(row.getBucketStart()), row.getOrderCount(), row.getRevenue()),
+                    (a, b) -> new ShopSalesResponseDto.Point(a.getBucketStart(), a.getOrderCount() + b.getOrderCount(),
+                            a.getRevenue() + b.getRevenue()));
+        }
+
+        return new ShopSalesResponseDto(shopId, range.getFrom(), range.getTo(), granularity, orderCount, revenue,
+                findMenuSales(shopId, range), new ArrayList<>(series.values()));
+    }
+
+    private List<ShopSalesResponseDto.MenuSales> findMenuSales(Long shopId, SalesRange range) {
+        List<MenuSalesRow> rows = menuSalesRollupRepository.sumByMenu(shopId, range.getFrom(), range.getHeadTo(),
+                range.getDayFrom(), range.getDayTo(), range.getTailFrom(), range.getTo());
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> menuNames = menuRepository.findAllById(rows.stream().map(MenuSalesRow::getMenuId).toList()).stream()
+                .collect(Collectors.toMap(Menu::getId, Menu::getMenuName));
+        return rows.stream()
+                .sorted(Comparator.comparing(MenuSalesRow::getRevenue, Comparator.reverseOrder()))
+                .map(row -> new ShopSalesResponseDto.MenuSales(row.getMenuId(), menuNames.get(row.getMenuId()),
+                        row.getOrderCount(), row.getQuantity(), row.getRevenue()))
+                .toList();
+    }
+}
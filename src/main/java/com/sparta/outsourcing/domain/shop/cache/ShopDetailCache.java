@@ -0,0 +1,51 @@
+package com.sparta.outsourcing.domain.shop.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sparta.outsourcing.domain.shop.dto.ShopResponseDto;
+import com.sparta.outsourcing.global.cache.LocalCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.function.Function;
+
+// 메뉴 목록까지 완성된 가게 상세 응답 캐시 - 가게 / 메뉴 변경 시 해당 가게만 무효화
+@Slf4j
+@Component
+public class ShopDetailCache {
+
+    @Value("${spring.cache.shop-detail.max-size:5000}")
+    private long maxSize;
+    @Value("${spring.cache.shop-detail.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private LocalCache<Long, ShopResponseDto> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = LocalCache.create("shop-detail", maxSize, ttlSeconds);
+    }
+
+    public ShopResponseDto get(Long shopId, Function<Long, ShopResponseDto> loader) {
+        return cache.get(shopId, loader);
+    }
+
+    public void evict(Long shopId) {
+        cache.evict(shopId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // 적중률 확인용 주기 로그
+    @Scheduled(fixedDelayString = "${spring.cache.shop-detail.stats-log-ms:300000}",
+            initialDelayString = "${spring.cache.shop-detail.stats-log-ms:300000}")
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        log.info("가게 상세 캐시 - 적중: {}, 미적중: {}, 적중률: {}, 제거: {}, 크기: {}",
+                stats.hitCount(), stats.missCount(), String.format("%.3f", stats.hitRate()),
+                stats.evictionCount(), cache.estimatedSize());
+    }
+}
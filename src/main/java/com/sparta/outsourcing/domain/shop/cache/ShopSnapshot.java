@@ -0,0 +1,32 @@
+package com.sparta.outsourcing.domain.shop.cache;
+
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+
+// 주문 검증에 필요한 가게 정보의 불변 스냅샷
+@Getter
+public class ShopSnapshot {
+    private final Long id;
+    private final Long ownerId;
+    private final LocalTime opentime;
+    private final LocalTime closetime;
+    private final BigDecimal minOrderAmount;
+    private final boolean closed;
+
+    public ShopSnapshot(Long id, Long ownerId, LocalTime opentime, LocalTime closetime, BigDecimal minOrderAmount, boolean closed) {
+        this.id = id;
+        this.ownerId = ownerId;
+        this.opentime = opentime;
+        this.closetime = closetime;
+        this.minOrderAmount = minOrderAmount;
+        this.closed = closed;
+    }
+
+    public static ShopSnapshot from(Shop shop) {
+        return new ShopSnapshot(shop.getId(), shop.getOwner().getId(), shop.getOpentime(), shop.getClosetime(),
+                shop.getMinOrderAmount(), shop.isClosed());
+    }
+}
@@ -0,0 +1,42 @@
+package com.sparta.outsourcing.domain.shop.cache;
+
+import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
+import com.sparta.outsourcing.global.cache.LocalCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 가게 스냅샷 read-through 캐시 - 가게 수정 / 폐업 시 무효화
+@Component
+@RequiredArgsConstructor
+public class ShopSnapshotCache {
+    private final ShopRepository shopRepository;
+
+    @Value("${spring.cache.shop-snapshot.max-size:10000}")
+    private long maxSize;
+    @Value("${spring.cache.shop-snapshot.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private LocalCache<Long, ShopSnapshot> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = LocalCache.create("shop-snapshot", maxSize, ttlSeconds);
+    }
+
+    public ShopSnapshot get(Long shopId) {
+        ShopSnapshot snapshot = cache.get(shopId, id -> shopRepository.findById(id)
+                .map(ShopSnapshot::from)
+                .orElse(null));
+        if (snapshot == null) {
+            throw new EntityNotFoundException("가게를 찾을 수 없습니다.");
+        }
+        return snapshot;
+    }
+
+    public void evict(Long shopId) {
+        cache.evict(shopId);
+    }
+}
@@ -7,6 +7,7 @@ import com.sparta.outsourcing.domain.user.dto.AuthUser;
 import com.sparta.outsourcing.domain.user.entity.User;
 import com.sparta.outsourcing.domain.user.repository.UserRepository;
 import com.sparta.outsourcing.global.annotation.Auth;
+import com.sparta.outsourcing.global.pagination.PageResponseDto;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +16,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -52,8 +52,11 @@ public class ShopController {
 
     // 가게 다건 조회
     @GetMapping("/search")
-    public ResponseEntity<List<ShopResponseDto>> getShopsByName(@RequestParam(value = "name", required = false, defaultValue = "defaultName") String name) {
-        List<ShopResponseDto> shops = shopService.getShopsByName(name);
+    public ResponseEntity<PageResponseDto<ShopResponseDto>> getShopsByName(
+            @RequestParam(value = "name", required = false, defaultValue = "defaultName") String name,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        PageResponseDto<ShopResponseDto> shops = shopService.getShopsByName(name, page, size);
         return ResponseEntity.ok(shops);
     }
 
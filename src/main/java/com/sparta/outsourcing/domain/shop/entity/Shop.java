@@ -3,11 +3,14 @@ package com.sparta.outsourcing.domain.shop.entity;
 import com.sparta.outsourcing.domain.menu.entity.Menu;
 import com.sparta.outsourcing.domain.user.entity.Timestamped;
 import com.sparta.outsourcing.domain.user.entity.User;
+import com.sparta.outsourcing.global.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalTime;
@@ -19,6 +22,7 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "shop")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.SHOP_REGION)
 public class Shop extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,6 +42,8 @@ public class Shop extends Timestamped {
 
     private boolean closed;
 
+    // 메뉴 id 목록만 캐시 - 각 메뉴는 menu 영역에서 조회
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.SHOP_MENUS_REGION)
     @OneToMany(mappedBy = "shop", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Menu> menus;
 
@@ -3,15 +3,22 @@ package com.sparta.outsourcing.domain.shop.repository;
 import com.sparta.outsourcing.domain.shop.entity.Shop;
 import com.sparta.outsourcing.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ShopRepository extends JpaRepository<Shop,Long> {
     // 가게 소유자와 운영 중인 가게를 찾기 위한 메서드
     List<Shop> findByOwnerAndClosedFalse(User owner);
 
-    // 가게명을 포함하는 모든 가게를 조회
-    List<Shop> findByNameContaining(String name);
+    // 검색 색인 구성용 - 운영 중인 모든 가게 조회
+    List<Shop> findByClosedFalse();
+
+    // 가게 상세 조회용 - 메뉴까지 한 번의 쿼리로 조회
+    @Query("SELECT DISTINCT s FROM Shop s LEFT JOIN FETCH s.menus WHERE s.id = :shopId")
+    Optional<Shop> findWithMenusById(@Param("shopId") Long shopId);
 }
@@ -0,0 +1,267 @@
+package com.sparta.outsourcing.domain.shop.search;
+
+import com.sparta.outsourcing.domain.shop.dto.ShopResponseDto;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
+import com.sparta.outsourcing.global.pagination.PageResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 가게 이름 역색인 - 한글은 자모 단위로 분해한 3-gram 으로 색인하여 부분 일치 / 접두어 / 오타 검색 지원
+// 운영 중인 가게만 색인하며, 가게 생성 / 수정 / 폐업 시 갱신하고 주기적으로 DB 기준으로 재구성
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopSearchIndex {
+    private static final int GRAM = 3;
+    // 오타 허용 최소 검색어 길이 (자모 기준) - 짧은 검색어는 한 글자만 같아도 일치하므로 오타를 허용하지 않음
+    private static final int MIN_TYPO_QUERY_LENGTH = 4;
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    private static final char[] JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    private final ShopRepository shopRepository;
+
+    private volatile Index index = new Index();
+    // 재구성 중 들어온 변경 (가게 id -> 최신 상태, 비어 있으면 제거) - 교체 전에 새 색인에 다시 적용
+    private Map<Long, Optional<IndexedShop>> changesDuringRebuild;
+    private final Object writeLock = new Object();
+
+    // 애플리케이션 시작 시 및 주기적으로 전체 재구성 (다른 인스턴스에서의 변경 반영)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${spring.shop.search.rebuild-ms:600000}",
+            initialDelayString = "${spring.shop.search.rebuild-ms:600000}")
+    public synchronized void rebuild() {
+        Map<Long, Optional<IndexedShop>> changes = new HashMap<>();
+        synchronized (writeLock) {
+            changesDuringRebuild = changes;
+        }
+        Index rebuilt = new Index();
+        try {
+            // DB 조회는 잠금 밖에서 - 조회 이후의 변경은 changes 에 기록됨
+            shopRepository.findByClosedFalse().forEach(shop -> rebuilt.put(IndexedShop.from(shop)));
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (writeLock) {
+            changes.forEach((shopId, shop) -> shop.ifPresentOrElse(rebuilt::put, () -> rebuilt.remove(shopId)));
+            index = rebuilt;
+            changesDuringRebuild = null;
+        }
+        log.info("가게 검색 색인 재구성 - {}건 (재구성 중 변경 {}건 반영)", rebuilt.shops.size(), changes.size());
+    }
+
+    // 가게 생성 / 수정 시 반영 - 폐업한 가게는 제거
+    public void upsert(Shop shop) {
+        if (shop.getId() == null) {
+            return;
+        }
+        if (shop.isClosed()) {
+            remove(shop.getId());
+            return;
+        }
+        IndexedShop indexed = IndexedShop.from(shop);
+        synchronized (writeLock) {
+            index.put(indexed);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(indexed.id(), Optional.of(indexed));
+            }
+        }
+    }
+
+    public void remove(Long shopId) {
+        synchronized (writeLock) {
+            index.remove(shopId);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(shopId, Optional.empty());
+            }
+        }
+    }
+
+    // 점수순(정확히 일치 > 접두어 > 부분 일치 > 오타 허용) 정렬 후 페이지 반환
+    public PageResponseDto<ShopResponseDto> search(String query, int page, int size) {
+        Index current = index;
+        String normalized = normalize(query);
+        String jamoQuery = toJamo(normalized);
+
+        List<Scored> matches = new ArrayList<>();
+        for (Long id : current.candidates(normalized, jamoQuery)) {
+            IndexedShop shop = current.shops.get(id);
+            if (shop == null) {
+                continue;
+            }
+            int score = score(normalized, jamoQuery, shop);
+            if (score > 0) {
+                matches.add(new Scored(shop, score));
+            }
+        }
+        matches.sort(Comparator.comparingInt(Scored::score).reversed()
+                .thenComparingInt(scored -> scored.shop().normalized().length())
+                .thenComparing(scored -> scored.shop().id()));
+
+        List<ShopResponseDto> ranked = matches.stream().map(scored -> scored.shop().toResponse()).toList();
+        return PageResponseDto.slice(ranked, page, size);
+    }
+
+    private int score(String query, String jamoQuery, IndexedShop shop) {
+        if (query.isEmpty()) {
+            return 1;
+        }
+        if (shop.normalized().equals(query)) {
+            return 1000;
+        }
+        if (shop.normalized().startsWith(query)) {
+            return 500;
+        }
+        if (shop.normalized().contains(query)) {
+            return 300;
+        }
+        // 오타 허용 - 자모 기준 편집 거리
+        if (jamoQuery.length() < MIN_TYPO_QUERY_LENGTH) {
+            return 0;
+        }
+        int distance = substringDistance(jamoQuery, shop.jamo());
+        int allowed = jamoQuery.length() <= 6 ? 1 : 2;
+        return distance <= allowed ? 100 - distance * 30 : 0;
+    }
+
+    // 검색어와 이름의 임의 부분 문자열 사이의 최소 편집 거리
+    static int substringDistance(String query, String text) {
+        int[] previous = new int[text.length() + 1];
+        int[] current = new int[text.length() + 1];
+        for (int i = 1; i <= query.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= text.length(); j++) {
+                int cost = query.charAt(i - 1) == text.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        int min = query.length();
+        for (int value : previous) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    // 소문자 변환 후 공백 / 기호 제거
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    // 한글 음절을 초성 / 중성 / 종성으로 분해
+    static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (char c : text.toCharArray()) {
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                int offset = c - 0xAC00;
+                sb.append(CHOSEONG[offset / 588]).append(JUNGSEONG[(offset % 588) / 28]);
+                if (offset % 28 != 0) {
+                    sb.append(JONGSEONG[offset % 28]);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    static Set<String> grams(String jamo) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= jamo.length(); i++) {
+            grams.add(jamo.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static class Index {
+        private final Map<Long, IndexedShop> shops = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+        // 3-gram 을 만들 수 없는 짧은 검색어용 - 글자 색인
+        private final Map<Character, Set<Long>> chars = new ConcurrentHashMap<>();
+
+        void put(IndexedShop shop) {
+            remove(shop.id());
+            shops.put(shop.id(), shop);
+            for (String gram : grams(shop.jamo())) {
+                postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(shop.id());
+            }
+            for (char c : shop.normalized().toCharArray()) {
+                chars.computeIfAbsent(c, key -> ConcurrentHashMap.newKeySet()).add(shop.id());
+            }
+        }
+
+        void remove(Long shopId) {
+            IndexedShop previous = shops.remove(shopId);
+            if (previous == null) {
+                return;
+            }
+            for (String gram : grams(previous.jamo())) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(shopId);
+                }
+            }
+            for (char c : previous.normalized().toCharArray()) {
+                Set<Long> ids = chars.get(c);
+                if (ids != null) {
+                    ids.remove(shopId);
+                }
+            }
+        }
+
+        Set<Long> candidates(String query, String jamoQuery) {
+            if (query.isEmpty()) {
+                return shops.keySet();
+            }
+            Set<String> queryGrams = grams(jamoQuery);
+            if (queryGrams.isEmpty()) {
+                return chars.getOrDefault(query.charAt(0), Set.of());
+            }
+            Set<Long> candidates = new HashSet<>();
+            for (String gram : queryGrams) {
+                candidates.addAll(postings.getOrDefault(gram, Set.of()));
+            }
+            return candidates;
+        }
+    }
+
+    private record IndexedShop(Long id, String name, String normalized, String jamo,
+                               LocalTime opentime, LocalTime closetime, BigDecimal minOrderAmount) {
+
+        static IndexedShop from(Shop shop) {
+            String normalized = normalize(shop.getName());
+            return new IndexedShop(shop.getId(), shop.getName(), normalized, toJamo(normalized),
+                    shop.getOpentime(), shop.getClosetime(), shop.getMinOrderAmount());
+        }
+
+        ShopResponseDto toResponse() {
+            return new ShopResponseDto(id, name, opentime, closetime, minOrderAmount, List.of());
+        }
+    }
+
+    private record Scored(IndexedShop shop, int score) {
+    }
+}
@@ -1,17 +1,21 @@
 package com.sparta.outsourcing.domain.shop.service;
 
 import com.sparta.outsourcing.domain.menu.dto.MenuResponseDto;
+import com.sparta.outsourcing.domain.shop.cache.ShopDetailCache;
+import com.sparta.outsourcing.domain.shop.cache.ShopSnapshotCache;
 import com.sparta.outsourcing.domain.shop.dto.ShopRequestDto;
 import com.sparta.outsourcing.domain.shop.dto.ShopResponseDto;
 import com.sparta.outsourcing.domain.shop.entity.Shop;
 import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
+import com.sparta.outsourcing.domain.shop.search.ShopSearchIndex;
 import com.sparta.outsourcing.domain.user.entity.User;
 import com.sparta.outsourcing.domain.user.entity.UserRoleEnum;
 import com.sparta.outsourcing.domain.user.service.UserService;
+import com.sparta.outsourcing.global.pagination.PageResponseDto;
+import com.sparta.outsourcing.global.util.TransactionUtils;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,6 +25,12 @@ import java.util.stream.Collectors;
 public class ShopService {
     private final ShopRepository shopRepository;
     private final UserService userService;
+    private final ShopSnapshotCache shopSnapshotCache;
+    private final ShopSearchIndex shopSearchIndex;
+    private final ShopDetailCache shopDetailCache;
+
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
 
     // 가게 생성
     public ShopResponseDto createShop(ShopRequestDto shopRequest, User authUser) {
@@ -46,6 +56,7 @@ public class ShopService {
 
         // Shop을 저장하고 ShopResponseDto로 변환
         Shop savedShop = shopRepository.save(shop);
+        TransactionUtils.afterCommit(() -> shopSearchIndex.upsert(savedShop));
         return new ShopResponseDto(savedShop.getId(), savedShop.getName(), savedShop.getOpentime(), savedShop.getClosetime(), savedShop.getMinOrderAmount(), List.of());
     }
 
@@ -70,6 +81,9 @@ public class ShopService {
 
         // 변경 사항 저장
         Shop updatedShop = shopRepository.save(shop);
+        shopSnapshotCache.evict(shopId);
+        shopDetailCache.evict(shopId);
+        TransactionUtils.afterCommit(() -> shopSearchIndex.upsert(updatedShop));
 
         // 수정된 가게에 대해 메뉴는 그대로 유지
         List<MenuResponseDto> menuList = shop.getMenus().stream()
@@ -95,25 +109,23 @@ public class ShopService {
         );
     }
 
-    // 가게 다건 조회
-    public List<ShopResponseDto> getShopsByName(String name) {
-        List<Shop> shops = shopRepository.findByNameContaining(name);
-        return shops.stream()
-                .map(shop -> new ShopResponseDto(
-                        shop.getId(),
-                        shop.getName(),
-                        shop.getOpentime(),
-                        shop.getClosetime(),
-                        shop.getMinOrderAmount(),
-                        List.of()
-                ))
-                .collect(Collectors.toList());
+    // 가게 다건 조회 - 검색 색인에서 점수순으로 조회 (폐업한 가게 제외)
+    public PageResponseDto<ShopResponseDto> getShopsByName(String name, int page, Integer size) {
+        int pageSize = size == null ? DEFAULT_SEARCH_SIZE : size;
+        if (page < 0 || pageSize < 1 || pageSize > MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException("페이지는 0 이상, 페이지 크기는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+        return shopSearchIndex.search(name, page, pageSize);
     }
 
-    // 가게 단건 조회
-    @Transactional
+    // 가게 단건 조회 - 캐시 적중 시 DB 조회 없이 완성된 응답 반환
     public ShopResponseDto getShopById(Long shopId) {
-        Shop shop = shopRepository.findById(shopId)
+        return shopDetailCache.get(shopId, this::loadShopDetail);
+    }
+
+    // 캐시 미적중 시 가게와 메뉴를 한 번의 쿼리로 조회하여 응답 생성
+    private ShopResponseDto loadShopDetail(Long shopId) {
+        Shop shop = shopRepository.findWithMenusById(shopId)
                 .orElseThrow(() -> new EntityNotFoundException("가게를 찾을 수 없습니다."));
 
         // 가게에 등록된 메뉴 조회
@@ -128,7 +140,7 @@ public class ShopService {
                         .menuName(menu.getMenuName())
                         .price(menu.getPrice())
                         .build())
-                .collect(Collectors.toList());
+                .toList();  // 캐시에 공유되므로 불변 리스트
 
         // ShopResponseDto에 메뉴 리스트 포함하여 반환
         return new ShopResponseDto(
@@ -155,5 +167,8 @@ public class ShopService {
         // 가게 상태를 폐업으로 변경
         shop.close(); // 폐업 메서드 호출
         shopRepository.save(shop); // 변경 사항 저장
+        shopSnapshotCache.evict(shopId);
+        shopDetailCache.evict(shopId);
+        TransactionUtils.afterCommit(() -> shopSearchIndex.remove(shopId));
     }
 }
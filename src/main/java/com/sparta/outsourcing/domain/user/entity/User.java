@@ -1,11 +1,14 @@
 package com.sparta.outsourcing.domain.user.entity;
 
 import com.sparta.outsourcing.domain.user.dto.UserRequestDto;
+import com.sparta.outsourcing.global.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SoftDelete;
 
 @Entity
@@ -14,6 +17,8 @@ import org.hibernate.annotations.SoftDelete;
 @AllArgsConstructor
 @SoftDelete(columnName="deleted")
 @Table(name = "users")
+// 탈퇴(soft delete) 시 Hibernate 가 캐시 항목을 제거하므로 탈퇴한 사용자는 캐시에서도 조회되지 않음
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USER_REGION)
 @NoArgsConstructor
 public class User extends Timestamped{
 
@@ -2,8 +2,13 @@ package com.sparta.outsourcing.domain.user.repository;
 
 import com.sparta.outsourcing.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User,Long> {
@@ -11,4 +16,22 @@ public interface UserRepository extends JpaRepository<User,Long> {
 
     @Query(value = "SELECT email FROM Users u WHERE u.email = :email AND u.deleted = true", nativeQuery = true)
     Optional<Object> findDeletedEmail(String email);
+
+    // since 이후 탈퇴(soft delete) 한 사용자 ID 목록 - 토큰 차단 목록 동기화용 (modified_at 을 탈퇴 시각으로 사용)
+    @Query(value = "SELECT user_id FROM users WHERE deleted = true AND modified_at >= :since", nativeQuery = true)
+    List<Long> findDeletedUserIdsSince(@Param("since") LocalDateTime since);
+
+    // soft delete 는 deleted 만 바꾸므로 탈퇴 직전에 modified_at 을 탈퇴 시각으로 기록
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.modifiedAt = :deletedAt WHERE u.id = :userId")
+    int markDeletedAt(@Param("userId") Long userId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 저장된 비밀번호가 검증 당시와 같을 때만 교체
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
@@ -0,0 +1,27 @@
+package com.sparta.outsourcing.domain.user.service;
+
+import com.sparta.outsourcing.domain.user.repository.UserRepository;
+import com.sparta.outsourcing.global.config.PasswordEncoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordRehashService {
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    // 낮은 cost 로 저장된 비밀번호를 현재 cost 로 재해시 (로그인 응답과 무관하게 백그라운드 실행)
+    @Async
+    public void rehash(Long userId, String rawPassword, String verifiedPassword) {
+        String password = passwordEncoder.encode(rawPassword);
+        // 그 사이 비밀번호가 변경되었다면 덮어쓰지 않음
+        int updated = userRepository.updatePasswordIfUnchanged(userId, verifiedPassword, password);
+        if (updated == 1) {
+            log.info("비밀번호 재해시 완료 - 유저 ID: {}, cost: {}", userId, passwordEncoder.getCost());
+        }
+    }
+}
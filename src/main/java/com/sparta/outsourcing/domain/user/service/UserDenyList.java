@@ -0,0 +1,57 @@
+package com.sparta.outsourcing.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.outsourcing.domain.user.repository.UserRepository;
+import com.sparta.outsourcing.global.config.JwtUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 탈퇴한 사용자의 토큰을 거부하기 위한 메모리 차단 목록
+// 시작 시 한 번 적재하고, 이 인스턴스의 탈퇴는 즉시 / 다른 인스턴스의 탈퇴는 주기적 동기화로 반영
+// 탈퇴 전에 발급된 토큰은 토큰 유효 시간이 지나면 만료되므로 그 시간 동안만 보관
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDenyList {
+    private static final Duration TOKEN_TTL = Duration.ofMillis(JwtUtil.TOKEN_TIME);
+    // DB 와 애플리케이션 서버 사이의 시계 차이를 고려한 조회 여유
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final UserRepository userRepository;
+
+    private final Cache<Long, Boolean> deniedUserIds = Caffeine.newBuilder()
+            .expireAfterWrite(TOKEN_TTL.plus(CLOCK_SKEW))
+            .build();
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    // 탈퇴 처리된 사용자 추가
+    public void deny(Long userId) {
+        deniedUserIds.put(userId, Boolean.TRUE);
+    }
+
+    public boolean isDenied(Long userId) {
+        return deniedUserIds.getIfPresent(userId) != null;
+    }
+
+    // 토큰 유효 시간 안에 탈퇴한 사용자만 조회 - 이미 있는 항목은 만료 시각을 늦추지 않도록 그대로 둠
+    @Scheduled(fixedDelayString = "${spring.jwt.deny-list.refresh-ms:30000}",
+            initialDelayString = "${spring.jwt.deny-list.refresh-ms:30000}")
+    public void refresh() {
+        List<Long> deletedUserIds = userRepository.findDeletedUserIdsSince(
+                LocalDateTime.now().minus(TOKEN_TTL).minus(CLOCK_SKEW));
+        deletedUserIds.forEach(userId -> deniedUserIds.asMap().putIfAbsent(userId, Boolean.TRUE));
+        log.debug("토큰 차단 목록 동기화 - 차단 사용자 수: {}", deniedUserIds.estimatedSize());
+    }
+}
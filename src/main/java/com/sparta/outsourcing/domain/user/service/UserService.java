@@ -13,6 +13,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Validated
@@ -20,6 +22,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final UserDenyList userDenyList;
+    private final PasswordRehashService passwordRehashService;
     @Value("${spring.owner.token}")
     private String OWNER_TOKEN;
 
@@ -51,7 +55,7 @@ public class UserService {
         //DB저장
         User saveUser = userRepository.save(user);
         //token생성 및 쿠키
-        String token = jwtUtil.createToken(saveUser.getId());
+        String token = jwtUtil.createToken(saveUser.getId(), saveUser.getRole(), saveUser.getEmail());
         jwtUtil.addJwtToCookie(token,res);
         return new UserResponseDto(saveUser);
     }
@@ -66,7 +70,11 @@ public class UserService {
         if (!passwordEncoder.matches(password, user.getPassword())) {
             throw new IllegalArgumentException("잘못된 비밀 번호를 입력하셨습니다.");
         }
-        String token = jwtUtil.createToken(user.getId());
+        // 이전 cost 로 저장된 비밀번호는 백그라운드에서 재해시
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            passwordRehashService.rehash(user.getId(), password, user.getPassword());
+        }
+        String token = jwtUtil.createToken(user.getId(), user.getRole(), user.getEmail());
         jwtUtil.addJwtToCookie(token, res);
         return new LoginResponseDto(token);
     }
@@ -98,7 +106,10 @@ public class UserService {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
             }
 
+            userRepository.markDeletedAt(userId, LocalDateTime.now());
             userRepository.delete(user);
+            // 발급된 토큰이 만료되기 전이라도 즉시 차단
+            userDenyList.deny(userId);
             return "회원탈퇴 완료";
     }
 
@@ -0,0 +1,50 @@
+package com.sparta.outsourcing.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sparta.outsourcing.global.util.TransactionUtils;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 인스턴스 로컬 read-through 캐시 - 크기 / 보관 시간 제한, 지표 등록, 트랜잭션을 고려한 무효화
+// 보관 시간은 다른 인스턴스에서의 변경을 반영하기 위한 최대 지연
+public final class LocalCache<K, V> {
+    private final Cache<K, V> cache;
+
+    private LocalCache(Cache<K, V> cache) {
+        this.cache = cache;
+    }
+
+    public static <K, V> LocalCache<K, V> create(String name, long maxSize, long ttlSeconds) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, name);
+        return new LocalCache<>(cache);
+    }
+
+    // loader 가 null 을 반환하면 캐시하지 않고 null 반환
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return cache.get(key, loader);
+    }
+
+    // 즉시 제거하고, 커밋 전에 다른 요청이 이전 값을 다시 적재했을 경우를 대비해 커밋 후 한 번 더 제거
+    public void evict(K key) {
+        cache.invalidate(key);
+        TransactionUtils.afterCommit(() -> cache.invalidate(key));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
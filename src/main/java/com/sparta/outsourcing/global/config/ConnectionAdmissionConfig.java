@@ -0,0 +1,31 @@
+package com.sparta.outsourcing.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// spring.datasource-admission.enabled=true 일 때 Hikari DataSource 를 입장 제한 DataSource 로 감쌈 (virtual 프로필에서 사용)
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource-admission.enabled", havingValue = "true")
+public class ConnectionAdmissionConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionAdmissionPostProcessor(Environment environment) {
+        int maxWaiting = environment.getProperty("spring.datasource-admission.max-waiting", Integer.class, 200);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    log.info("DB 연결 입장 제한 적용 - 풀 크기: {}, 최대 대기: {}", hikari.getMaximumPoolSize(), maxWaiting);
+                    return new ConnectionAdmissionDataSource(hikari, maxWaiting);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.sparta.outsourcing.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.RejectedExecutionException;
+
+// DB 연결 입장 제한 - 풀에서 커넥션을 기다리는 스레드가 maxWaiting 이상이면 기다리지 않고 즉시 거절 (429)
+// 가상 스레드는 요청 수만큼 늘어나므로, 풀 대기열에 수천 개가 쌓여 connection-timeout 까지 붙잡히는 것을 막음
+// 대기 스레드 수는 Hikari 가 이미 세고 있는 값을 읽기만 하므로 커넥션을 감싸지 않음 (경계에서 약간 넘칠 수 있음)
+public class ConnectionAdmissionDataSource extends DelegatingDataSource {
+    private final HikariDataSource hikari;
+    private final int maxWaiting;
+    private final Counter rejected = Counter.builder("db.connection.admission.rejected")
+            .description("입장 제한으로 거절된 DB 커넥션 요청 수")
+            .register(Metrics.globalRegistry);
+
+    public ConnectionAdmissionDataSource(HikariDataSource hikari, int maxWaiting) {
+        super(hikari);
+        this.hikari = hikari;
+        this.maxWaiting = maxWaiting;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        admit();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        admit();
+        return super.getConnection(username, password);
+    }
+
+    private void admit() {
+        // 풀은 첫 커넥션 요청 때 시작되므로 그 전에는 제한하지 않음
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool != null && pool.getThreadsAwaitingConnection() >= maxWaiting) {
+            rejected.increment();
+            throw new RejectedExecutionException("DB 연결 대기 요청이 너무 많습니다.");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.sparta.outsourcing.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Hibernate 2차 캐시 (JCache + Caffeine) - 자주 읽고 드물게 바뀌는 가게 / 메뉴 / 사용자 엔티티와 메뉴 조회 쿼리 결과를 캐시
+// 영역별 최대 개수 / 보관 시간은 spring.cache.hibernate.regions.{영역}.max-size / ttl-seconds
+// 변경은 같은 인스턴스의 Hibernate 를 거쳐야 반영되므로 다른 인스턴스의 변경은 ttl-seconds 이후 반영
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.cache.hibernate.enabled", havingValue = "true")
+public class HibernateCacheConfig {
+    public static final String SHOP_REGION = "shop";
+    public static final String SHOP_MENUS_REGION = "shop-menus";
+    public static final String MENU_REGION = "menu";
+    public static final String MENU_QUERY_REGION = "menu-query";
+    public static final String USER_REGION = "user";
+
+    private static final List<String> ENTITY_REGIONS = List.of(SHOP_REGION, SHOP_MENUS_REGION, MENU_REGION, MENU_QUERY_REGION, USER_REGION);
+    // 쿼리 캐시 무효화 판단용 테이블 변경 시각 - 만료되면 오래된 쿼리 결과를 쓰게 되므로 만료 / 개수 제한 없음
+    private static final String TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+    private static final String QUERY_RESULTS_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    // 컨텍스트마다 별도 CacheManager (테스트에서 여러 컨텍스트가 떠도 영역이 섞이지 않도록)
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : ENTITY_REGIONS) {
+            long maxSize = environment.getProperty("spring.cache.hibernate.regions." + region + ".max-size", Long.class, 10000L);
+            long ttlSeconds = environment.getProperty("spring.cache.hibernate.regions." + region + ".ttl-seconds", Long.class, 600L);
+            cacheManager.createCache(region, regionConfiguration(OptionalLong.of(maxSize), OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds))));
+            log.info("Hibernate 2차 캐시 영역 {} - 최대 {}개, {}초", region, maxSize, ttlSeconds);
+        }
+        cacheManager.createCache(QUERY_RESULTS_REGION, regionConfiguration(OptionalLong.of(10000), OptionalLong.of(TimeUnit.MINUTES.toNanos(10))));
+        cacheManager.createCache(TIMESTAMPS_REGION, regionConfiguration(OptionalLong.empty(), OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager, Environment environment) {
+        boolean statistics = environment.getProperty("spring.cache.hibernate.statistics", Boolean.class, true);
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // 위에서 만들지 않은 영역을 쓰면 설정 누락이므로 기동 실패
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // mappedBy 쪽 컬렉션 (Shop.menus) 은 메뉴 추가 / 삭제 시 캐시에서 제거
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            // 영역별 적중 / 누락 / 저장 수 - hibernate.second.level.cache.requests{region, result} 등으로 노출
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(OptionalLong maxSize, OptionalLong expireAfterWriteNanos) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maxSize);
+        configuration.setExpireAfterWrite(expireAfterWriteNanos);
+        // Hibernate 가 분해된 상태로 저장하므로 값 복사 불필요
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+}
@@ -0,0 +1,40 @@
+package com.sparta.outsourcing.global.config;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 토큰 검증 결과 - 검증된 Claims 또는 실패 사유 중 하나를 가짐
+@Getter
+public class JwtParseResult {
+    private final Claims claims;
+    private final Failure failure;
+
+    private JwtParseResult(Claims claims, Failure failure) {
+        this.claims = claims;
+        this.failure = failure;
+    }
+
+    public static JwtParseResult success(Claims claims) {
+        return new JwtParseResult(claims, null);
+    }
+
+    public static JwtParseResult failure(Failure failure) {
+        return new JwtParseResult(null, failure);
+    }
+
+    public boolean isValid() {
+        return failure == null;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Failure {
+        INVALID_SIGNATURE("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다."),
+        EXPIRED("Expired JWT token, 만료된 JWT token 입니다."),
+        UNSUPPORTED("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다."),
+        EMPTY("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
+
+        private final String message;
+    }
+}
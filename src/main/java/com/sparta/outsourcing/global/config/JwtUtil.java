@@ -1,7 +1,14 @@
 package com.sparta.outsourcing.global.config;
 
+import com.sparta.outsourcing.domain.user.entity.UserRoleEnum;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,9 +20,15 @@ import org.springframework.util.StringUtils;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
@@ -24,10 +37,12 @@ public class JwtUtil {
     public static final String AUTHORIZATION_HEADER = "Authorization";
     // 사용자 권한 값의 KEY
     public static final String AUTHORIZATION_KEY = "auth";
+    // 사용자 이메일 값의 KEY
+    public static final String EMAIL_KEY = "email";
     // Token 식별자
     public static final String BEARER_PREFIX = "Bearer ";
     // 토큰 만료시간
-    private final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    public static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
     //encoding decoding algorithm 선언
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
     @Value("${spring.jwt.secret.key}") // Base64 Encode 한 SecretKey
@@ -35,6 +50,15 @@ public class JwtUtil {
     private String secretKey;
     //키를 저장할 키클래스 필드선언
     private Key key;
+    // 검증 완료된 토큰 캐시 최대 크기
+    @Value("${spring.jwt.cache.max-size:10000}")
+    private long verifiedTokenCacheSize;
+    // 서명 키로 한 번만 생성해 재사용하는 parser (thread-safe)
+    private JwtParser jwtParser;
+    // 토큰 digest -> 검증된 Claims, 토큰 만료 시각까지만 보관
+    private Cache<String, Claims> verifiedTokenCache;
+    // 실패 원인별 토큰 검증 실패 카운터
+    private final Map<JwtParseResult.Failure, Counter> failureCounters = new EnumMap<>(JwtParseResult.Failure.class);
     @PostConstruct
     public void init() {
         //byte array 에 secretkey 를 base 64로 디코딩 한값을 저장
@@ -42,15 +66,46 @@ public class JwtUtil {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         //디코딩한 값을 가진 byte array 를 key 필드에 다시 저장
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, verifiedTokenCache, "jwt-verified-token");
+        for (JwtParseResult.Failure failure : JwtParseResult.Failure.values()) {
+            failureCounters.put(failure, Counter.builder("auth.token.failures")
+                    .description("토큰 검증 실패 수")
+                    .tag("cause", failure.name().toLowerCase())
+                    .register(Metrics.globalRegistry));
+        }
     }
     //JWT 생성
-    // 토큰 생성
-    public String createToken(Long userId) {
+    // 토큰 생성 - 권한과 이메일을 서명된 claim 으로 포함해 필터에서 DB 조회 없이 사용자 정보를 복원
+    public String createToken(Long userId, UserRoleEnum role, String email) {
         Date date = new Date();
         return BEARER_PREFIX +
                 //Jwts.builder 를 사용하여 토큰을 생성
                 Jwts.builder()
                         .setSubject(Long.toString(userId)) // 사용자 식별자값(ID)
+                        .claim(AUTHORIZATION_KEY, role.name()) // 사용자 권한
+                        .claim(EMAIL_KEY, email) // 사용자 이메일
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME)) // 만료 시간 = 현제시간 date.getTIME() + 만료시간 TOKEN_TIME
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘 (키 , 선택한 알고리즘)
@@ -90,22 +145,57 @@ public class JwtUtil {
         }
         throw new NullPointerException("Not Found Token");
     }
-    public boolean validateToken(String token) {
+    // 토큰 검증과 Claims 추출을 한 번에 수행 - 같은 토큰이 반복되면 서명 검증 없이 캐시된 Claims 반환
+    public JwtParseResult parseToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return failure(JwtParseResult.Failure.EMPTY);
+        }
+        String digest = digest(token);
+        Claims cached = verifiedTokenCache.getIfPresent(digest);
+        if (cached != null) {
+            return JwtParseResult.success(cached);
+        }
         try {//암호화할떄 사용한 키를 .setSigningkey , parseClaimsJws(token)은 받아와서 검증할 토큰
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                verifiedTokenCache.put(digest, claims);
+            }
+            return JwtParseResult.success(claims);
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
-            System.out.println("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
+            return failure(JwtParseResult.Failure.INVALID_SIGNATURE);
         } catch (ExpiredJwtException e) {
-            System.out.println("Expired JWT token, 만료된 JWT token 입니다.");
+            return failure(JwtParseResult.Failure.EXPIRED);
         } catch (UnsupportedJwtException e) {
-            System.out.println("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
+            return failure(JwtParseResult.Failure.UNSUPPORTED);
         } catch (IllegalArgumentException e) {
-            System.out.println("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
+            return failure(JwtParseResult.Failure.EMPTY);
+        }
+    }
+    private JwtParseResult failure(JwtParseResult.Failure failure) {
+        failureCounters.get(failure).increment();
+        return JwtParseResult.failure(failure);
+    }
+    public boolean validateToken(String token) {
+        JwtParseResult result = parseToken(token);
+        if (!result.isValid()) {
+            System.out.println(result.getFailure().getMessage());
         }
-        return false;
+        return result.isValid();
     }
     public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        JwtParseResult result = parseToken(token);
+        if (!result.isValid()) {
+            throw new IllegalArgumentException(result.getFailure().getMessage());
+        }
+        return result.getClaims();
+    }
+    // 캐시 키로 원본 토큰 대신 SHA-256 digest 사용
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -1,15 +1,130 @@
 package com.sparta.outsourcing.global.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
 @Component
 public class PasswordEncoder {
+    private static final int DEFAULT_COST = 10;
+    private static final String CALIBRATION_PASSWORD = "calibration-Password1!";
+
+    // 최소 cost (설정값)
+    @Value("${spring.bcrypt.cost:10}")
+    private int configuredCost;
+    // 보정 시 올라갈 수 있는 최대 cost
+    @Value("${spring.bcrypt.max-cost:14}")
+    private int maxCost;
+    // 해시 1회 목표 시간(ms), 0 이면 보정하지 않음
+    @Value("${spring.bcrypt.target-millis:0}")
+    private long targetMillis;
+    @Value("${spring.bcrypt.verify.pool-size:4}")
+    private int verifyPoolSize;
+    // 대기열은 작게 유지 - 검증을 기다리며 묶이는 요청 스레드는 최대 pool-size + queue-capacity 개
+    @Value("${spring.bcrypt.verify.queue-capacity:4}")
+    private int verifyQueueCapacity;
+    // 검증 결과 대기 상한(ms) - 넘으면 검증을 취소하고 429 로 실패
+    @Value("${spring.bcrypt.verify.timeout-ms:2000}")
+    private long verifyTimeoutMillis;
+
+    // 실제 해시에 사용하는 cost
+    private int cost = DEFAULT_COST;
+    // 비밀번호 검증 전용 풀 - 대기열이 가득 차면 즉시 거절해 요청 스레드가 검증 대기로 묶이지 않도록 함
+    private ThreadPoolExecutor verifyExecutor;
+
+    @PostConstruct
+    public void init() {
+        cost = calibrateCost();
+        AtomicInteger threadNumber = new AtomicInteger();
+        verifyExecutor = new ThreadPoolExecutor(verifyPoolSize, verifyPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(verifyQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-verify-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("BCrypt cost: {}, 검증 풀 크기: {}, 대기열: {}", cost, verifyPoolSize, verifyQueueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        verifyExecutor.shutdown();
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
     }
+
+    // 검증 풀이 포화 상태거나 대기 상한을 넘으면 RejectedExecutionException 으로 실패
     public boolean matches(String rawPassword, String encodedPassword) {
+        if (verifyExecutor == null) { // 스프링 빈으로 초기화되지 않은 경우 호출 스레드에서 검증
+            return verify(rawPassword, encodedPassword);
+        }
+        Future<Boolean> result = verifyExecutor.submit(() -> verify(rawPassword, encodedPassword));
+        try {
+            return result.get(verifyTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new RejectedExecutionException("비밀번호 검증 대기 시간을 초과했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 검증이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 검증에 실패했습니다.", e.getCause());
+        }
+    }
+
+    // 현재 cost 보다 낮은 cost 로 저장된 해시인지 확인
+    public boolean needsRehash(String encodedPassword) {
+        // bcrypt 해시 형식: $2a$10$...
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(3) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    private boolean verify(String rawPassword, String encodedPassword) {
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
         return result.verified;
     }
-}
\ No newline at end of file
+
+    // 설정된 cost 부터 해시 시간이 목표 시간에 도달할 때까지 cost 를 올림 (cost 1 증가 = 시간 약 2배)
+    private int calibrateCost() {
+        int calibrated = Math.max(configuredCost, BCrypt.MIN_COST);
+        if (targetMillis <= 0) {
+            return calibrated;
+        }
+        while (calibrated < maxCost) {
+            long start = System.nanoTime();
+            BCrypt.withDefaults().hash(calibrated, CALIBRATION_PASSWORD.toCharArray());
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsedMillis * 2 > targetMillis) {
+                break;
+            }
+            calibrated++;
+        }
+        return calibrated;
+    }
+}
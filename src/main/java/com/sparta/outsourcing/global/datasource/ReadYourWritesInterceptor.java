@@ -0,0 +1,32 @@
+package com.sparta.outsourcing.global.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+// 최근에 쓴 사용자의 요청이면 이 요청의 읽기 전용 트랜잭션도 primary 로 보냄
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+    private final ReadYourWritesTracker tracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute("userId") instanceof Long userId && tracker.isSticky(userId)) {
+            ReplicaRoutingContext.forcePrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRoutingContext.clear();
+    }
+
+    // 비동기 요청 (SSE, 내보내기) 은 afterCompletion 없이 요청 스레드를 반환하므로 여기서도 정리
+    // 비동기 결과를 처리하는 재디스패치에서는 preHandle 부터 다시 적용됨
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicaRoutingContext.clear();
+    }
+}
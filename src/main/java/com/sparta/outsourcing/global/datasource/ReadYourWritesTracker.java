@@ -0,0 +1,37 @@
+package com.sparta.outsourcing.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 방금 쓴 사용자의 읽기를 잠시 primary 로 보내기 위한 기록 (인스턴스 로컬)
+// 복제 지연 동안 본인이 만든 주문 / 변경한 상태가 목록에서 사라져 보이지 않도록 함
+@Component
+public class ReadYourWritesTracker {
+    private final boolean enabled;
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(@Value("${spring.datasource-replica.enabled:false}") boolean enabled,
+                                 @Value("${spring.datasource-replica.sticky-ms:5000}") long stickyMillis,
+                                 @Value("${spring.datasource-replica.sticky-max-users:100000}") long maxUsers) {
+        this.enabled = enabled;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(stickyMillis))
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    // 쓰기 커밋 이후 호출
+    public void markWrite(Long userId) {
+        if (enabled && userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isSticky(Long userId) {
+        return enabled && userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,77 @@
+package com.sparta.outsourcing.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+// replica 복제 지연 확인 - 지연이 maxLagMillis 를 넘거나 확인에 실패하면 읽기를 primary 로 돌림
+// lag-check: mysql (SHOW REPLICA STATUS 의 Seconds_Behind_Source), none (항상 최신으로 간주 - 로컬 H2 등)
+@Slf4j
+public class ReplicaLagMonitor {
+    static final long UNKNOWN = -1L;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagCheck;
+    private final long maxLagMillis;
+
+    private volatile long lagMillis;
+    private volatile boolean available = true;
+
+    public ReplicaLagMonitor(DataSource replica, String lagCheck, long maxLagMillis) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.lagCheck = lagCheck;
+        this.maxLagMillis = maxLagMillis;
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("replica 복제 지연 (ms, 확인 실패 시 -1)")
+                .baseUnit("milliseconds")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("db.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("replica 로 읽기를 보내는지 여부")
+                .register(Metrics.globalRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource-replica.lag-check-ms:5000}")
+    public void check() {
+        long lag;
+        try {
+            lag = measureLagMillis();
+        } catch (RuntimeException e) {
+            log.warn("replica 지연 확인 실패 - 읽기를 primary 로 전환: {}", e.getMessage());
+            lag = UNKNOWN;
+        }
+        update(lag);
+    }
+
+    void update(long lag) {
+        boolean nowAvailable = lag != UNKNOWN && lag <= maxLagMillis;
+        if (nowAvailable != available) {
+            log.info("replica 읽기 {} - 지연: {} ms (허용 {} ms)", nowAvailable ? "재개" : "중단", lag, maxLagMillis);
+        }
+        lagMillis = lag;
+        available = nowAvailable;
+    }
+
+    private long measureLagMillis() {
+        if ("none".equalsIgnoreCase(lagCheck)) {
+            replicaJdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return 0;
+        }
+        List<Map<String, Object>> rows = replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS");
+        if (rows.isEmpty()) {
+            return UNKNOWN;
+        }
+        // 복제가 멈추면 null
+        Object seconds = rows.get(0).get("Seconds_Behind_Source");
+        return seconds == null ? UNKNOWN : ((Number) seconds).longValue() * 1000;
+    }
+}
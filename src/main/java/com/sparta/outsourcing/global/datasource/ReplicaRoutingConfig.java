@@ -0,0 +1,58 @@
+package com.sparta.outsourcing.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+// spring.datasource-replica.enabled=true 일 때 primary (spring.datasource.*) / replica (spring.datasource-replica.*) 풀을 만들고
+// 읽기 전용 트랜잭션을 replica 로 라우팅 - DataSource 빈을 직접 만들므로 Boot 의 기본 DataSource 는 생성되지 않음
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource-replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // replica 접속 정보는 spring.datasource 와 같은 형식 (url, username, password, driver-class-name)
+    @Bean
+    @ConfigurationProperties("spring.datasource-replica.hikari")
+    public HikariDataSource replicaDataSource(Environment environment) {
+        DataSourceProperties properties = Binder.get(environment)
+                .bind("spring.datasource-replica", DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException("spring.datasource-replica 설정이 없습니다."));
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica, Environment environment) {
+        return new ReplicaLagMonitor(replica,
+                environment.getProperty("spring.datasource-replica.lag-check", "mysql"),
+                environment.getProperty("spring.datasource-replica.max-lag-ms", Long.class, 1000L));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor));
+    }
+}
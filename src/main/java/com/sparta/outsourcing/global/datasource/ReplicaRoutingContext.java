@@ -0,0 +1,21 @@
+package com.sparta.outsourcing.global.datasource;
+
+// 현재 요청의 읽기를 primary 로 고정할지 여부 (read-your-writes) - 요청 스레드 단위
+public final class ReplicaRoutingContext {
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void forcePrimary() {
+        PRIMARY_ONLY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_ONLY.get() != null;
+    }
+
+    public static void clear() {
+        PRIMARY_ONLY.remove();
+    }
+}
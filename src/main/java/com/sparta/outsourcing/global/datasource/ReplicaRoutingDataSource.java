@@ -0,0 +1,47 @@
+package com.sparta.outsourcing.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// 읽기 전용 트랜잭션은 replica, 그 외는 primary 로 보내는 DataSource
+// 트랜잭션 시작 시점에는 readOnly 표시가 아직 없으므로 LazyConnectionDataSourceProxy 로 감싸 첫 SQL 실행 때 결정해야 함
+// replica 가 지연 / 장애 상태이거나 read-your-writes 고정 중인 요청이면 읽기도 primary
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryRoutes = route(PRIMARY);
+    private final Counter replicaRoutes = route(REPLICA);
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReplicaRoutingContext.isPrimaryForced()
+                && lagMonitor.isAvailable()) {
+            replicaRoutes.increment();
+            return REPLICA;
+        }
+        primaryRoutes.increment();
+        return PRIMARY;
+    }
+
+    private static Counter route(String target) {
+        return Counter.builder("db.routing")
+                .description("DataSource 라우팅 결과")
+                .tag("target", target)
+                .register(Metrics.globalRegistry);
+    }
+}
@@ -1,7 +1,8 @@
 package com.sparta.outsourcing.global.filter;
 
-import com.sparta.outsourcing.domain.user.entity.User;
-import com.sparta.outsourcing.domain.user.repository.UserRepository;
+import com.sparta.outsourcing.domain.user.entity.UserRoleEnum;
+import com.sparta.outsourcing.domain.user.service.UserDenyList;
+import com.sparta.outsourcing.global.config.JwtParseResult;
 import com.sparta.outsourcing.global.config.JwtUtil;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.*;
@@ -15,10 +16,10 @@ import java.io.IOException;
 @Slf4j(topic = "AuthFilter")
 @Component
 public class AuthFilter implements Filter{
-    private final UserRepository userRepository;
+    private final UserDenyList userDenyList;
     private final JwtUtil jwtUtil;
-    public AuthFilter(UserRepository userRepository, JwtUtil jwtUtil) {
-        this.userRepository = userRepository;
+    public AuthFilter(UserDenyList userDenyList, JwtUtil jwtUtil) {
+        this.userDenyList = userDenyList;
         this.jwtUtil = jwtUtil;
     }
     @Override
@@ -26,7 +27,7 @@ public class AuthFilter implements Filter{
         HttpServletRequest httpServletRequest = (HttpServletRequest) request;
         String url = httpServletRequest.getRequestURI();
         if (StringUtils.hasText(url) &&
-                (url.equals("/api/user") || url.equals("/api/user/login"))
+                (url.equals("/api/user") || url.equals("/api/user/login") || isHealthCheck(url))
         ) {
             chain.doFilter(request, response); // 다음 Filter 로 이동
         } else {
@@ -36,24 +37,34 @@ public class AuthFilter implements Filter{
             if (StringUtils.hasText(tokenValue)) { // 토큰이 존재하면 검증 시작
                 // JWT 토큰 substring
                 String token = jwtUtil.substringToken(tokenValue);
-                // 토큰 검증
-                if (!jwtUtil.validateToken(token)) {
+                // 토큰 검증과 사용자 정보 추출을 한 번의 parse 로 처리
+                JwtParseResult result = jwtUtil.parseToken(token);
+                if (!result.isValid()) {
                     throw new IllegalArgumentException("Token Error");
                 }
-                // 토큰에서 사용자 정보 가져오기
-                Claims info = jwtUtil.getUserInfoFromToken(token);
+                // 토큰에서 사용자 정보 가져오기 - 서명 검증된 claim 만 사용하고 DB 는 조회하지 않음
+                Claims info = result.getClaims();
                 Long userId = Long.valueOf(info.getSubject());
-                User user = userRepository.findById(userId).orElseThrow(() -> {
-                            return new NullPointerException("사용자를 찾을 수 없습니다.");
-                        }
-                );
-                request.setAttribute("userId", user.getId());
-                request.setAttribute("userRole", user.getRole());
-                request.setAttribute("email", user.getEmail());
+                String role = info.get(JwtUtil.AUTHORIZATION_KEY, String.class);
+                if (role == null) {
+                    // 권한 claim 이 없는 이전 형식의 토큰은 재로그인 필요
+                    throw new IllegalArgumentException("Token Error");
+                }
+                if (userDenyList.isDenied(userId)) {
+                    throw new IllegalArgumentException("탈퇴한 사용자입니다.");
+                }
+                request.setAttribute("userId", userId);
+                request.setAttribute("userRole", UserRoleEnum.valueOf(role));
+                request.setAttribute("email", info.get(JwtUtil.EMAIL_KEY, String.class));
                 chain.doFilter(request, response);
             } else {
                 throw new IllegalArgumentException("토큰을 찾을 수 없습니다.");
             }
         }
     }
-}
\ No newline at end of file
+
+    // 헬스 체크만 인증 없이 허용 - 지표 (/actuator/prometheus) 는 관리 포트에서만 노출
+    private static boolean isHealthCheck(String url) {
+        return url.equals("/actuator/health") || url.startsWith("/actuator/health/");
+    }
+}
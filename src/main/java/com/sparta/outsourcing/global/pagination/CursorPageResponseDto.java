@@ -0,0 +1,27 @@
+package com.sparta.outsourcing.global.pagination;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorPageResponseDto<T> {
+    private final List<T> content;
+    private final String nextCursor; // 다음 페이지 요청 시 전달할 커서, 마지막 페이지면 null
+    private final boolean hasNext;
+
+    public CursorPageResponseDto(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    // size + 1 건을 조회한 결과로 페이지 생성 - 초과분이 있으면 다음 페이지 존재
+    public static <T> CursorPageResponseDto<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPageResponseDto<>(content, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,29 @@
+package com.sparta.outsourcing.global.pagination;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PageResponseDto<T> {
+    private final List<T> content;
+    private final int page;
+    private final int size;
+    private final long totalElements;
+    private final boolean hasNext;
+
+    public PageResponseDto(List<T> content, int page, int size, long totalElements) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.hasNext = (long) (page + 1) * size < totalElements;
+    }
+
+    // 정렬된 전체 결과에서 해당 페이지만 잘라서 생성
+    public static <T> PageResponseDto<T> slice(List<T> ranked, int page, int size) {
+        int from = (int) Math.min((long) page * size, ranked.size());
+        int to = Math.min(from + size, ranked.size());
+        return new PageResponseDto<>(List.copyOf(ranked.subList(from, to)), page, size, ranked.size());
+    }
+}
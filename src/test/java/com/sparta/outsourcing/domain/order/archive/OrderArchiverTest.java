@@ -0,0 +1,131 @@
+package com.sparta.outsourcing.domain.order.archive;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.order.dto.OrderResponseDto;
+import com.sparta.outsourcing.domain.order.entity.ArchivedOrder;
+import com.sparta.outsourcing.domain.order.entity.Order;
+import com.sparta.outsourcing.domain.order.entity.OrderItem;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.order.repository.ArchivedOrderRepository;
+import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.support.JpaFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.order.archive.enabled=true",
+        "spring.order.archive.retention-days=90",
+        "spring.order.archive.batch-size=1",
+        "spring.order.archive.pause-ms=0"
+})
+@Import({OrderArchiver.class, OrderArchiveHorizon.class})
+class OrderArchiverTest {
+    private static final LocalDateTime OLD = LocalDateTime.now().minusDays(200);
+    private static final LocalDateTime CUTOFF = LocalDateTime.now().minusDays(90);
+
+    @Autowired
+    private OrderArchiver archiver;
+
+    @Autowired
+    private OrderArchiveHorizon horizon;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long shopId;
+    private Long completedId;
+    private Long canceledId;
+
+    @BeforeEach
+    void setUp() {
+        Shop shop = JpaFixtures.shop(entityManager.getEntityManager());
+        Menu menu = JpaFixtures.menu(entityManager.getEntityManager(), shop);
+        shopId = shop.getId();
+
+        completedId = persistOrder(shop, menu, List.of(new OrderItem(menu.getId(), "치킨", 20000, 2)),
+                OrderStatus.COMPLETED, OLD, OLD.plusHours(1));
+        canceledId = persistOrder(shop, menu, null, OrderStatus.CANCELED, OLD.plusDays(1), OLD.plusDays(1));
+        // 리뷰가 달린 주문, 진행 중인 주문, 보관 기간이 지나지 않은 주문은 남음
+        Long reviewedId = persistOrder(shop, menu, null, OrderStatus.COMPLETED, OLD.plusDays(2), OLD.plusDays(2));
+        JpaFixtures.review(entityManager.getEntityManager(), entityManager.find(Order.class, reviewedId), 5, OLD.plusDays(2));
+        persistOrder(shop, menu, null, OrderStatus.IN_PROGRESS, OLD.plusDays(3), OLD.plusDays(3));
+        persistOrder(shop, menu, null, OrderStatus.COMPLETED, LocalDateTime.now().minusDays(1), LocalDateTime.now().minusDays(1));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 완료 / 취소 주문만 항목과 함께 보관 테이블로 이동")
+    void archive_movesTerminalOrders() {
+        long moved = archiver.archive(CUTOFF);
+        entityManager.clear();
+
+        assertEquals(2, moved);
+        assertEquals(3, orderRepository.count());
+        assertFalse(orderRepository.existsById(completedId));
+        assertFalse(orderRepository.existsById(canceledId));
+        ArchivedOrder archived = archivedOrderRepository.findById(completedId).orElseThrow();
+        assertEquals(OrderStatus.COMPLETED, archived.getOrderStatus());
+        assertEquals(shopId, archived.getShopId());
+        assertEquals(1, archived.getItems().size());
+        assertEquals(2, archived.getItems().get(0).getQuantity());
+        assertEquals(40000, archived.getTotalPrice());
+        assertEquals(0L, ((Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT COUNT(*) FROM order_items WHERE order_id = ?1")
+                .setParameter(1, completedId).getSingleResult()).longValue());
+
+        // 다시 실행해도 옮길 주문 없음
+        assertEquals(0, archiver.archive(CUTOFF));
+    }
+
+    @Test
+    @DisplayName("보관 경계는 보관된 최대 주문 시각과 보관 기간 중 늦은 시각, 경계 이후 범위는 보관 테이블을 보지 않음")
+    void horizon_coversArchivedOrders() {
+        archiver.archive(CUTOFF);
+
+        LocalDateTime boundary = horizon.get();
+        assertFalse(boundary.isBefore(OLD.plusDays(1)));
+        assertTrue(horizon.mayContain(null));
+        assertTrue(horizon.mayContain(OLD));
+        assertFalse(horizon.mayContain(LocalDateTime.now().minusDays(1)));
+
+        List<OrderResponseDto> page = archivedOrderRepository.findUserOrderPage(JpaFixtures.CUSTOMER_ID, null, null, null,
+                null, null, PageRequest.of(0, 10));
+        assertEquals(List.of(canceledId, completedId), page.stream().map(OrderResponseDto::getOrderId).toList());
+        assertEquals(OrderStatus.CANCELED,
+                archivedOrderRepository.findStatusSnapshot(canceledId).orElseThrow().getOrderStatus());
+    }
+
+    private Long persistOrder(Shop shop, Menu menu, List<OrderItem> items, OrderStatus status,
+                              LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        Order order = JpaFixtures.order(entityManager.getEntityManager(), JpaFixtures.CUSTOMER_ID, shop, menu, items);
+        order.changeOrderStatus(status);
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE orders SET created_at = ?1, modified_at = ?2 WHERE id = ?3")
+                .setParameter(1, createdAt)
+                .setParameter(2, modifiedAt)
+                .setParameter(3, order.getId())
+                .executeUpdate();
+        return order.getId();
+    }
+}
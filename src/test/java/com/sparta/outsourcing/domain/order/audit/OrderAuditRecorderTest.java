@@ -0,0 +1,120 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderAuditRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private OrderAuditRecorder recorder(JdbcTemplate jdbcTemplate, String sink) {
+        OrderAuditRecorder recorder = new OrderAuditRecorder(jdbcTemplate);
+        ReflectionTestUtils.setField(recorder, "sinkType", sink);
+        ReflectionTestUtils.setField(recorder, "capacity", 1024);
+        ReflectionTestUtils.setField(recorder, "batchSize", 64);
+        ReflectionTestUtils.setField(recorder, "filePath", tempDir.resolve("order-audit.log").toString());
+        ReflectionTestUtils.setField(recorder, "fileMaxBytes", 1_000_000L);
+        ReflectionTestUtils.setField(recorder, "fileMaxFiles", 3);
+        return recorder;
+    }
+
+    @Test
+    @DisplayName("file sink - 종료 시 남은 이벤트까지 JSON lines 로 기록")
+    void record_fileSink() throws Exception {
+        // given
+        OrderAuditRecorder recorder = recorder(null, "file");
+        recorder.start();
+
+        // when
+        recorder.record(OrderAuditType.CREATE_SUCCEEDED, 10L, 1L, 2L, null, null);
+        recorder.record(OrderAuditType.STATUS_CHANGE_FAILED, 10L, null, 3L, "DONE\"}", new IllegalStateException());
+        recorder.stop();
+
+        // then
+        List<String> lines = Files.readAllLines(tempDir.resolve("order-audit.log"));
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).matches("\\{\"ts\":\\d+,\"type\":\"CREATE_SUCCEEDED\",\"orderId\":10,\"shopId\":1,\"userId\":2}"));
+        assertTrue(lines.get(1).endsWith(",\"type\":\"STATUS_CHANGE_FAILED\",\"orderId\":10,\"userId\":3,"
+                + "\"status\":\"DONE??\",\"error\":\"IllegalStateException\"}"));
+    }
+
+    @Test
+    @DisplayName("file sink - 최대 크기를 넘으면 이전 파일을 밀어내고 최대 개수만 유지")
+    void fileSink_rollsBySize() throws IOException {
+        // given
+        Path path = tempDir.resolve("audit.log");
+        OrderAuditEvent[] batch = new OrderAuditEvent[1];
+        batch[0] = new OrderAuditEvent();
+        batch[0].set(OrderAuditType.CREATE_SUCCEEDED, 1L, 1L, 1L, 1L, null, null);
+
+        // when
+        try (FileOrderAuditSink sink = new FileOrderAuditSink(path, 100, 3)) {
+            for (int i = 0; i < 10; i++) {
+                sink.write(batch, 1);
+            }
+        }
+
+        // then
+        assertTrue(Files.size(path) <= 100);
+        assertTrue(Files.exists(tempDir.resolve("audit.log.1")));
+        assertTrue(Files.exists(tempDir.resolve("audit.log.2")));
+        assertFalse(Files.exists(tempDir.resolve("audit.log.3")));
+    }
+
+    @Test
+    @DisplayName("table sink - order_audit 테이블에 배치 INSERT")
+    void record_tableSink() throws Exception {
+        // given
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:audit;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE order_audit (id BIGINT AUTO_INCREMENT PRIMARY KEY, event_type VARCHAR(30) NOT NULL, "
+                + "occurred_at TIMESTAMP NOT NULL, order_id BIGINT, shop_id BIGINT, user_id BIGINT, "
+                + "order_status VARCHAR(50), error_type VARCHAR(100))");
+        OrderAuditRecorder recorder = recorder(jdbcTemplate, "table");
+        recorder.start();
+
+        // when
+        for (long orderId = 1; orderId <= 100; orderId++) {
+            recorder.record(OrderAuditType.STATUS_CHANGED, orderId, null, 5L, "ACCEPTED", null);
+        }
+        recorder.record(OrderAuditType.CREATE_FAILED, null, 1L, 5L, null, new IllegalArgumentException());
+        recorder.stop();
+
+        // then
+        try {
+            assertEquals(101, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_audit", Integer.class));
+            Map<String, Object> failed = jdbcTemplate.queryForMap("SELECT * FROM order_audit WHERE event_type = 'CREATE_FAILED'");
+            assertNull(failed.get("ORDER_ID"));
+            assertEquals("IllegalArgumentException", failed.get("ERROR_TYPE"));
+        } finally {
+            jdbcTemplate.execute("DROP TABLE order_audit");
+        }
+    }
+
+    @Test
+    @DisplayName("none sink - 기록하지 않음")
+    void record_noneSink() throws Exception {
+        // given
+        OrderAuditRecorder recorder = recorder(null, "none");
+        recorder.start();
+
+        // when
+        recorder.record(OrderAuditType.CREATE_SUCCEEDED, 1L, 1L, 1L, null, null);
+        recorder.stop();
+
+        // then
+        assertFalse(Files.exists(tempDir.resolve("order-audit.log")));
+    }
+}
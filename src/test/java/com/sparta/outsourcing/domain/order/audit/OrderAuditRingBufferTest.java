@@ -0,0 +1,116 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderAuditRingBufferTest {
+
+    private static OrderAuditEvent[] batch(int size) {
+        OrderAuditEvent[] batch = new OrderAuditEvent[size];
+        for (int i = 0; i < size; i++) {
+            batch[i] = new OrderAuditEvent();
+        }
+        return batch;
+    }
+
+    @Test
+    @DisplayName("버퍼 크기는 2의 거듭제곱으로 올림")
+    void capacity_roundedUpToPowerOfTwo() {
+        assertEquals(8, new OrderAuditRingBuffer(5).capacity());
+        assertEquals(8, new OrderAuditRingBuffer(8).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new OrderAuditRingBuffer(1));
+    }
+
+    @Test
+    @DisplayName("게시한 순서대로 읽고 읽은 만큼 다시 쓸 수 있음")
+    void drainTo_preservesOrderAndFreesSlots() {
+        // given
+        OrderAuditRingBuffer buffer = new OrderAuditRingBuffer(4);
+        OrderAuditEvent[] batch = batch(8);
+
+        // when
+        for (long orderId = 1; orderId <= 4; orderId++) {
+            assertTrue(buffer.publish(OrderAuditType.STATUS_CHANGED, 1000L, orderId, null, 7L, "ACCEPTED", null));
+        }
+        int first = buffer.drainTo(batch);
+        boolean republished = buffer.publish(OrderAuditType.STATUS_CHANGE_FAILED, 2000L, 5L, null, 7L, "DONE",
+                IllegalStateException.class);
+        int second = buffer.drainTo(batch);
+
+        // then
+        assertEquals(4, first);
+        assertTrue(republished);
+        assertEquals(1, second);
+        assertEquals(5L, batch[0].getOrderId());
+        assertEquals(OrderAuditType.STATUS_CHANGE_FAILED, batch[0].getType());
+        assertEquals(IllegalStateException.class, batch[0].getErrorType());
+        assertFalse(batch[0].hasShopId());
+        assertEquals(0, buffer.backlog());
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 기다리지 않고 버린 뒤 drop 카운트 증가")
+    void publish_dropsWhenFull() {
+        // given
+        OrderAuditRingBuffer buffer = new OrderAuditRingBuffer(2);
+
+        // when
+        buffer.publish(OrderAuditType.CREATE_SUCCEEDED, 1L, 1L, 1L, 1L, null, null);
+        buffer.publish(OrderAuditType.CREATE_SUCCEEDED, 1L, 2L, 1L, 1L, null, null);
+        boolean accepted = buffer.publish(OrderAuditType.CREATE_SUCCEEDED, 1L, 3L, 1L, 1L, null, null);
+
+        // then
+        assertFalse(accepted);
+        assertEquals(1, buffer.dropped());
+        assertEquals(2, buffer.published());
+        assertEquals(2, buffer.backlog());
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 게시해도 유실 / 중복 없이 한 번씩 읽힘")
+    void publish_concurrentProducers() throws InterruptedException {
+        // given
+        int producers = 4;
+        int perProducer = 20_000;
+        OrderAuditRingBuffer buffer = new OrderAuditRingBuffer(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            executor.submit(() -> {
+                for (long i = 0; i < perProducer; i++) {
+                    // 가득 차면 소비자가 비울 때까지 재시도
+                    while (!buffer.publish(OrderAuditType.CREATE_SUCCEEDED, 1L, base + i, null, null, null, null)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        Set<Long> seen = new HashSet<>();
+        OrderAuditEvent[] batch = batch(256);
+        while (seen.size() < producers * perProducer) {
+            int count = buffer.drainTo(batch);
+            for (int i = 0; i < count; i++) {
+                assertTrue(seen.add(batch[i].getOrderId()));
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(producers * perProducer, seen.size());
+        assertEquals(0, buffer.backlog());
+    }
+}
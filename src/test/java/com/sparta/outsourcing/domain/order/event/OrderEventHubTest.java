@@ -0,0 +1,180 @@
+package com.sparta.outsourcing.domain.order.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.outsourcing.domain.order.dto.OrderStatusSnapshot;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OrderEventHubTest {
+
+    private final List<SseEmitter> created = new ArrayList<>();
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private OrderEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        // 실제 연결 대신 mock emitter 를 만들어 전송 여부만 확인
+        hub = new OrderEventHub(new ObjectMapper().findAndRegisterModules(), orderRepository) {
+            @Override
+            SseEmitter createEmitter() {
+                SseEmitter emitter = mock(SseEmitter.class);
+                created.add(emitter);
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(hub, "maxSubscribers", 3);
+        ReflectionTestUtils.setField(hub, "senderPoolSize", 2);
+        ReflectionTestUtils.setField(hub, "senderQueueCapacity", 20);
+        hub.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    // 전송 스레드를 닫고 대기 중인 전송이 끝날 때까지 대기
+    @SuppressWarnings("unchecked")
+    private void awaitSent() {
+        List<ThreadPoolExecutor> senders = (List<ThreadPoolExecutor>) ReflectionTestUtils.getField(hub, "senders");
+        senders.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor sender : senders) {
+            assertDoesNotThrow(() -> assertTrue(sender.awaitTermination(1, TimeUnit.SECONDS)));
+        }
+    }
+
+    private OrderStatusEvent event(Long userId, Long shopId) {
+        return new OrderStatusEvent(10L, shopId, userId, OrderStatus.ACCEPTED, LocalDateTime.of(2024, 9, 24, 12, 0));
+    }
+
+    @Test
+    @DisplayName("주문 유저와 가게 구독자에게만 이벤트 전송")
+    void publish_routesByUserAndShop() throws IOException {
+        // given
+        SseEmitter user = hub.subscribeUser(1L);
+        SseEmitter shop = hub.subscribeShop(5L);
+        SseEmitter otherUser = hub.subscribeUser(2L);
+
+        // when
+        hub.publish(event(1L, 5L));
+        awaitSent();
+
+        // then
+        verify(user).send(any(SseEmitter.SseEventBuilder.class));
+        verify(shop).send(any(SseEmitter.SseEventBuilder.class));
+        verify(otherUser, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("구독자가 없으면 전송 작업을 만들지 않음")
+    void publish_noSubscribers() {
+        // when
+        hub.publish(event(1L, 5L));
+
+        // then
+        assertFalse(hub.hasSubscribers());
+        assertEquals(0, created.size());
+    }
+
+    @Test
+    @DisplayName("최대 구독자 수를 넘으면 거절하고, 연결이 끝나면 자리를 반환")
+    void subscribe_limitAndRelease() {
+        // given
+        hub.subscribeUser(1L);
+        hub.subscribeUser(1L);
+        hub.subscribeShop(5L);
+
+        // when & then
+        assertThrows(RejectedExecutionException.class, () -> hub.subscribeShop(5L));
+
+        ArgumentCaptor<Runnable> onCompletion = ArgumentCaptor.forClass(Runnable.class);
+        verify(created.get(2)).onCompletion(onCompletion.capture());
+        onCompletion.getValue().run();
+        assertDoesNotThrow(() -> hub.subscribeShop(5L));
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 연결은 구독에서 제거")
+    void publish_removesBrokenEmitter() throws IOException {
+        // given
+        SseEmitter broken = hub.subscribeUser(1L);
+        doThrow(new IOException("Broken pipe")).when(broken).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        hub.publish(event(1L, 5L));
+        awaitSent();
+
+        // then
+        verify(broken).completeWithError(any());
+        assertFalse(hub.hasSubscribers());
+    }
+
+    @Test
+    @DisplayName("같은 주문의 이벤트는 발행 순서대로 전송")
+    void publish_keepsOrderPerOrder() throws IOException {
+        // given
+        SseEmitter shop = hub.subscribeShop(5L);
+        List<String> sent = new ArrayList<>();
+        doAnswer(invocation -> {
+            invocation.getArgument(0, SseEmitter.SseEventBuilder.class).build()
+                    .forEach(part -> sent.add(String.valueOf(part.getData())));
+            return null;
+        }).when(shop).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            hub.publish(new OrderStatusEvent(10L, 5L, 1L, OrderStatus.ACCEPTED, LocalDateTime.of(2024, 9, 24, 12, 0)));
+            hub.publish(new OrderStatusEvent(10L, 5L, 1L, OrderStatus.IN_PROGRESS, LocalDateTime.of(2024, 9, 24, 12, 1)));
+        }
+        awaitSent();
+
+        // then
+        List<String> statuses = sent.stream()
+                .filter(data -> data.contains("orderStatus"))
+                .map(data -> data.contains("IN_PROGRESS") ? "IN_PROGRESS" : "ACCEPTED")
+                .toList();
+        assertEquals(10, statuses.size());
+        for (int i = 0; i < statuses.size(); i++) {
+            assertEquals(i % 2 == 0 ? "ACCEPTED" : "IN_PROGRESS", statuses.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("상태 전환 이벤트는 전송 스레드에서 대상을 조회해 전송, 구독자가 없으면 조회하지 않음")
+    void publishTransition_looksUpInSender() throws IOException {
+        // given
+        hub.publishTransition(10L, OrderStatus.ACCEPTED, LocalDateTime.of(2024, 9, 24, 12, 0));
+        SseEmitter user = hub.subscribeUser(1L);
+        when(orderRepository.findStatusSnapshot(10L))
+                .thenReturn(Optional.of(new OrderStatusSnapshot(OrderStatus.ACCEPTED, 7L, 5L, 1L)));
+
+        // when
+        hub.publishTransition(10L, OrderStatus.ACCEPTED, LocalDateTime.of(2024, 9, 24, 12, 0));
+        awaitSent();
+
+        // then
+        InOrder inOrder = inOrder(orderRepository, user);
+        inOrder.verify(orderRepository, times(1)).findStatusSnapshot(10L);
+        inOrder.verify(user).send(any(SseEmitter.SseEventBuilder.class));
+    }
+}
@@ -0,0 +1,208 @@
+package com.sparta.outsourcing.domain.order.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.order.archive.OrderArchiveHorizon;
+import com.sparta.outsourcing.domain.order.entity.Order;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.order.repository.ArchivedOrderRepository;
+import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.support.JpaFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class OrderExporterTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 9, 1, 12, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private OrderExporter exporter;
+    private Long shopId;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new OrderExporter(orderRepository, archivedOrderRepository,
+                new OrderArchiveHorizon(archivedOrderRepository, false, 90), transactionManager, objectMapper, 1);
+        Shop shop = JpaFixtures.shop(entityManager.getEntityManager());
+        Menu chicken = JpaFixtures.menu(entityManager.getEntityManager(), shop, "치킨, \"양념\"", 20000);
+        Menu formula = JpaFixtures.menu(entityManager.getEntityManager(), shop, "=SUM(A1)", 15000);
+        shopId = shop.getId();
+        // 생성 순서와 반대로 주문 시각 지정 - 내보내기는 주문 시각 오름차순
+        persistOrder(shop, chicken, BASE.plusHours(2));
+        persistOrder(shop, formula, BASE.plusHours(1));
+        persistOrder(shop, chicken, BASE);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("CSV 는 BOM / 헤더로 시작하고 주문 시각 순으로 기록, 쉼표 / 따옴표 / 수식 문자열은 이스케이프")
+    void write_csv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exporter.write(out, shopId, OrderExportFormat.CSV, null, null, null);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        String[] lines = csv.substring(1).split("\r\n");
+        assertEquals(3, rows);
+        assertEquals('\uFEFF', csv.charAt(0));
+        assertEquals(4, lines.length);
+        assertEquals("orderId,shopId,menuId,menuName,menuPrice,totalPrice,address,phoneNumber,orderStatus,orderTime", lines[0]);
+        assertTrue(lines[1].contains(",\"치킨, \"\"양념\"\"\",20000,20000,address,010-1234-5678,PENDING," + BASE));
+        assertTrue(lines[2].contains(",'=SUM(A1),15000,15000,"));
+        assertTrue(lines[3].endsWith("," + BASE.plusHours(2)));
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 한 줄에 주문 하나, 기간 필터는 [from, to)")
+    void write_ndjsonWithRange() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exporter.write(out, shopId, OrderExportFormat.NDJSON, OrderStatus.PENDING,
+                BASE.plusHours(1), BASE.plusHours(2));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, rows);
+        assertEquals(1, lines.length);
+        JsonNode order = objectMapper.readTree(lines[0]);
+        assertEquals("=SUM(A1)", order.get("menuName").asText());
+        assertEquals(shopId, order.get("shopId").asLong());
+        assertFalse(order.has("items"));
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 행마다 응답 스트림을 flush 하지 않음")
+    void write_ndjsonFlushesOnlyAtFinish() throws Exception {
+        AtomicInteger flushes = new AtomicInteger();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FilterOutputStream counting = new FilterOutputStream(out) {
+            @Override
+            public void flush() throws IOException {
+                flushes.incrementAndGet();
+                super.flush();
+            }
+        };
+
+        long rows = exporter.write(counting, shopId, OrderExportFormat.NDJSON, null, null, null);
+
+        assertEquals(3, rows);
+        assertEquals(3, out.toString(StandardCharsets.UTF_8).split("\n").length);
+        assertEquals(1, flushes.get());
+    }
+
+    @Test
+    @DisplayName("동시 내보내기 한도를 넘으면 거절하고, 앞선 내보내기가 끝나면 다시 허용")
+    void export_rejectsOverLimit() throws Exception {
+        StreamingResponseBody first = exporter.export(shopId, OrderExportFormat.CSV, null, null, null);
+
+        assertThrows(RejectedExecutionException.class,
+                () -> exporter.export(shopId, OrderExportFormat.CSV, null, null, null));
+        first.writeTo(new ByteArrayOutputStream());
+        assertNotNull(exporter.export(shopId, OrderExportFormat.CSV, null, null, null));
+    }
+
+    @Test
+    @DisplayName("본문이 실행되지 않고 요청이 끝나도 자리를 반환하고, 이후 본문이 실행되면 기록하지 않음")
+    void export_releasesOnRequestCompletion() throws Exception {
+        ServletRequestAttributes attributes =
+                new ServletRequestAttributes(new MockHttpServletRequest(), new MockHttpServletResponse());
+        RequestContextHolder.setRequestAttributes(attributes);
+        StreamingResponseBody abandoned;
+        try {
+            abandoned = exporter.export(shopId, OrderExportFormat.CSV, null, null, null);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // 응답 생성 중 예외 등으로 비동기 처리 없이 요청 종료
+        attributes.requestCompleted();
+
+        assertNotNull(exporter.export(shopId, OrderExportFormat.CSV, null, null, null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        abandoned.writeTo(out);
+        assertEquals(0, out.size());
+        assertThrows(RejectedExecutionException.class,
+                () -> exporter.export(shopId, OrderExportFormat.CSV, null, null, null));
+    }
+
+    @Test
+    @DisplayName("비동기 처리로 끝까지 내보낸 요청은 자리를 정확히 하나만 반환")
+    void export_asyncCompletionReleasesOnce() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request, response);
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setTaskExecutor(new TaskExecutorAdapter(Runnable::run));
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+        RequestContextHolder.setRequestAttributes(attributes);
+        StreamingResponseBody body;
+        try {
+            body = exporter.export(shopId, OrderExportFormat.CSV, null, null, null);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // StreamingResponseBody 반환값 처리와 같이 비동기 작업으로 본문 실행 후 요청 종료
+        asyncManager.startCallableProcessing(() -> {
+            body.writeTo(response.getOutputStream());
+            return null;
+        });
+        attributes.requestCompleted();
+        request.getAsyncContext().complete();
+
+        assertTrue(response.getContentAsString(StandardCharsets.UTF_8).contains("orderId,shopId"));
+        // 한도 (1) 만큼만 허용
+        assertNotNull(exporter.export(shopId, OrderExportFormat.CSV, null, null, null));
+        assertThrows(RejectedExecutionException.class,
+                () -> exporter.export(shopId, OrderExportFormat.CSV, null, null, null));
+    }
+
+    private void persistOrder(Shop shop, Menu menu, LocalDateTime createdAt) {
+        Order order = JpaFixtures.order(entityManager.getEntityManager(), shop, menu);
+        entityManager.flush();
+        entityManager.getEntityManager().createNativeQuery("UPDATE orders SET created_at = ?1 WHERE id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, order.getId())
+                .executeUpdate();
+    }
+}
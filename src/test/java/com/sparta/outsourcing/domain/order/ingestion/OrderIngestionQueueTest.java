@@ -0,0 +1,178 @@
+package com.sparta.outsourcing.domain.order.ingestion;
+
+import com.sparta.outsourcing.domain.order.dto.OrderResponseDto;
+import com.sparta.outsourcing.domain.order.entity.OrderItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderIngestionQueueTest {
+
+    private static final List<OrderItem> ITEMS = List.of(new OrderItem(1L, "메뉴1", 12000, 2), new OrderItem(2L, "메뉴2", 3000, 1));
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderIngestionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:ingestion;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT, shop_id BIGINT NOT NULL, "
+                + "menu_id BIGINT, menu_name VARCHAR(255), menu_price DOUBLE NOT NULL, total_price DOUBLE, address VARCHAR(255), "
+                + "phone_number VARCHAR(255), order_status VARCHAR(20), created_at TIMESTAMP, modified_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE order_items (order_id BIGINT NOT NULL, line_no INT NOT NULL, menu_id BIGINT NOT NULL, "
+                + "menu_name VARCHAR(255) NOT NULL, menu_price DOUBLE NOT NULL, quantity INT NOT NULL, PRIMARY KEY (order_id, line_no))");
+
+        queue = new OrderIngestionQueue(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        ReflectionTestUtils.setField(queue, "mode", "batched");
+        ReflectionTestUtils.setField(queue, "batchSize", 50);
+        ReflectionTestUtils.setField(queue, "queueCapacity", 1000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.stop();
+        jdbcTemplate.execute("DROP TABLE order_items");
+        jdbcTemplate.execute("DROP TABLE orders");
+    }
+
+    private PendingOrder pendingOrder(long userId) {
+        return new PendingOrder(userId, 1L, ITEMS, "address", "010-1234-5678", LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 주문은 배치 커밋 후 각자의 id 로 응답")
+    void submit_acknowledgesWithGeneratedIds() {
+        // given
+        queue.start();
+        List<PendingOrder> orders = new ArrayList<>();
+
+        // when
+        for (long userId = 1; userId <= 120; userId++) {
+            orders.add(queue.submit(pendingOrder(userId)));
+        }
+
+        // then
+        Set<Long> ids = new HashSet<>();
+        for (PendingOrder order : orders) {
+            OrderResponseDto response = order.getResult().join();
+            Long userId = jdbcTemplate.queryForObject("SELECT user_id FROM orders WHERE id = ?", Long.class, response.getOrderId());
+            assertEquals(order.getUserId(), userId);
+            assertEquals(27000, response.getTotalPrice());
+            ids.add(response.getOrderId());
+        }
+        assertEquals(120, ids.size());
+        assertEquals(120, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class));
+        assertEquals(240, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items", Integer.class));
+    }
+
+    @Test
+    @DisplayName("배치 저장 실패 시 주문별로 다시 저장해 잘못된 주문만 실패")
+    void flush_failsOnlyBrokenOrder() {
+        // given - 주소가 컬럼 길이를 넘는 주문 하나가 섞인 배치
+        PendingOrder first = pendingOrder(1L);
+        PendingOrder broken = new PendingOrder(2L, 1L, ITEMS, "a".repeat(300), "010-1234-5678", LocalDateTime.now());
+        PendingOrder last = pendingOrder(3L);
+
+        // when
+        queue.flush(List.of(first, broken, last));
+
+        // then
+        assertTrue(broken.getResult().isCompletedExceptionally());
+        for (PendingOrder order : List.of(first, last)) {
+            Long userId = jdbcTemplate.queryForObject("SELECT user_id FROM orders WHERE id = ?", Long.class,
+                    order.getResult().join().getOrderId());
+            assertEquals(order.getUserId(), userId);
+        }
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class));
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items", Integer.class));
+    }
+
+    @Test
+    @DisplayName("배치 저장 중 Error 가 나도 배치의 주문은 실패로 완료")
+    void flush_failsBatchOnError() {
+        // given
+        TransactionTemplate failing = mock(TransactionTemplate.class);
+        when(failing.execute(any())).thenThrow(new OutOfMemoryError("test"));
+        OrderIngestionQueue failingQueue = new OrderIngestionQueue(jdbcTemplate, failing);
+        PendingOrder order = pendingOrder(1L);
+
+        // when
+        failingQueue.flush(List.of(order));
+
+        // then
+        CompletionException exception = assertThrows(CompletionException.class, () -> order.getResult().join());
+        assertInstanceOf(OutOfMemoryError.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("writer 스레드가 인터럽트되면 남은 주문을 한 번 저장하고 종료, 이후 접수는 거절")
+    void drainLoop_exitsAfterInterrupt() throws InterruptedException {
+        // given
+        queue.start();
+        List<PendingOrder> orders = new ArrayList<>();
+        for (long userId = 1; userId <= 30; userId++) {
+            orders.add(queue.submit(pendingOrder(userId)));
+        }
+        Thread writer = (Thread) ReflectionTestUtils.getField(queue, "writer");
+
+        // when
+        writer.interrupt();
+        writer.join(5000);
+
+        // then
+        assertFalse(writer.isAlive());
+        orders.forEach(order -> assertNotNull(order.getResult().join().getOrderId()));
+        assertThrows(RejectedExecutionException.class, () -> queue.submit(pendingOrder(99L)));
+    }
+
+    @Test
+    @DisplayName("종료 시 저장하지 못한 주문은 실패로 완료되어 호출자가 무한히 기다리지 않음")
+    void stop_failsRemainingOrders() throws InterruptedException {
+        // given - 이미 멈춘 writer
+        ReflectionTestUtils.setField(queue, "queue", new ArrayBlockingQueue<PendingOrder>(10));
+        ReflectionTestUtils.setField(queue, "writer", new Thread(() -> { }));
+        ReflectionTestUtils.setField(queue, "running", true);
+        PendingOrder order = queue.submit(pendingOrder(1L));
+
+        // when
+        queue.stop();
+
+        // then
+        CompletionException exception = assertThrows(CompletionException.class, () -> order.getResult().join());
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        assertThrows(RejectedExecutionException.class, () -> queue.submit(pendingOrder(2L)));
+    }
+
+    @Test
+    @DisplayName("동기 모드에서는 대기열을 열지 않음")
+    void submit_rejectedWhenNotBatched() {
+        // given
+        ReflectionTestUtils.setField(queue, "mode", "sync");
+        queue.start();
+
+        // when & then
+        assertFalse(queue.isBatched());
+        assertThrows(RejectedExecutionException.class, () -> queue.submit(pendingOrder(1L)));
+    }
+}
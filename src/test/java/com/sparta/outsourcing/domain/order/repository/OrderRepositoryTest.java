@@ -0,0 +1,166 @@
+package com.sparta.outsourcing.domain.order.repository;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.order.dto.OrderResponseDto;
+import com.sparta.outsourcing.domain.order.dto.OrderStatusRow;
+import com.sparta.outsourcing.domain.order.entity.Order;
+import com.sparta.outsourcing.domain.order.entity.OrderItem;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.support.JpaFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50"
+})
+class OrderRepositoryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long shopId;
+    private Long menuId;
+    private Long userId;
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        Shop shop = JpaFixtures.shop(entityManager.getEntityManager());
+        Menu menu = JpaFixtures.menu(entityManager.getEntityManager(), shop);
+        for (int i = 0; i < 5; i++) {
+            JpaFixtures.order(entityManager.getEntityManager(), shop, menu);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        shopId = shop.getId();
+        menuId = menu.getId();
+        userId = JpaFixtures.CUSTOMER_ID;
+        ownerId = shop.getOwner().getId();
+    }
+
+    @Test
+    @DisplayName("가게 주문 페이지는 SQL 1회로 조회되고 엔티티를 로드하지 않음")
+    void findShopOrderPage_singleStatement() {
+        Statistics statistics = statistics();
+
+        List<OrderResponseDto> page = orderRepository.findShopOrderPage(shopId, null, null, null, null, null, PageRequest.of(0, 3));
+        page.forEach(order -> order.getMenuName());
+
+        assertEquals(3, page.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("커서 이후 페이지도 SQL 1회로 조회")
+    void findUserOrderPage_nextPageSingleStatement() {
+        List<OrderResponseDto> firstPage = orderRepository.findUserOrderPage(userId, null, null, null, null, null, PageRequest.of(0, 3));
+        OrderResponseDto last = firstPage.get(firstPage.size() - 1);
+        Statistics statistics = statistics();
+
+        List<OrderResponseDto> secondPage = orderRepository.findUserOrderPage(userId, null, null, null,
+                last.getOrderTime(), last.getOrderId(), PageRequest.of(0, 3));
+
+        assertEquals(2, secondPage.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("여러 항목 주문은 주문 INSERT 1회와 항목 배치 INSERT 1회로 저장")
+    void saveOrderWithItems_batchedLineInsert() {
+        List<OrderItem> items = List.of(
+                new OrderItem(menuId, "치킨", 20000, 2),
+                new OrderItem(menuId, "치킨", 20000, 1),
+                new OrderItem(menuId, "치킨", 20000, 3));
+        Statistics statistics = statistics();
+
+        Order order = orderRepository.save(new Order(userId, entityManager.getEntityManager().getReference(Shop.class, shopId),
+                entityManager.getEntityManager().getReference(Menu.class, menuId), items, "address", "010-1234-5678"));
+        entityManager.flush();
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        entityManager.clear();
+        Order saved = orderRepository.findById(order.getId()).orElseThrow();
+        assertEquals(3, saved.getItems().size());
+        assertEquals(120000, saved.getTotalPrice());
+    }
+
+    @Test
+    @DisplayName("상태 전환은 UPDATE 1회로 적용되고 같은 전환을 다시 시도하면 0건")
+    void transitionStatus_conditionalUpdate() {
+        Long orderId = orderRepository.findUserOrderPage(userId, null, null, null, null, null, PageRequest.of(0, 1))
+                .get(0).getOrderId();
+        Statistics statistics = statistics();
+
+        int first = orderRepository.transitionStatus(orderId, Set.of(OrderStatus.PENDING), OrderStatus.ACCEPTED, ownerId, LocalDateTime.now());
+        int second = orderRepository.transitionStatus(orderId, Set.of(OrderStatus.PENDING), OrderStatus.ACCEPTED, ownerId, LocalDateTime.now());
+
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(OrderStatus.ACCEPTED, orderRepository.findStatusSnapshot(orderId).orElseThrow().getOrderStatus());
+    }
+
+    @Test
+    @DisplayName("가게 사장이 아니면 상태 전환 0건")
+    void transitionStatus_notOwner() {
+        Long orderId = orderRepository.findUserOrderPage(userId, null, null, null, null, null, PageRequest.of(0, 1))
+                .get(0).getOrderId();
+
+        int updated = orderRepository.transitionStatus(orderId, Set.of(OrderStatus.PENDING), OrderStatus.ACCEPTED, userId, LocalDateTime.now());
+
+        assertEquals(0, updated);
+        assertEquals(ownerId, orderRepository.findStatusSnapshot(orderId).orElseThrow().getOwnerId());
+        assertEquals(OrderStatus.PENDING, orderRepository.findStatusSnapshot(orderId).orElseThrow().getOrderStatus());
+    }
+
+    @Test
+    @DisplayName("일괄 상태 변경은 잠금 조회 1회와 UPDATE 1회로 처리")
+    void bulkTransitionStatus_twoStatements() {
+        List<Long> orderIds = orderRepository.findShopOrderPage(shopId, null, null, null, null, null, PageRequest.of(0, 5))
+                .stream().map(OrderResponseDto::getOrderId).toList();
+        Statistics statistics = statistics();
+
+        List<OrderStatusRow> rows = orderRepository.findStatusRowsForUpdate(shopId, List.of(orderIds.get(0), orderIds.get(1), -1L));
+        int updated = orderRepository.bulkTransitionStatus(rows.stream().map(OrderStatusRow::getOrderId).toList(),
+                Set.of(OrderStatus.PENDING), OrderStatus.ACCEPTED, LocalDateTime.now());
+
+        assertEquals(2, rows.size());
+        assertEquals(2, updated);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, orderRepository.findShopOrderPage(shopId, OrderStatus.ACCEPTED, null, null, null, null, PageRequest.of(0, 5)).size());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
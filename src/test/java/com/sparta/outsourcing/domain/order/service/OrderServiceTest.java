@@ -1,18 +1,40 @@
 package com.sparta.outsourcing.domain.order.service;
 
-import com.sparta.outsourcing.domain.user.entity.User;
+import com.sparta.outsourcing.domain.menu.cache.MenuSnapshot;
+import com.sparta.outsourcing.domain.menu.cache.MenuSnapshotCache;
 import com.sparta.outsourcing.domain.menu.entity.Menu;
 import com.sparta.outsourcing.domain.menu.repository.MenuRepository;
+import com.sparta.outsourcing.domain.order.archive.OrderArchiveHorizon;
+import com.sparta.outsourcing.domain.order.dto.OrderBulkStatusRequestDto;
+import com.sparta.outsourcing.domain.order.dto.OrderBulkStatusResponseDto;
+import com.sparta.outsourcing.domain.order.dto.OrderItemRequestDto;
+import com.sparta.outsourcing.domain.order.dto.OrderPageRequestDto;
 import com.sparta.outsourcing.domain.order.dto.OrderRequestDto;
 import com.sparta.outsourcing.domain.order.dto.OrderResponseDto;
 import com.sparta.outsourcing.domain.order.dto.OrderStatusRequestDto;
+import com.sparta.outsourcing.domain.order.dto.OrderStatusRow;
+import com.sparta.outsourcing.domain.order.dto.OrderStatusSnapshot;
 import com.sparta.outsourcing.domain.order.entity.Order;
 import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.order.event.OrderEventHub;
+import com.sparta.outsourcing.domain.order.export.OrderExportFormat;
+import com.sparta.outsourcing.domain.order.export.OrderExporter;
+import com.sparta.outsourcing.domain.order.ingestion.OrderIngestionQueue;
+import com.sparta.outsourcing.domain.order.ingestion.PendingOrder;
+import com.sparta.outsourcing.domain.order.repository.ArchivedOrderRepository;
 import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import com.sparta.outsourcing.domain.sales.rollup.SalesRollupRecorder;
+import com.sparta.outsourcing.domain.shop.cache.ShopSnapshot;
+import com.sparta.outsourcing.domain.shop.cache.ShopSnapshotCache;
 import com.sparta.outsourcing.domain.shop.entity.Shop;
 import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
 import com.sparta.outsourcing.domain.user.dto.AuthUser;
 import com.sparta.outsourcing.domain.user.entity.UserRoleEnum;
+import com.sparta.outsourcing.global.datasource.ReadYourWritesTracker;
+import com.sparta.outsourcing.global.pagination.CursorPageResponseDto;
+import com.sparta.outsourcing.global.pagination.KeysetCursor;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,12 +44,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -43,22 +70,72 @@ class OrderServiceTest {
     @Mock
     private MenuRepository menuRepository;
 
+    @Mock
+    private ShopSnapshotCache shopSnapshotCache;
+
+    @Mock
+    private MenuSnapshotCache menuSnapshotCache;
+
+    @Mock
+    private OrderIngestionQueue orderIngestionQueue;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private OrderEventHub orderEventHub;
+
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Mock
+    private SalesRollupRecorder salesRollupRecorder;
+
+    @Mock
+    private OrderExporter orderExporter;
+
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Mock
+    private OrderArchiveHorizon orderArchiveHorizon;
+
     @InjectMocks
     private OrderService orderService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        // 트랜잭션 콜백은 바로 실행
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
-    private Shop shopIsNotOpening() {
-        Shop shop = mock(Shop.class);
+    private ShopSnapshot shopSnapshot(LocalTime opentime, LocalTime closetime, BigDecimal minOrderAmount) {
+        return new ShopSnapshot(1L, 1L, opentime, closetime, minOrderAmount, false);
+    }
 
-        // 영업시간 설정
-        when(shop.getOpentime()).thenReturn(LocalTime.now().plusHours(1));  // 현재 시간 이후로 opentime 설정
-        when(shop.getClosetime()).thenReturn(LocalTime.now().plusHours(2)); // 현재 시간 이후로 closetime 설정
+    private ShopSnapshot shopIsNotOpening() {
+        // 현재 시간 이후로 opentime / closetime 설정
+        return shopSnapshot(LocalTime.now().plusHours(1), LocalTime.now().plusHours(2), BigDecimal.valueOf(10000));
+    }
+
+    private MenuSnapshot menuSnapshot(BigDecimal price) {
+        return new MenuSnapshot(1L, 1L, "메뉴", price, "un_deletable");
+    }
 
-        return shop;
+    private OrderRequestDto orderRequest(Long shopId) {
+        return OrderRequestDto.builder()
+                .shopId(shopId)
+                .menuId(1L)
+                .address("address")
+                .phoneNumber("010-1234-5678")
+                .build();
+    }
+
+    private OrderResponseDto orderResponse(Long orderId, LocalDateTime orderTime) {
+        return new OrderResponseDto(orderId, 1L, 1L, "메뉴", 12000, 12000.0, "address", "010-1234-5678",
+                OrderStatus.PENDING, orderTime);
     }
 
     @Nested
@@ -66,65 +143,156 @@ class OrderServiceTest {
     class CreateOrderTests {
 
         @Test
-        @DisplayName("주문 생성 성공")
+        @DisplayName("주문 생성 성공 - 스냅샷으로 검증하고 가게 / 메뉴를 조회하지 않음")
         void createOrder_success() {
+            // given
+            Long shopId = 1L;
+            Long userId = 1L;
+            AuthUser authUser = new AuthUser(userId, UserRoleEnum.USER, "user@example.com");
+            OrderRequestDto orderRequestDto = orderRequest(shopId);
+
+            when(shopSnapshotCache.get(shopId))
+                    .thenReturn(shopSnapshot(LocalTime.MIN, LocalTime.MAX, BigDecimal.valueOf(10000)));
+            when(menuSnapshotCache.get(shopId, 1L)).thenReturn(menuSnapshot(BigDecimal.valueOf(12000)));
+            when(shopRepository.getReferenceById(shopId)).thenReturn(mock(Shop.class));
+            when(menuRepository.getReferenceById(1L)).thenReturn(mock(Menu.class));
+
+            // when
+            OrderResponseDto responseDto = orderService.createOrder(orderRequestDto, shopId, userId, authUser);
+
+            // then
+            assertNotNull(responseDto);
+            assertEquals("메뉴", responseDto.getMenuName());
+            assertEquals(12000, responseDto.getMenuPrice());
+            verify(orderRepository, times(1)).save(any(Order.class));
+            verify(shopRepository, never()).findById(any());
+            verify(menuRepository, never()).findByShopIdAndId(any(), any());
+            verify(readYourWritesTracker).markWrite(userId);
+        }
+
+        @Test
+        @DisplayName("주문 생성 성공 - 배치 모드는 대기열 커밋 응답을 반환하고 JPA 저장을 하지 않음")
+        void createOrder_success_batched() {
+            // given
+            Long shopId = 1L;
+            Long userId = 1L;
+            AuthUser authUser = new AuthUser(userId, UserRoleEnum.USER, "user@example.com");
+            OrderRequestDto orderRequestDto = orderRequest(shopId);
+
+            when(shopSnapshotCache.get(shopId))
+                    .thenReturn(shopSnapshot(LocalTime.MIN, LocalTime.MAX, BigDecimal.valueOf(10000)));
+            when(menuSnapshotCache.get(shopId, 1L)).thenReturn(menuSnapshot(BigDecimal.valueOf(12000)));
+            when(orderIngestionQueue.isBatched()).thenReturn(true);
+            // 배치 커밋 완료를 흉내냄
+            when(orderIngestionQueue.submit(any(PendingOrder.class))).thenAnswer(invocation -> {
+                PendingOrder pendingOrder = invocation.getArgument(0);
+                pendingOrder.getResult().complete(orderResponse(10L, pendingOrder.getCreatedAt()));
+                return pendingOrder;
+            });
+
+            // when
+            OrderResponseDto responseDto = orderService.createOrder(orderRequestDto, shopId, userId, authUser);
+
+            // then
+            assertEquals(10L, responseDto.getOrderId());
+            verify(orderRepository, never()).save(any(Order.class));
+            verify(orderEventHub, times(1)).publish(argThat(event ->
+                    event.getOrderId().equals(10L) && event.getOrderStatus() == OrderStatus.PENDING));
+            verify(transactionTemplate, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("주문 생성 실패 - 배치 커밋이 제한 시간 안에 끝나지 않으면 무한히 기다리지 않고 실패")
+        void createOrder_fail_batchedTimeout() {
+            // given
+            Long shopId = 1L;
+            Long userId = 1L;
+            AuthUser authUser = new AuthUser(userId, UserRoleEnum.USER, "user@example.com");
+            when(shopSnapshotCache.get(shopId))
+                    .thenReturn(shopSnapshot(LocalTime.MIN, LocalTime.MAX, BigDecimal.valueOf(10000)));
+            when(menuSnapshotCache.get(shopId, 1L)).thenReturn(menuSnapshot(BigDecimal.valueOf(12000)));
+            when(orderIngestionQueue.isBatched()).thenReturn(true);
+            when(orderIngestionQueue.getAwaitTimeoutMillis()).thenReturn(50L);
+            // 커밋되지 않는 배치
+            when(orderIngestionQueue.submit(any(PendingOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when & then
+            assertThrows(IllegalStateException.class, () ->
+                    orderService.createOrder(orderRequest(shopId), shopId, userId, authUser));
+            verify(orderEventHub, never()).publish(any());
+        }
+
+        @Test
+        @DisplayName("여러 항목 주문 성공 - 최소 주문 금액은 합계 기준으로 한 번만 확인")
+        void createOrder_success_multipleItems() {
             // given
             Long shopId = 1L;
             Long userId = 1L;
             AuthUser authUser = new AuthUser(userId, UserRoleEnum.USER, "user@example.com");
             OrderRequestDto orderRequestDto = OrderRequestDto.builder()
                     .shopId(shopId)
-                    .menuId(1L)
+                    .items(List.of(new OrderItemRequestDto(1L, 2), new OrderItemRequestDto(2L, 1)))
                     .address("address")
                     .phoneNumber("010-1234-5678")
                     .build();
 
-            Shop shop = mock(Shop.class);
-            Menu menu = mock(Menu.class);
-
-            when(shopRepository.findById(shopId)).thenReturn(Optional.of(shop));
-            when(menuRepository.findByShopIdAndId(shopId, 1L)).thenReturn(Optional.of(menu));
-
-            // 가게 영업 시간 및 최소 주문 금액 설정
-            when(shop.getOpentime()).thenReturn(LocalTime.of(0, 0));
-            when(shop.getClosetime()).thenReturn(LocalTime.of(23, 59));
-            when(shop.getMinOrderAmount()).thenReturn(BigDecimal.valueOf(10000));
-            when(menu.getPrice()).thenReturn(BigDecimal.valueOf(12000));
-
-            Order order = new Order(userId, shop, menu, "address", "010-1234-5678");
-            when(orderRepository.save(any(Order.class))).thenReturn(order);
+            // 각 메뉴 가격은 최소 주문 금액보다 작지만 합계(4000 * 2 + 3000)는 만족
+            when(shopSnapshotCache.get(shopId))
+                    .thenReturn(shopSnapshot(LocalTime.MIN, LocalTime.MAX, BigDecimal.valueOf(10000)));
+            when(menuSnapshotCache.get(shopId, 1L)).thenReturn(new MenuSnapshot(1L, shopId, "메뉴1", BigDecimal.valueOf(4000), "un_deletable"));
+            when(menuSnapshotCache.get(shopId, 2L)).thenReturn(new MenuSnapshot(2L, shopId, "메뉴2", BigDecimal.valueOf(3000), "un_deletable"));
+            when(shopRepository.getReferenceById(shopId)).thenReturn(mock(Shop.class));
+            when(menuRepository.getReferenceById(1L)).thenReturn(mock(Menu.class));
 
             // when
             OrderResponseDto responseDto = orderService.createOrder(orderRequestDto, shopId, userId, authUser);
 
             // then
-            assertNotNull(responseDto);
-            assertEquals(order.getId(), responseDto.getOrderId());
+            assertEquals(11000, responseDto.getTotalPrice());
+            assertEquals(2, responseDto.getItems().size());
+            assertEquals(2, responseDto.getItems().get(0).getQuantity());
             verify(orderRepository, times(1)).save(any(Order.class));
         }
 
         @Test
-        @DisplayName("주문 생성 실패 - 영업 시간이 아님")
-        void createOrder_fail_notOpen() {
+        @DisplayName("여러 항목 주문 실패 - 합계가 최소 주문 금액 미만")
+        void createOrder_fail_multipleItemsBelowMinimum() {
             // given
             Long shopId = 1L;
             Long userId = 1L;
             AuthUser authUser = new AuthUser(userId, UserRoleEnum.USER, "user@example.com");
             OrderRequestDto orderRequestDto = OrderRequestDto.builder()
                     .shopId(shopId)
-                    .menuId(1L)
+                    .items(List.of(new OrderItemRequestDto(1L, 1), new OrderItemRequestDto(2L, 1)))
                     .address("address")
                     .phoneNumber("010-1234-5678")
                     .build();
 
-            // 가게가 영업 중이 아닌 상태 설정
-            Shop shop = shopIsNotOpening();
-            when(shopRepository.findById(shopId)).thenReturn(Optional.of(shop));
+            when(shopSnapshotCache.get(shopId))
+                    .thenReturn(shopSnapshot(LocalTime.MIN, LocalTime.MAX, BigDecimal.valueOf(10000)));
+            when(menuSnapshotCache.get(shopId, 1L)).thenReturn(new MenuSnapshot(1L, shopId, "메뉴1", BigDecimal.valueOf(4000), "un_deletable"));
+            when(menuSnapshotCache.get(shopId, 2L)).thenReturn(new MenuSnapshot(2L, shopId, "메뉴2", BigDecimal.valueOf(3000), "un_deletable"));
 
-            Menu menu = mock(Menu.class);
-            when(menuRepository.findByShopIdAndId(shopId, 1L)).thenReturn(Optional.of(menu));
-            when(menu.getPrice()).thenReturn(BigDecimal.valueOf(15000));
-            when(shop.getMinOrderAmount()).thenReturn(BigDecimal.valueOf(10000));
+            // when & then
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                    orderService.createOrder(orderRequestDto, shopId, userId, authUser)
+            );
+            assertEquals("최소 주문 금액을 만족하지 않습니다.", exception.getMessage());
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("주문 생성 실패 - 영업 시간이 아님")
+        void createOrder_fail_notOpen() {
+            // given
+            Long shopId = 1L;
+            Long userId = 1L;
+            AuthUser authUser = new AuthUser(userId, UserRoleEnum.USER, "user@example.com");
+            OrderRequestDto orderRequestDto = orderRequest(shopId);
+
+            // 가게가 영업 중이 아닌 상태 설정
+            when(shopSnapshotCache.get(shopId)).thenReturn(shopIsNotOpening());
+            when(menuSnapshotCache.get(shopId, 1L)).thenReturn(menuSnapshot(BigDecimal.valueOf(15000)));
 
             // when & then
             IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
@@ -133,6 +301,27 @@ class OrderServiceTest {
             assertEquals("가게의 영업 시간이 아닙니다.", exception.getMessage());
         }
 
+        @Test
+        @DisplayName("주문 생성 실패 - 폐업한 가게")
+        void createOrder_fail_closedShop() {
+            // given
+            Long shopId = 1L;
+            Long userId = 1L;
+            AuthUser authUser = new AuthUser(userId, UserRoleEnum.USER, "user@example.com");
+            OrderRequestDto orderRequestDto = orderRequest(shopId);
+
+            when(shopSnapshotCache.get(shopId)).thenReturn(
+                    new ShopSnapshot(shopId, 1L, LocalTime.MIN, LocalTime.MAX, BigDecimal.valueOf(10000), true));
+            when(menuSnapshotCache.get(shopId, 1L)).thenReturn(menuSnapshot(BigDecimal.valueOf(12000)));
+
+            // when & then
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                    orderService.createOrder(orderRequestDto, shopId, userId, authUser)
+            );
+            assertEquals("폐업한 가게입니다.", exception.getMessage());
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
         @Test
         @DisplayName("주문 생성 실패 - 사장님 계정으로 주문 불가")
         void createOrder_fail_ownerCannotOrder() {
@@ -140,12 +329,7 @@ class OrderServiceTest {
             Long shopId = 1L;
             Long userId = 1L;
             AuthUser authUser = new AuthUser(userId, UserRoleEnum.OWNER, "owner@example.com");
-            OrderRequestDto orderRequestDto = OrderRequestDto.builder()
-                    .shopId(shopId)
-                    .menuId(1L)
-                    .address("address")
-                    .phoneNumber("010-1234-5678")
-                    .build();
+            OrderRequestDto orderRequestDto = orderRequest(shopId);
 
             // when & then
             assertThrows(SecurityException.class, () ->
@@ -160,14 +344,9 @@ class OrderServiceTest {
             Long shopId = 1L;
             Long userId = 1L;
             AuthUser authUser = new AuthUser(userId, UserRoleEnum.USER, "user@example.com");
-            OrderRequestDto orderRequestDto = OrderRequestDto.builder()
-                    .shopId(shopId)
-                    .menuId(1L)
-                    .address("address")
-                    .phoneNumber("010-1234-5678")
-                    .build();
+            OrderRequestDto orderRequestDto = orderRequest(shopId);
 
-            when(shopRepository.findById(shopId)).thenReturn(Optional.empty());
+            when(shopSnapshotCache.get(shopId)).thenThrow(new EntityNotFoundException("가게를 찾을 수 없습니다."));
 
             // when & then
             assertThrows(EntityNotFoundException.class, () ->
@@ -182,16 +361,12 @@ class OrderServiceTest {
             Long shopId = 1L;
             Long userId = 1L;
             AuthUser authUser = new AuthUser(userId, UserRoleEnum.USER, "user@example.com");
-            OrderRequestDto orderRequestDto = OrderRequestDto.builder()
-                    .shopId(shopId)
-                    .menuId(1L)
-                    .address("address")
-                    .phoneNumber("010-1234-5678")
-                    .build();
+            OrderRequestDto orderRequestDto = orderRequest(shopId);
 
-            Shop shop = mock(Shop.class);
-            when(shopRepository.findById(shopId)).thenReturn(Optional.of(shop));
-            when(menuRepository.findByShopIdAndId(shopId, 1L)).thenReturn(Optional.empty());
+            when(shopSnapshotCache.get(shopId))
+                    .thenReturn(shopSnapshot(LocalTime.MIN, LocalTime.MAX, BigDecimal.valueOf(10000)));
+            when(menuSnapshotCache.get(shopId, 1L))
+                    .thenThrow(new EntityNotFoundException("해당 가게에 메뉴가 존재하지 않습니다."));
 
             // when & then
             assertThrows(EntityNotFoundException.class, () ->
@@ -200,30 +375,38 @@ class OrderServiceTest {
         }
 
         @Test
-        @DisplayName("주문 생성 실패 - 메뉴 가격 또는 최소 주문 금액이 null")
-        void createOrder_fail_nullPriceOrMinOrderAmount() {
+        @DisplayName("주문 생성 실패 - 삭제된 메뉴")
+        void createOrder_fail_deletedMenu() {
             // given
             Long shopId = 1L;
             Long userId = 1L;
             AuthUser authUser = new AuthUser(userId, UserRoleEnum.USER, "user@example.com");
-            OrderRequestDto orderRequestDto = OrderRequestDto.builder()
-                    .shopId(shopId)
-                    .menuId(1L)
-                    .address("address")
-                    .phoneNumber("010-1234-5678")
-                    .build();
+            OrderRequestDto orderRequestDto = orderRequest(shopId);
 
-            Shop shop = mock(Shop.class);
-            Menu menu = mock(Menu.class);
-            when(shopRepository.findById(shopId)).thenReturn(Optional.of(shop));
-            when(menuRepository.findByShopIdAndId(shopId, orderRequestDto.getMenuId())).thenReturn(Optional.of(menu));
+            when(shopSnapshotCache.get(shopId))
+                    .thenReturn(shopSnapshot(LocalTime.MIN, LocalTime.MAX, BigDecimal.valueOf(10000)));
+            when(menuSnapshotCache.get(shopId, 1L))
+                    .thenReturn(new MenuSnapshot(1L, shopId, "메뉴", BigDecimal.valueOf(12000), "deleted"));
 
-            when(shop.getOpentime()).thenReturn(LocalTime.of(9, 0));
-            when(shop.getClosetime()).thenReturn(LocalTime.of(21, 0));
+            // when & then
+            assertThrows(EntityNotFoundException.class, () ->
+                    orderService.createOrder(orderRequestDto, shopId, userId, authUser)
+            );
+        }
+
+        @Test
+        @DisplayName("주문 생성 실패 - 메뉴 가격 또는 최소 주문 금액이 null")
+        void createOrder_fail_nullPriceOrMinOrderAmount() {
+            // given
+            Long shopId = 1L;
+            Long userId = 1L;
+            AuthUser authUser = new AuthUser(userId, UserRoleEnum.USER, "user@example.com");
+            OrderRequestDto orderRequestDto = orderRequest(shopId);
 
+            when(shopSnapshotCache.get(shopId))
+                    .thenReturn(shopSnapshot(LocalTime.of(9, 0), LocalTime.of(21, 0), BigDecimal.valueOf(10000)));
             // 메뉴 가격이 null인 경우
-            when(menu.getPrice()).thenReturn(null);
-            when(shop.getMinOrderAmount()).thenReturn(BigDecimal.valueOf(10000));
+            when(menuSnapshotCache.get(shopId, 1L)).thenReturn(menuSnapshot(null));
 
             // when & then
             IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
@@ -239,24 +422,11 @@ class OrderServiceTest {
             Long shopId = 1L;
             Long userId = 1L;
             AuthUser authUser = new AuthUser(userId, UserRoleEnum.USER, "user@example.com");
-            OrderRequestDto orderRequestDto = OrderRequestDto.builder()
-                    .shopId(shopId)
-                    .menuId(1L)
-                    .address("address")
-                    .phoneNumber("010-1234-5678")
-                    .build();
-
-            Shop shop = mock(Shop.class);
-            Menu menu = mock(Menu.class);
-
-            when(shopRepository.findById(shopId)).thenReturn(Optional.of(shop));
-            when(menuRepository.findByShopIdAndId(shopId, orderRequestDto.getMenuId())).thenReturn(Optional.of(menu));
+            OrderRequestDto orderRequestDto = orderRequest(shopId);
 
-            when(shop.getOpentime()).thenReturn(LocalTime.of(0, 0));
-            when(shop.getClosetime()).thenReturn(LocalTime.of(23, 59));
-
-            when(shop.getMinOrderAmount()).thenReturn(BigDecimal.valueOf(10000));
-            when(menu.getPrice()).thenReturn(BigDecimal.valueOf(5000));
+            when(shopSnapshotCache.get(shopId))
+                    .thenReturn(shopSnapshot(LocalTime.MIN, LocalTime.MAX, BigDecimal.valueOf(10000)));
+            when(menuSnapshotCache.get(shopId, 1L)).thenReturn(menuSnapshot(BigDecimal.valueOf(5000)));
 
             // when & then
             assertThrows(IllegalStateException.class, () ->
@@ -270,22 +440,13 @@ class OrderServiceTest {
     class UpdateOrderStatusTests {
 
         @Test
-        @DisplayName("주문 상태 변경 성공")
+        @DisplayName("주문 상태 변경 성공 - 조건부 UPDATE 1회, 사전 조회 없음")
         void updateOrderStatus_success() {
             // given
             Long orderId = 1L;
             Long ownerId = 1L;
-
-            Order order = mock(Order.class);
-            Shop shop = mock(Shop.class);
-            User owner = mock(User.class);
-
-            // Mock 객체 반환 값 설정
-            when(order.getShop()).thenReturn(shop);
-            when(shop.getOwner()).thenReturn(owner);
-            when(owner.getId()).thenReturn(ownerId);
-            when(order.getOrderStatus()).thenReturn(OrderStatus.PENDING);
-            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+            when(orderRepository.transitionStatus(eq(orderId), eq(Set.of(OrderStatus.PENDING)), eq(OrderStatus.ACCEPTED),
+                    eq(ownerId), any())).thenReturn(1);
 
             // when
             OrderStatusRequestDto orderStatusRequestDto = new OrderStatusRequestDto("ACCEPTED");
@@ -293,25 +454,82 @@ class OrderServiceTest {
 
             // then
             assertEquals("주문 상태가 성공적으로 변경되었습니다.", response);
-            verify(orderRepository, times(1)).save(order);
+            verify(orderRepository, never()).findById(any());
+            verify(orderRepository, never()).findStatusSnapshot(any());
+            verify(orderRepository, never()).save(any());
+            verify(salesRollupRecorder, never()).recordCompleted(any(), any());
         }
 
         @Test
-        @DisplayName("주문 상태 변경 실패 - 권한 없음")
-        void updateOrderStatus_fail_noPermission() {
+        @DisplayName("완료 전환 시 매출 집계에 반영")
+        void updateOrderStatus_completedRecordsSales() {
             // given
             Long orderId = 1L;
             Long ownerId = 1L;
+            when(orderRepository.transitionStatus(eq(orderId), eq(Set.of(OrderStatus.IN_PROGRESS)), eq(OrderStatus.COMPLETED),
+                    eq(ownerId), any())).thenReturn(1);
+
+            // when
+            orderService.updateOrderStatus(orderId, "COMPLETED", ownerId);
 
-            Order order = mock(Order.class);
-            Shop shop = mock(Shop.class);
-            User owner = mock(User.class);
+            // then
+            verify(salesRollupRecorder).recordCompleted(eq(List.of(orderId)), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("주문 상태 변경 성공 시 (이전 상태, 변경 상태) 전환 카운터 증가")
+        void updateOrderStatus_countsTransition() {
+            // given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            Metrics.addRegistry(registry);
+            try {
+                when(orderRepository.transitionStatus(eq(1L), any(), eq(OrderStatus.IN_PROGRESS), eq(1L), any())).thenReturn(1);
+
+                // when
+                orderService.updateOrderStatus(1L, "IN_PROGRESS", 1L);
+
+                // then
+                assertEquals(1.0, registry.get("orders.status.transitions")
+                        .tag("from", "ACCEPTED").tag("to", "IN_PROGRESS").counter().count());
+                assertEquals(0.0, registry.get("orders.status.transitions")
+                        .tag("from", "PENDING").tag("to", "ACCEPTED").counter().count());
+            } finally {
+                Metrics.removeRegistry(registry);
+            }
+        }
 
-            when(order.getShop()).thenReturn(shop);
-            when(shop.getOwner()).thenReturn(owner);
-            when(owner.getId()).thenReturn(2L);
+        @Test
+        @DisplayName("주문 상태 변경 성공 - 이벤트 대상 조회 없이 커밋 이후 전환 이벤트 발행")
+        void updateOrderStatus_publishesTransition() {
+            // given
+            when(orderRepository.transitionStatus(eq(1L), any(), eq(OrderStatus.ACCEPTED), eq(1L), any())).thenReturn(1);
 
-            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+            // when
+            orderService.updateOrderStatus(1L, "ACCEPTED", 1L);
+
+            // then
+            verify(orderEventHub, times(1)).publishTransition(eq(1L), eq(OrderStatus.ACCEPTED), any());
+            verify(orderRepository, never()).findStatusSnapshot(any());
+            verify(orderEventHub, never()).publish(any());
+        }
+
+        @Test
+        @DisplayName("주문 상태 변경 실패 - 주문 없음")
+        void updateOrderStatus_fail_notFound() {
+            // given
+            when(orderRepository.findStatusSnapshot(1L)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThrows(EntityNotFoundException.class, () -> orderService.updateOrderStatus(1L, "ACCEPTED", 1L));
+        }
+
+        @Test
+        @DisplayName("주문 상태 변경 실패 - 권한 없음")
+        void updateOrderStatus_fail_noPermission() {
+            // given
+            Long orderId = 1L;
+            Long ownerId = 1L;
+            givenStatusSnapshot(orderId, OrderStatus.PENDING, 2L);
 
             OrderStatusRequestDto orderStatusRequestDto = new OrderStatusRequestDto("ACCEPTED");
 
@@ -327,17 +545,7 @@ class OrderServiceTest {
             // given
             Long orderId = 1L;
             Long ownerId = 1L;
-
-            Order order = mock(Order.class);
-            Shop shop = mock(Shop.class);
-            User owner = mock(User.class);
-
-            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-            when(order.getShop()).thenReturn(shop);
-            when(shop.getOwner()).thenReturn(owner);
-            when(owner.getId()).thenReturn(ownerId);
-
-            when(order.getOrderStatus()).thenReturn(OrderStatus.COMPLETED);
+            givenStatusSnapshot(orderId, OrderStatus.COMPLETED, ownerId);
 
             OrderStatusRequestDto orderStatusRequestDto = new OrderStatusRequestDto("CANCELED");
 
@@ -350,22 +558,29 @@ class OrderServiceTest {
         }
 
         @Test
-        @DisplayName("주문 상태 변경 실패 - 취소된 주문은 상태 전환 불가")
-        void updateOrderStatus_fail_canceledOrder() {
+        @DisplayName("주문 상태 변경 실패 - 보관된 주문도 완료된 주문으로 거절")
+        void updateOrderStatus_fail_archivedOrder() {
             // given
             Long orderId = 1L;
             Long ownerId = 1L;
+            when(archivedOrderRepository.findStatusSnapshot(orderId))
+                    .thenReturn(Optional.of(new OrderStatusSnapshot(OrderStatus.COMPLETED, ownerId, 1L, 100L)));
 
-            Order order = mock(Order.class);
-            Shop shop = mock(Shop.class);
-            User owner = mock(User.class);
+            // when & then
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                    orderService.updateOrderStatus(orderId, "CANCELED", ownerId)
+            );
 
-            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-            when(order.getShop()).thenReturn(shop);
-            when(shop.getOwner()).thenReturn(owner);
-            when(owner.getId()).thenReturn(ownerId);
+            assertEquals("이미 완료된 주문의 상태는 변경할 수 없습니다.", exception.getMessage());
+        }
 
-            when(order.getOrderStatus()).thenReturn(OrderStatus.CANCELED);
+        @Test
+        @DisplayName("주문 상태 변경 실패 - 취소된 주문은 상태 전환 불가")
+        void updateOrderStatus_fail_canceledOrder() {
+            // given
+            Long orderId = 1L;
+            Long ownerId = 1L;
+            givenStatusSnapshot(orderId, OrderStatus.CANCELED, ownerId);
 
             // when & then
             IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
@@ -380,23 +595,76 @@ class OrderServiceTest {
         void testInvalidStatusTransition() {
             Long orderId = 1L;
             Long ownerId = 1L;
-
-            Order order = mock(Order.class);
-            Shop shop = mock(Shop.class);
-            User owner = mock(User.class);
-
-            when(order.getShop()).thenReturn(shop);
-            when(shop.getOwner()).thenReturn(owner);
-            when(owner.getId()).thenReturn(ownerId);
-            when(order.getOrderStatus()).thenReturn(OrderStatus.PENDING);
-
-            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+            givenStatusSnapshot(orderId, OrderStatus.PENDING, ownerId);
 
             assertThrows(IllegalArgumentException.class, () -> {
                 orderService.updateOrderStatus(orderId, "COMPLETED", ownerId);
             });
+        }
 
+        @Test
+        @DisplayName("동시에 같은 전환을 요청하면 먼저 적용된 요청만 성공하고 나머지는 충돌 결과")
+        void transitionOrderStatus_conflict() {
+            // given - 다른 요청이 먼저 ACCEPTED 로 변경해 조건부 UPDATE 가 0건
+            Long orderId = 1L;
+            Long ownerId = 1L;
+            givenStatusSnapshot(orderId, OrderStatus.ACCEPTED, ownerId);
 
+            // when
+            OrderTransitionResult result = orderService.transitionOrderStatus(orderId, OrderStatus.ACCEPTED, ownerId);
+
+            // then
+            assertEquals(OrderTransitionResult.Outcome.CONFLICT, result.getOutcome());
+            assertEquals(OrderStatus.ACCEPTED, result.getCurrentStatus());
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                    orderService.updateOrderStatus(orderId, "ACCEPTED", ownerId));
+            assertEquals("다른 요청에 의해 주문 상태가 이미 변경되었습니다.", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("일괄 상태 변경 - 허용된 주문만 UPDATE 1회로 변경하고 주문별 결과 반환")
+        void bulkUpdateOrderStatus_perOrderResults() {
+            // given
+            Long shopId = 1L;
+            Long ownerId = 1L;
+            when(shopSnapshotCache.get(shopId)).thenReturn(
+                    new ShopSnapshot(shopId, ownerId, LocalTime.of(9, 0), LocalTime.of(21, 0), BigDecimal.valueOf(10000), false));
+            when(orderRepository.findStatusRowsForUpdate(eq(shopId), any())).thenReturn(List.of(
+                    new OrderStatusRow(10L, 100L, OrderStatus.ACCEPTED),
+                    new OrderStatusRow(11L, 101L, OrderStatus.PENDING),
+                    new OrderStatusRow(12L, 102L, OrderStatus.ACCEPTED)));
+
+            // when
+            OrderBulkStatusResponseDto response = orderService.bulkUpdateOrderStatus(shopId, ownerId,
+                    new OrderBulkStatusRequestDto(List.of(12L, 10L, 11L, 99L, 10L), OrderStatus.IN_PROGRESS));
+
+            // then
+            assertEquals(2, response.getAppliedCount());
+            List<OrderBulkStatusResponseDto.Result> results = response.getResults();
+            assertEquals(List.of(12L, 10L, 11L, 99L), results.stream().map(OrderBulkStatusResponseDto.Result::getOrderId).toList());
+            assertEquals(OrderTransitionResult.Outcome.APPLIED, results.get(0).getOutcome());
+            assertEquals(OrderTransitionResult.Outcome.APPLIED, results.get(1).getOutcome());
+            assertEquals(OrderTransitionResult.Outcome.REJECTED, results.get(2).getOutcome());
+            assertEquals(OrderStatus.PENDING, results.get(2).getCurrentStatus());
+            assertEquals("현재 상태에서는 수락 또는 취소만 가능합니다.", results.get(2).getMessage());
+            assertEquals(OrderTransitionResult.Outcome.NOT_FOUND, results.get(3).getOutcome());
+            verify(orderRepository, times(1)).bulkTransitionStatus(eq(List.of(12L, 10L)), eq(Set.of(OrderStatus.ACCEPTED)),
+                    eq(OrderStatus.IN_PROGRESS), any());
+            verify(orderEventHub, times(1)).publish(argThat(event -> event.getOrderId().equals(12L) && event.getUserId().equals(102L)));
+            verify(orderEventHub, times(1)).publish(argThat(event -> event.getOrderId().equals(10L) && event.getUserId().equals(100L)));
+        }
+
+        @Test
+        @DisplayName("일괄 상태 변경 - 가게 소유자가 아니면 조회 없이 실패")
+        void bulkUpdateOrderStatus_fail_notOwner() {
+            // given
+            when(shopSnapshotCache.get(1L)).thenReturn(
+                    new ShopSnapshot(1L, 2L, LocalTime.of(9, 0), LocalTime.of(21, 0), BigDecimal.valueOf(10000), false));
+
+            // when & then
+            assertThrows(SecurityException.class, () -> orderService.bulkUpdateOrderStatus(1L, 1L,
+                    new OrderBulkStatusRequestDto(List.of(10L), OrderStatus.ACCEPTED)));
+            verify(orderRepository, never()).findStatusRowsForUpdate(any(), any());
         }
 
         @Test
@@ -406,21 +674,13 @@ class OrderServiceTest {
             Long shopId = 1L;
             Long ownerId = 1L;
 
-            // Mock 객체 생성
-            Shop shop = mock(Shop.class);
-            User owner = mock(User.class);
-            Order order = mock(Order.class);
-            Menu menu = mock(Menu.class);
-
-            // Mock 반환 값 설정
-            when(shopRepository.findById(shopId)).thenReturn(Optional.of(shop));
-            when(shop.getOwner()).thenReturn(owner);
-            when(owner.getId()).thenReturn(ownerId);
-            when(order.getShop()).thenReturn(shop);
-            when(order.getMenu()).thenReturn(menu);
+            // 가게 스냅샷 반환 값 설정
+            when(shopSnapshotCache.get(shopId)).thenReturn(
+                    new ShopSnapshot(shopId, ownerId, LocalTime.of(9, 0), LocalTime.of(21, 0), BigDecimal.valueOf(10000), false));
 
             // 주문 리스트 반환
-            when(orderRepository.findByShopId(shopId)).thenReturn(List.of(order));
+            when(orderRepository.findShopOrderPage(eq(shopId), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(List.of(orderResponse(1L, LocalDateTime.now())));
 
             // when
             List<OrderResponseDto> orderResponseDtos = orderService.getShopOrders(shopId, ownerId);
@@ -428,7 +688,7 @@ class OrderServiceTest {
             // then
             assertNotNull(orderResponseDtos);
             assertEquals(1, orderResponseDtos.size());
-            verify(orderRepository, times(1)).findByShopId(shopId);
+            verify(orderRepository, times(1)).findShopOrderPage(eq(shopId), any(), any(), any(), any(), any(), any());
         }
 
         @Test
@@ -437,12 +697,8 @@ class OrderServiceTest {
             // given
             Long shopId = 1L;
             Long ownerId = 1L;
-            Shop shop = mock(Shop.class);
-            User owner = mock(User.class);
-
-            when(shopRepository.findById(shopId)).thenReturn(Optional.of(shop));
-            when(shop.getOwner()).thenReturn(owner);
-            when(owner.getId()).thenReturn(2L);
+            when(shopSnapshotCache.get(shopId)).thenReturn(
+                    new ShopSnapshot(shopId, 2L, LocalTime.of(9, 0), LocalTime.of(21, 0), BigDecimal.valueOf(10000), false));
 
             // when & then
             SecurityException exception = assertThrows(SecurityException.class, () ->
@@ -452,24 +708,44 @@ class OrderServiceTest {
             assertEquals("가게 소유자가 아닙니다.", exception.getMessage());
         }
 
+        @Test
+        @DisplayName("가게 주문 내보내기 실패 - 가게 소유자가 아님")
+        void exportShopOrders_fail_notOwner() {
+            // given
+            when(shopSnapshotCache.get(1L)).thenReturn(
+                    new ShopSnapshot(1L, 2L, LocalTime.of(9, 0), LocalTime.of(21, 0), BigDecimal.valueOf(10000), false));
+
+            // when & then
+            assertThrows(SecurityException.class, () ->
+                    orderService.exportShopOrders(1L, 1L, OrderExportFormat.CSV, null, null, null));
+            verify(orderExporter, never()).export(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("가게 주문 내보내기 실패 - 시작 시각이 종료 시각 이후")
+        void exportShopOrders_fail_invalidRange() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            when(shopSnapshotCache.get(1L)).thenReturn(
+                    new ShopSnapshot(1L, 1L, LocalTime.of(9, 0), LocalTime.of(21, 0), BigDecimal.valueOf(10000), false));
+
+            // when & then
+            assertThrows(IllegalArgumentException.class, () ->
+                    orderService.exportShopOrders(1L, 1L, OrderExportFormat.NDJSON, null, now, now.minusDays(1)));
+            verify(orderExporter, never()).export(any(), any(), any(), any(), any());
+        }
+
         @Test
         @DisplayName("사용자 주문 조회 성공")
         void getUserOrders_success() {
             // given
             Long userId = 1L;
 
-            Order order1 = mock(Order.class);
-            Order order2 = mock(Order.class);
-            Menu menu = mock(Menu.class);
-            Shop shop = mock(Shop.class);
-
-            when(order1.getShop()).thenReturn(shop);
-            when(order1.getMenu()).thenReturn(menu);
-            when(order2.getShop()).thenReturn(shop);
-            when(order2.getMenu()).thenReturn(menu);
+            LocalDateTime now = LocalDateTime.now();
 
             // 주문 리스트 반환
-            when(orderRepository.findByUserId(userId)).thenReturn(List.of(order1, order2));
+            when(orderRepository.findUserOrderPage(eq(userId), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(List.of(orderResponse(2L, now), orderResponse(1L, now.minusMinutes(1))));
 
             // when
             List<OrderResponseDto> orderResponseDtos = orderService.getUserOrders(userId);
@@ -477,33 +753,83 @@ class OrderServiceTest {
             // then
             assertNotNull(orderResponseDtos);
             assertEquals(2, orderResponseDtos.size());
-            verify(orderRepository, times(1)).findByUserId(userId);
+            verify(orderRepository, times(1)).findUserOrderPage(eq(userId), any(), any(), any(), any(), any(), any());
         }
-    }
-    @Nested@DisplayName("주문 상태 전환 테스트")class OrderStatusTransitionTests {
 
         @Test
-        @DisplayName("잘못된 상태 전환 시 적절한 에러 메시지 반환")
-        void testInvalidStatusTransitionMessage() {
+        @DisplayName("사용자 주문 페이지 조회 - 다음 페이지가 있으면 마지막 주문 기준 커서 반환")
+        void getUserOrderPage_hasNext() {
             // given
-            Long orderId = 1L;
-            Long ownerId = 1L;
+            Long userId = 1L;
+            LocalDateTime now = LocalDateTime.of(2024, 9, 24, 12, 0);
+            // size + 1 건 조회
+            when(orderRepository.findUserOrderPage(eq(userId), any(), any(), any(), any(), any(), eq(PageRequest.of(0, 2))))
+                    .thenReturn(List.of(orderResponse(2L, now), orderResponse(1L, now.minusMinutes(1))));
 
-            Order order = mock(Order.class);
-            Shop shop = mock(Shop.class);
-            User owner = mock(User.class);
+            // when
+            CursorPageResponseDto<OrderResponseDto> page = orderService.getUserOrderPage(userId,
+                    OrderPageRequestDto.builder().size(1).build());
 
-            when(order.getShop()).thenReturn(shop);
-            when(shop.getOwner()).thenReturn(owner);
-            when(owner.getId()).thenReturn(ownerId);
+            // then
+            assertEquals(1, page.getContent().size());
+            assertTrue(page.isHasNext());
+            KeysetCursor cursor = KeysetCursor.decode(page.getNextCursor());
+            assertEquals(now, cursor.getTime());
+            assertEquals(2L, cursor.getId());
+        }
+
+        @Test
+        @DisplayName("사용자 주문 페이지 조회 - 최근 주문이 부족하면 보관된 주문과 합쳐 주문 시각 순으로 반환")
+        void getUserOrderPage_mergesArchivedOrders() {
+            // given
+            Long userId = 1L;
+            LocalDateTime now = LocalDateTime.of(2024, 9, 24, 12, 0);
+            when(orderArchiveHorizon.get()).thenReturn(now.minusDays(90));
+            when(orderRepository.findUserOrderPage(eq(userId), any(), any(), any(), any(), any(), eq(PageRequest.of(0, 3))))
+                    .thenReturn(List.of(orderResponse(10L, now)));
+            when(archivedOrderRepository.findUserOrderPage(eq(userId), any(), any(), any(), any(), any(), eq(PageRequest.of(0, 3))))
+                    .thenReturn(List.of(orderResponse(2L, now.minusDays(100)), orderResponse(1L, now.minusDays(200))));
+
+            // when
+            CursorPageResponseDto<OrderResponseDto> page = orderService.getUserOrderPage(userId,
+                    OrderPageRequestDto.builder().size(2).build());
+
+            // then
+            assertEquals(List.of(10L, 2L), page.getContent().stream().map(OrderResponseDto::getOrderId).toList());
+            assertTrue(page.isHasNext());
+            assertEquals(2L, KeysetCursor.decode(page.getNextCursor()).getId());
+        }
 
-            // 상태가 PENDING인 경우
-            when(order.getOrderStatus()).thenReturn(OrderStatus.PENDING);
-            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        @Test
+        @DisplayName("사용자 주문 페이지 조회 - 조회 범위가 보관 경계 이후이면 보관 테이블을 조회하지 않음")
+        void getUserOrderPage_skipsArchiveAfterHorizon() {
+            // given
+            Long userId = 1L;
+            LocalDateTime now = LocalDateTime.of(2024, 9, 24, 12, 0);
+            when(orderArchiveHorizon.get()).thenReturn(now.minusDays(90));
+            when(orderRepository.findUserOrderPage(eq(userId), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(List.of(orderResponse(10L, now)));
+
+            // when
+            orderService.getUserOrderPage(userId, OrderPageRequestDto.builder().from(now.minusDays(7)).build());
+
+            // then
+            verify(archivedOrderRepository, never()).findUserOrderPage(any(), any(), any(), any(), any(), any(), any());
+        }
+    }
+    @Nested
+    @DisplayName("주문 상태 전환 테스트")
+    class OrderStatusTransitionTests {
+
+        @Test
+        @DisplayName("잘못된 상태 전환 시 적절한 에러 메시지 반환")
+        void testInvalidStatusTransitionMessage() {
+            // given - 상태가 PENDING인 경우
+            givenStatusSnapshot(1L, OrderStatus.PENDING, 1L);
 
             // when & then
             IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-                orderService.updateOrderStatus(orderId, "COMPLETED", ownerId);
+                orderService.updateOrderStatus(1L, "COMPLETED", 1L);
             });
 
             assertEquals("현재 상태에서는 수락 또는 취소만 가능합니다.", exception.getMessage());
@@ -512,25 +838,12 @@ class OrderServiceTest {
         @Test
         @DisplayName("수락된 주문은 진행 중으로만 전환 가능")
         void testAcceptedToInProgress() {
-            // given
-            Long orderId = 1L;
-            Long ownerId = 1L;
-
-            Order order = mock(Order.class);
-            Shop shop = mock(Shop.class);
-            User owner = mock(User.class);
-
-            when(order.getShop()).thenReturn(shop);
-            when(shop.getOwner()).thenReturn(owner);
-            when(owner.getId()).thenReturn(ownerId);
-
-            // 상태가 ACCEPTED인 경우
-            when(order.getOrderStatus()).thenReturn(OrderStatus.ACCEPTED);
-            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+            // given - 상태가 ACCEPTED인 경우
+            givenStatusSnapshot(1L, OrderStatus.ACCEPTED, 1L);
 
             // when & then
             IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-                orderService.updateOrderStatus(orderId, "COMPLETED", ownerId);
+                orderService.updateOrderStatus(1L, "COMPLETED", 1L);
             });
 
             assertEquals("주문이 수락된 상태입니다. 진행 중으로 변경만 가능합니다.", exception.getMessage());
@@ -539,26 +852,12 @@ class OrderServiceTest {
         @Test
         @DisplayName("진행 중인 주문은 완료로만 전환 가능")
         void testInProgressToCompleted() {
-            // given
-            Long orderId = 1L;
-            Long ownerId = 1L;
-
-            Order order = mock(Order.class);
-            Shop shop = mock(Shop.class);
-            User owner = mock(User.class);
-
-            // Mock 반환 값 설정
-            when(order.getShop()).thenReturn(shop);
-            when(shop.getOwner()).thenReturn(owner);
-            when(owner.getId()).thenReturn(ownerId);
-
-            // 상태가 IN_PROGRESS인 경우
-            when(order.getOrderStatus()).thenReturn(OrderStatus.IN_PROGRESS);
-            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+            // given - 상태가 IN_PROGRESS인 경우
+            givenStatusSnapshot(1L, OrderStatus.IN_PROGRESS, 1L);
 
             // when & then
             IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-                orderService.updateOrderStatus(orderId, "CANCELED", ownerId);
+                orderService.updateOrderStatus(1L, "CANCELED", 1L);
             });
 
             assertEquals("주문이 진행 중인 상태입니다. 완료만 가능합니다.", exception.getMessage());
@@ -567,26 +866,12 @@ class OrderServiceTest {
         @Test
         @DisplayName("완료된 주문은 상태를 변경할 수 없음")
         void testCompletedOrder() {
-            // given
-            Long orderId = 1L;
-            Long ownerId = 1L;
-
-            Order order = mock(Order.class);
-            Shop shop = mock(Shop.class);
-            User owner = mock(User.class);
-
-            // Mock 반환 값 설정
-            when(order.getShop()).thenReturn(shop);
-            when(shop.getOwner()).thenReturn(owner);
-            when(owner.getId()).thenReturn(ownerId);
-
-            // 상태가 COMPLETED인 경우
-            when(order.getOrderStatus()).thenReturn(OrderStatus.COMPLETED);
-            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+            // given - 상태가 COMPLETED인 경우
+            givenStatusSnapshot(1L, OrderStatus.COMPLETED, 1L);
 
             // when & then
             IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
-                orderService.updateOrderStatus(orderId, "PENDING", ownerId);
+                orderService.updateOrderStatus(1L, "PENDING", 1L);
             });
 
             assertEquals("이미 완료된 주문의 상태는 변경할 수 없습니다.", exception.getMessage());
@@ -595,30 +880,32 @@ class OrderServiceTest {
         @Test
         @DisplayName("취소된 주문은 상태를 변경할 수 없음")
         void testCanceledOrder() {
-            // given
-            Long orderId = 1L;
-            Long ownerId = 1L;
-
-            Order order = mock(Order.class);
-            Shop shop = mock(Shop.class);
-            User owner = mock(User.class);
-
-            // Mock 반환 값 설정
-            when(order.getShop()).thenReturn(shop);
-            when(shop.getOwner()).thenReturn(owner);
-            when(owner.getId()).thenReturn(ownerId);
-
-            // 상태가 CANCELED인 경우
-            when(order.getOrderStatus()).thenReturn(OrderStatus.CANCELED);
-            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+            // given - 상태가 CANCELED인 경우
+            givenStatusSnapshot(1L, OrderStatus.CANCELED, 1L);
 
             // when & then
             IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
-                orderService.updateOrderStatus(orderId, "PENDING", ownerId);
+                orderService.updateOrderStatus(1L, "PENDING", 1L);
             });
 
             assertEquals("취소된 주문의 상태는 변경할 수 없습니다.", exception.getMessage());
         }
+
+        @Test
+        @DisplayName("전환 표 - 이전 상태 목록은 허용된 전환과 일치")
+        void allowedPrevious_matchesTransitionTable() {
+            for (OrderStatus from : OrderStatus.values()) {
+                for (OrderStatus to : OrderStatus.values()) {
+                    assertEquals(from.canTransitionTo(to), to.allowedPrevious().contains(from));
+                }
+            }
+            assertEquals(Set.of(OrderStatus.PENDING), OrderStatus.ACCEPTED.allowedPrevious());
+            assertTrue(OrderStatus.PENDING.allowedPrevious().isEmpty());
+        }
     }
 
+    // 조건부 UPDATE 가 0건일 때 원인 확인용 조회 결과
+    private void givenStatusSnapshot(Long orderId, OrderStatus status, Long ownerId) {
+        when(orderRepository.findStatusSnapshot(orderId)).thenReturn(Optional.of(new OrderStatusSnapshot(status, ownerId, 1L, 100L)));
+    }
 }
@@ -0,0 +1,100 @@
+package com.sparta.outsourcing.domain.review.repository;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.order.entity.Order;
+import com.sparta.outsourcing.domain.review.dto.ReviewResponseDto;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.support.JpaFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReviewRepositoryTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long shopId;
+
+    @BeforeEach
+    void setUp() {
+        EntityManager em = entityManager.getEntityManager();
+        Shop shop = JpaFixtures.shop(em);
+        Menu menu = JpaFixtures.menu(em, shop);
+        // 별점 1,2,3,4,5,1,2,... 순서로 10건, 두 건씩 같은 시각
+        for (int i = 0; i < 10; i++) {
+            Order order = JpaFixtures.order(em, shop, menu);
+            JpaFixtures.review(em, order, i % 5 + 1, BASE_TIME.plusMinutes(i / 2));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        shopId = shop.getId();
+    }
+
+    @Test
+    @DisplayName("리뷰 페이지는 SQL 1회로 조회되고 엔티티를 로드하지 않음")
+    void findShopReviewPage_singleStatement() {
+        Statistics statistics = statistics();
+
+        List<ReviewResponseDto> page = reviewRepository.findShopReviewPage(shopId, 1, 5, null, null, PageRequest.of(0, 4));
+
+        assertEquals(4, page.size());
+        assertEquals(BASE_TIME.plusMinutes(4), page.get(0).getReviewTime());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("같은 시각의 리뷰도 커서로 빠짐없이, 중복 없이 이어서 조회")
+    void findShopReviewPage_walksAllPagesWithRatingFilter() {
+        List<Long> seen = new ArrayList<>();
+        LocalDateTime cursorTime = null;
+        Long cursorId = null;
+        while (true) {
+            List<ReviewResponseDto> page = reviewRepository.findShopReviewPage(shopId, 4, 5, cursorTime, cursorId, PageRequest.of(0, 1));
+            if (page.isEmpty()) {
+                break;
+            }
+            ReviewResponseDto last = page.get(page.size() - 1);
+            seen.add(last.getReviewId());
+            cursorTime = last.getReviewTime();
+            cursorId = last.getReviewId();
+        }
+
+        // 4, 5점 리뷰는 10건 중 4건
+        assertEquals(4, seen.size());
+        assertEquals(4, seen.stream().distinct().count());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,84 @@
+package com.sparta.outsourcing.domain.review.repository;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.review.entity.ShopRatingSummary;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.support.JpaFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class ShopRatingSummaryRepositoryTest {
+
+    @Autowired
+    private ShopRatingSummaryRepository shopRatingSummaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long shopId;
+
+    @BeforeEach
+    void setUp() {
+        EntityManager em = entityManager.getEntityManager();
+        Shop shop = JpaFixtures.shop(em);
+        Menu menu = JpaFixtures.menu(em, shop);
+        for (int rating : new int[]{5, 5, 4, 1}) {
+            JpaFixtures.review(em, JpaFixtures.order(em, shop, menu), rating, null);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        shopId = shop.getId();
+    }
+
+    @Test
+    @DisplayName("reviews 테이블 집계 - 리뷰 수, 합계, 별점별 리뷰 수")
+    void aggregateFromReviews() {
+        ShopRatingSummary summary = shopRatingSummaryRepository.aggregateFromReviews(shopId).orElseThrow();
+
+        assertEquals(4, summary.getReviewCount());
+        assertEquals(15, summary.getRatingSum());
+        assertEquals(1, summary.getRating1());
+        assertEquals(0, summary.getRating3());
+        assertEquals(2, summary.getRating5());
+        assertTrue(shopRatingSummaryRepository.aggregateFromReviews(shopId + 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("증가 UPDATE 는 해당 별점 칸만 증가시키고, 집계 행이 없으면 0건")
+    void increment() {
+        assertEquals(0, shopRatingSummaryRepository.increment(shopId, 3));
+
+        shopRatingSummaryRepository.save(shopRatingSummaryRepository.aggregateFromReviews(shopId).orElseThrow());
+        entityManager.flush();
+        assertEquals(1, shopRatingSummaryRepository.increment(shopId, 3));
+        entityManager.clear();
+
+        ShopRatingSummary summary = shopRatingSummaryRepository.findById(shopId).orElseThrow();
+        assertEquals(5, summary.getReviewCount());
+        assertEquals(18, summary.getRatingSum());
+        assertEquals(1, summary.getRating3());
+        assertEquals(2, summary.getRating5());
+    }
+
+    @Test
+    @DisplayName("집계 행 INSERT 는 같은 가게 행이 이미 있으면 중복 키로 실패")
+    void insert_duplicateShop() {
+        ShopRatingSummary summary = shopRatingSummaryRepository.aggregateFromReviews(shopId).orElseThrow();
+
+        assertEquals(1, shopRatingSummaryRepository.insert(summary));
+        assertThrows(DataIntegrityViolationException.class, () -> shopRatingSummaryRepository.insert(summary));
+        entityManager.clear();
+        assertEquals(15, shopRatingSummaryRepository.findById(shopId).orElseThrow().getRatingSum());
+    }
+}
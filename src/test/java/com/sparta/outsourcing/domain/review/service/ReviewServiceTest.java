@@ -3,12 +3,20 @@ package com.sparta.outsourcing.domain.review.service;
 import com.sparta.outsourcing.domain.order.entity.Order;
 import com.sparta.outsourcing.domain.order.entity.OrderStatus;
 import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import com.sparta.outsourcing.domain.review.dto.ReviewPageRequestDto;
 import com.sparta.outsourcing.domain.review.dto.ReviewRequestDto;
 import com.sparta.outsourcing.domain.review.dto.ReviewResponseDto;
+import com.sparta.outsourcing.domain.review.dto.ShopRatingSummaryResponseDto;
 import com.sparta.outsourcing.domain.review.entity.Review;
+import com.sparta.outsourcing.domain.review.entity.ShopRatingSummary;
 import com.sparta.outsourcing.domain.review.repository.ReviewRepository;
+import com.sparta.outsourcing.domain.review.repository.ShopRatingSummaryRepository;
+import com.sparta.outsourcing.domain.shop.cache.ShopSnapshot;
+import com.sparta.outsourcing.domain.shop.cache.ShopSnapshotCache;
 import com.sparta.outsourcing.domain.shop.entity.Shop;
 import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
+import com.sparta.outsourcing.global.pagination.CursorPageResponseDto;
+import com.sparta.outsourcing.global.pagination.KeysetCursor;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +25,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -39,11 +52,25 @@ class ReviewServiceTest {
     @Mock
     private ShopRepository shopRepository;
 
+    @Mock
+    private ShopRatingSummaryRepository shopRatingSummaryRepository;
+
+    @Mock
+    private ShopSnapshotCache shopSnapshotCache;
+
+    @Mock
+    private ShopRatingSummaryCreator shopRatingSummaryCreator;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
     }
 
+    // 별점별 리뷰 수로 집계 생성
+    private ShopRatingSummary summary(Long shopId, long r1, long r2, long r3, long r4, long r5) {
+        return new ShopRatingSummary(shopId, r1 + r2 + r3 + r4 + r5, r1 + 2 * r2 + 3 * r3 + 4 * r4 + 5 * r5, r1, r2, r3, r4, r5);
+    }
+
     @Nested
     @DisplayName("리뷰 생성 테스트")
     class CreateReviewTests {
@@ -70,6 +97,7 @@ class ReviewServiceTest {
 
             Review review = mock(Review.class);
             when(reviewRepository.save(any(Review.class))).thenReturn(review);  // 리뷰 저장 시 mock 리턴
+            when(shopRatingSummaryRepository.increment(shopId, 5)).thenReturn(1);  // 집계 행 있음
 
             // when
             ReviewResponseDto response = reviewService.createReview(orderId, reviewRequestDto, userId);
@@ -79,6 +107,59 @@ class ReviewServiceTest {
             assertEquals(5, response.getRating());
             assertEquals("Excellent!", response.getReviewContent());
             verify(reviewRepository, times(1)).save(any(Review.class));
+            verify(shopRatingSummaryRepository, times(1)).increment(shopId, 5);
+            verify(shopRatingSummaryCreator, never()).create(any());
+        }
+
+        @Test
+        @DisplayName("리뷰 생성 시 별점 집계가 없으면 집계 행을 만든 뒤 반영")
+        void createReview_createsMissingSummary() {
+            // given
+            Long orderId = 1L;
+            Long userId = 1L;
+            Long shopId = 1L;
+            Order order = mock(Order.class);
+            Shop shop = mock(Shop.class);
+            when(order.getUserId()).thenReturn(userId);
+            when(order.getOrderStatus()).thenReturn(OrderStatus.COMPLETED);
+            when(order.getShop()).thenReturn(shop);
+            when(shop.getId()).thenReturn(shopId);
+            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+            when(shopRatingSummaryRepository.increment(shopId, 3)).thenReturn(0, 1);  // 처음에는 집계 행 없음
+
+            // when
+            reviewService.createReview(orderId, new ReviewRequestDto(3, "보통"), userId);
+
+            // then
+            verify(shopRatingSummaryCreator, times(1)).create(shopId);
+            verify(shopRatingSummaryRepository, times(2)).increment(shopId, 3);
+        }
+
+        @Test
+        @DisplayName("리뷰 생성 시 다른 리뷰가 먼저 집계 행을 만들었으면 그 행에 반영하고 리뷰 작성은 성공")
+        void createReview_summaryCreatedConcurrently() {
+            // given
+            Long orderId = 1L;
+            Long userId = 1L;
+            Long shopId = 1L;
+            Order order = mock(Order.class);
+            Shop shop = mock(Shop.class);
+            when(order.getUserId()).thenReturn(userId);
+            when(order.getOrderStatus()).thenReturn(OrderStatus.COMPLETED);
+            when(order.getShop()).thenReturn(shop);
+            when(shop.getId()).thenReturn(shopId);
+            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+            when(shopRatingSummaryRepository.increment(shopId, 4)).thenReturn(0, 1);
+            when(shopRatingSummaryCreator.create(shopId)).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+            // when
+            ReviewResponseDto response = reviewService.createReview(orderId, new ReviewRequestDto(4, "좋아요"), userId);
+
+            // then
+            assertEquals(4, response.getRating());
+            verify(shopRatingSummaryRepository, times(2)).increment(shopId, 4);
         }
 
         @Test
@@ -198,7 +279,7 @@ class ReviewServiceTest {
             // given
             Long shopId = 1L;
             when(shopRepository.findById(shopId)).thenReturn(Optional.of(mock(Shop.class)));
-            when(reviewRepository.findByShopIdAndRatingBetweenOrderByReviewTimeDesc(shopId, 1, 5)).thenReturn(new ArrayList<>()); // 빈 리스트
+            when(shopRatingSummaryRepository.findById(shopId)).thenReturn(Optional.of(ShopRatingSummary.empty(shopId))); // 리뷰 0건
 
             // when & then
             IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -212,19 +293,17 @@ class ReviewServiceTest {
         void getShopReviews_noReviewsInRatingRange_throwsIllegalArgumentException() {
             // given
             Long shopId = 1L;
-            List<Review> allReviews = new ArrayList<>();
-            allReviews.add(mock(Review.class));  // 가게에 리뷰는 있지만 범위 내에는 없음
-
             when(shopRepository.findById(shopId)).thenReturn(Optional.of(mock(Shop.class)));
-            when(reviewRepository.findByShopIdAndRatingBetweenOrderByReviewTimeDesc(shopId, 1, 5)).thenReturn(allReviews);  // 가게에 리뷰 존재
-            when(reviewRepository.findByShopIdAndRatingBetweenOrderByReviewTimeDesc(shopId, 4, 5)).thenReturn(new ArrayList<>());  // 범위 내 리뷰 없음
+            // 가게에 리뷰는 있지만 4~5점 범위에는 없음
+            when(shopRatingSummaryRepository.findById(shopId)).thenReturn(Optional.of(summary(shopId, 1, 2, 3, 0, 0)));
 
             // when & then
             IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                     () -> reviewService.getShopReviews(shopId, 4, 5));
 
-            // 예외 메시지 확인
+            // 예외 메시지 확인 - 리뷰 목록은 조회하지 않음
             assertEquals("해당 범위 내 리뷰가 존재하지 않습니다.", exception.getMessage());
+            verify(reviewRepository, never()).findShopReviewPage(any(), anyInt(), anyInt(), any(), any(), any());
         }
 
         @Test
@@ -233,22 +312,25 @@ class ReviewServiceTest {
             // given
             Long shopId = 1L;
             Shop shop = mock(Shop.class);
-            Review review = mock(Review.class);
-            List<Review> reviews = new ArrayList<>();
-            reviews.add(review);
+            List<ReviewResponseDto> rows = new ArrayList<>();
+            for (long id = 21; id >= 1; id--) {  // 첫 페이지 크기(20) + 1건
+                rows.add(new ReviewResponseDto(id, 1L, 5, "리뷰", LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id)));
+            }
 
             when(shopRepository.findById(shopId)).thenReturn(Optional.of(shop));
-            when(reviewRepository.findByShopIdAndRatingBetweenOrderByReviewTimeDesc(shopId, 1, 5)).thenReturn(reviews);
+            when(shopRatingSummaryRepository.findById(shopId)).thenReturn(Optional.of(summary(shopId, 0, 0, 0, 0, 21)));
+            when(reviewRepository.findShopReviewPage(shopId, 1, 5, null, null, PageRequest.of(0, 21))).thenReturn(rows);
 
             // when
-            List<ReviewResponseDto> response = reviewService.getShopReviews(shopId, null, null);
+            CursorPageResponseDto<ReviewResponseDto> response = reviewService.getShopReviews(shopId, null, null);
 
             // then
-            assertNotNull(response);
-            assertFalse(response.isEmpty());
+            assertEquals(20, response.getContent().size());
+            assertTrue(response.isHasNext());
+            assertNotNull(response.getNextCursor());
 
-            // verify that the method is called twice: once for checking if reviews exist, and once for getting reviews in the rating range
-            verify(reviewRepository, times(2)).findByShopIdAndRatingBetweenOrderByReviewTimeDesc(shopId, 1, 5);
+            // 존재 여부는 집계로 확인하므로 리뷰 목록은 한 번만 조회
+            verify(reviewRepository, times(1)).findShopReviewPage(any(), anyInt(), anyInt(), any(), any(), any());
         }
 
         @Test
@@ -279,4 +361,110 @@ class ReviewServiceTest {
             assertEquals("최소 별점은 최대 별점보다 클 수 없습니다.", exception.getMessage());
         }
     }
+
+    @Nested
+    @DisplayName("리뷰 페이지 조회 테스트")
+    class GetReviewPageTests {
+        @Test
+        @DisplayName("커서 이후 페이지 조회 - 커서 위치와 별점 범위로 조회")
+        void getShopReviewPage_nextPage() {
+            // given
+            Long shopId = 1L;
+            LocalDateTime cursorTime = LocalDateTime.of(2024, 1, 1, 12, 0);
+            String cursor = new KeysetCursor(cursorTime, 10L).encode();
+            List<ReviewResponseDto> rows = List.of(
+                    new ReviewResponseDto(9L, 1L, 4, "리뷰", cursorTime.minusMinutes(1)),
+                    new ReviewResponseDto(8L, 1L, 5, "리뷰", cursorTime.minusMinutes(2)));
+            when(shopRepository.existsById(shopId)).thenReturn(true);
+            when(reviewRepository.findShopReviewPage(shopId, 4, 5, cursorTime, 10L, PageRequest.of(0, 3))).thenReturn(rows);
+
+            // when
+            CursorPageResponseDto<ReviewResponseDto> page = reviewService.getShopReviewPage(shopId, ReviewPageRequestDto.builder()
+                    .minRating(4)
+                    .cursor(cursor)
+                    .size(2)
+                    .build());
+
+            // then
+            assertEquals(2, page.getContent().size());
+            assertFalse(page.isHasNext());
+            assertNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 예외 발생")
+        void getShopReviewPage_invalidCursor() {
+            // when & then
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> reviewService.getShopReviewPage(1L, ReviewPageRequestDto.builder().cursor("not-a-cursor").build()));
+
+            assertEquals("잘못된 페이지 커서입니다.", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("가게가 존재하지 않을 때 예외 발생")
+        void getShopReviewPage_shopNotFound() {
+            // given
+            when(shopRepository.existsById(1L)).thenReturn(false);
+
+            // when & then
+            assertThrows(EntityNotFoundException.class,
+                    () -> reviewService.getShopReviewPage(1L, ReviewPageRequestDto.builder().build()));
+        }
+    }
+
+    @Nested
+    @DisplayName("별점 집계 테스트")
+    class RatingSummaryTests {
+        @Test
+        @DisplayName("별점 집계 조회 - 평균과 별점별 리뷰 수")
+        void getRatingSummary_success() {
+            // given
+            Long shopId = 1L;
+            when(shopRepository.findById(shopId)).thenReturn(Optional.of(mock(Shop.class)));
+            when(shopRatingSummaryRepository.findById(shopId)).thenReturn(Optional.of(summary(shopId, 0, 0, 1, 1, 1)));
+
+            // when
+            ShopRatingSummaryResponseDto response = reviewService.getRatingSummary(shopId);
+
+            // then
+            assertEquals(3, response.getReviewCount());
+            assertEquals(4.0, response.getAverageRating());
+            assertEquals(0L, response.getHistogram().get(1));
+            assertEquals(1L, response.getHistogram().get(5));
+        }
+
+        @Test
+        @DisplayName("별점 집계 재구성 - 가게 소유자가 아니면 실패")
+        void rebuildRatingSummary_notOwner() {
+            // given
+            Long shopId = 1L;
+            when(shopSnapshotCache.get(shopId)).thenReturn(
+                    new ShopSnapshot(shopId, 2L, LocalTime.of(9, 0), LocalTime.of(21, 0), BigDecimal.valueOf(10000), false));
+
+            // when & then
+            assertThrows(SecurityException.class, () -> reviewService.rebuildRatingSummary(shopId, 1L));
+            verify(shopRatingSummaryCreator, never()).rebuild(any());
+        }
+
+        @Test
+        @DisplayName("별점 집계 재구성 - 별도 트랜잭션의 재구성 결과 반환, 동시에 집계 행이 생성되면 다시 재구성")
+        void rebuildRatingSummary_delegatesAndRetriesOnDuplicate() {
+            // given
+            Long shopId = 1L;
+            when(shopSnapshotCache.get(shopId)).thenReturn(
+                    new ShopSnapshot(shopId, 1L, LocalTime.of(9, 0), LocalTime.of(21, 0), BigDecimal.valueOf(10000), false));
+            when(shopRatingSummaryCreator.rebuild(shopId))
+                    .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                    .thenReturn(summary(shopId, 0, 0, 0, 2, 2));
+
+            // when
+            ShopRatingSummaryResponseDto response = reviewService.rebuildRatingSummary(shopId, 1L);
+
+            // then
+            assertEquals(4, response.getReviewCount());
+            assertEquals(4.5, response.getAverageRating());
+            verify(shopRatingSummaryCreator, times(2)).rebuild(shopId);
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package com.sparta.outsourcing.domain.review.service;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.order.entity.Order;
+import com.sparta.outsourcing.domain.review.entity.ShopRatingSummary;
+import com.sparta.outsourcing.domain.review.repository.ShopRatingSummaryRepository;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.support.JpaFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 재구성과 리뷰 작성이 각자 트랜잭션으로 동시에 진행되므로 테스트 트랜잭션 없이 커밋된 데이터로 검증
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import(ShopRatingSummaryCreator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ShopRatingSummaryCreatorTest {
+
+    @Autowired
+    private ShopRatingSummaryCreator creator;
+
+    @Autowired
+    private ShopRatingSummaryRepository shopRatingSummaryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long shopId;
+    private Long menuId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Shop shop = JpaFixtures.shop(entityManager);
+            shopId = shop.getId();
+            menuId = JpaFixtures.menu(entityManager, shop).getId();
+        });
+        transactionTemplate.executeWithoutResult(status -> persistReview(5));
+        creator.create(shopId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM ShopRatingSummary").executeUpdate();
+            entityManager.createQuery("DELETE FROM Review").executeUpdate();
+            entityManager.createQuery("DELETE FROM Order").executeUpdate();
+            entityManager.createQuery("DELETE FROM Menu").executeUpdate();
+            entityManager.createQuery("DELETE FROM Shop").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM users").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("재구성 도중 커밋되는 리뷰도 집계에서 빠지지 않음")
+    void rebuild_keepsReviewCommittedDuringRebuild() throws Exception {
+        // 재구성이 실제로 덮어쓰도록 집계를 어긋나게 해 둠
+        transactionTemplate.executeWithoutResult(status -> shopRatingSummaryRepository.increment(shopId, 1));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch reviewApplied = new CountDownLatch(1);
+        CountDownLatch commitReview = new CountDownLatch(1);
+        try {
+            // 리뷰 작성: 리뷰 INSERT + 집계 increment 후 커밋 전 대기
+            Future<?> review = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                persistReview(3);
+                shopRatingSummaryRepository.increment(shopId, 3);
+                reviewApplied.countDown();
+                assertTrue(await(commitReview));
+            }));
+            assertTrue(await(reviewApplied));
+
+            // 재구성은 리뷰 작성이 커밋될 때까지 집계 행 잠금을 기다렸다가 커밋된 리뷰로 집계
+            Future<ShopRatingSummary> rebuild = executor.submit(() -> creator.rebuild(shopId));
+            Thread.sleep(200);
+            commitReview.countDown();
+            review.get(5, TimeUnit.SECONDS);
+            rebuild.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ShopRatingSummary summary = shopRatingSummaryRepository.findById(shopId).orElseThrow();
+        assertEquals(2, summary.getReviewCount());
+        assertEquals(8, summary.getRatingSum());
+        assertEquals(1, summary.getRating3());
+        assertEquals(0, summary.getRating1());
+    }
+
+    @Test
+    @DisplayName("재구성은 어긋난 집계를 reviews 테이블 기준으로 덮어씀, 집계 행이 없으면 생성")
+    void rebuild_overwritesOrCreates() {
+        transactionTemplate.executeWithoutResult(status -> shopRatingSummaryRepository.increment(shopId, 1));
+
+        assertEquals(5, creator.rebuild(shopId).getRatingSum());
+        assertEquals(1, shopRatingSummaryRepository.findById(shopId).orElseThrow().getReviewCount());
+
+        shopRatingSummaryRepository.deleteAll();
+        assertEquals(1, creator.rebuild(shopId).getReviewCount());
+        assertEquals(5, shopRatingSummaryRepository.findById(shopId).orElseThrow().getRatingSum());
+    }
+
+    private void persistReview(int rating) {
+        Order order = JpaFixtures.order(entityManager, entityManager.getReference(Shop.class, shopId),
+                entityManager.find(Menu.class, menuId));
+        JpaFixtures.review(entityManager, order, rating, null);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.sparta.outsourcing.domain.sales.rollup;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.order.entity.Order;
+import com.sparta.outsourcing.domain.order.entity.OrderItem;
+import com.sparta.outsourcing.domain.order.entity.OrderStatus;
+import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import com.sparta.outsourcing.domain.sales.dto.MenuSalesRow;
+import com.sparta.outsourcing.domain.sales.entity.SalesGranularity;
+import com.sparta.outsourcing.domain.sales.entity.ShopSalesRollup;
+import com.sparta.outsourcing.domain.sales.repository.MenuSalesRollupRepository;
+import com.sparta.outsourcing.domain.sales.repository.ShopSalesRollupRepository;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.support.JpaFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 재구성은 여러 스레드가 각자 트랜잭션으로 처리하므로 테스트 트랜잭션 없이 커밋된 데이터로 검증
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.order.sales.backfill.parallelism=2"
+})
+@Import({SalesRollupBackfill.class, SalesRollupRecorder.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SalesRollupBackfillTest {
+    private static final LocalDate DAY1 = LocalDate.of(2024, 9, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 9, 2);
+
+    @Autowired
+    private SalesRollupBackfill backfill;
+
+    @Autowired
+    private SalesRollupRecorder recorder;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ShopSalesRollupRepository shopSalesRollupRepository;
+
+    @Autowired
+    private MenuSalesRollupRepository menuSalesRollupRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long shopId;
+    private Long chickenId;
+    private Long pizzaId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Shop shop = JpaFixtures.shop(entityManager);
+            shopId = shop.getId();
+            chickenId = JpaFixtures.menu(entityManager, shop).getId();
+            pizzaId = JpaFixtures.menu(entityManager, shop, "피자", 15000).getId();
+        });
+        // DAY1 10시: 치킨 2 + 피자 1 (항목 주문), 항목 없는 이전 방식 치킨 주문 / DAY1 15시: 피자 1 / DAY2 09시: 치킨 1
+        completeOrder(List.of(new OrderItem(chickenId, "치킨", 20000, 2), new OrderItem(pizzaId, "피자", 15000, 1)),
+                DAY1.atTime(10, 5));
+        completeOrder(null, DAY1.atTime(10, 40));
+        completeOrder(List.of(new OrderItem(pizzaId, "피자", 15000, 1)), DAY1.atTime(15, 0));
+        completeOrder(List.of(new OrderItem(chickenId, "치킨", 20000, 1)), DAY2.atTime(9, 30));
+        // 완료되지 않은 주문은 제외
+        transactionTemplate.executeWithoutResult(status -> JpaFixtures.order(entityManager, JpaFixtures.CUSTOMER_ID,
+                entityManager.getReference(Shop.class, shopId), entityManager.getReference(Menu.class, chickenId),
+                List.of(new OrderItem(chickenId, "치킨", 20000, 5))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM ShopSalesRollup").executeUpdate();
+            entityManager.createQuery("DELETE FROM MenuSalesRollup").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM order_items").executeUpdate();
+            entityManager.createQuery("DELETE FROM Order").executeUpdate();
+            entityManager.createQuery("DELETE FROM Menu").executeUpdate();
+            entityManager.createQuery("DELETE FROM Shop").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM users").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("완료 주문으로부터 가게 / 메뉴별 시간 / 일 단위 집계를 재구성")
+    void rebuild_fromOrders() {
+        long rows = backfill.rebuild(DAY1, DAY2.plusDays(1));
+
+        List<ShopSalesRollup> day1Hours = shopSalesRollupRepository.findSeries(shopId, SalesGranularity.HOUR,
+                DAY1.atStartOfDay(), DAY2.atStartOfDay());
+        assertEquals(2, day1Hours.size());
+        assertEquals(2, day1Hours.get(0).getOrderCount());
+        assertEquals(75000, day1Hours.get(0).getRevenue());
+
+        List<ShopSalesRollup> days = shopSalesRollupRepository.findSeries(shopId, SalesGranularity.DAY,
+                DAY1.atStartOfDay(), DAY2.plusDays(1).atStartOfDay());
+        assertEquals(2, days.size());
+        assertEquals(3, days.get(0).getOrderCount());
+        assertEquals(90000, days.get(0).getRevenue());
+        assertEquals(20000, days.get(1).getRevenue());
+
+        // DAY1 10시 ~ DAY2 전체: 시간 단위 앞부분 + 일 단위 DAY2
+        List<MenuSalesRow> menus = menuSalesRollupRepository.sumByMenu(shopId,
+                DAY1.atTime(10, 0), DAY2.atStartOfDay(), DAY2.atStartOfDay(), DAY2.plusDays(1).atStartOfDay(),
+                DAY2.plusDays(1).atStartOfDay(), DAY2.plusDays(1).atStartOfDay()).stream()
+                .sorted(Comparator.comparing(MenuSalesRow::getMenuId)).toList();
+        assertEquals(chickenId, menus.get(0).getMenuId());
+        assertEquals(3, menus.get(0).getOrderCount());
+        assertEquals(4, menus.get(0).getQuantity());
+        assertEquals(80000, menus.get(0).getRevenue());
+        assertEquals(2, menus.get(1).getOrderCount());
+        assertEquals(30000, menus.get(1).getRevenue());
+        // 가게: 시간 3 + 일 2, 메뉴: 시간 (치킨 10시, 피자 10시, 피자 15시, 치킨 DAY2 9시) 4 + 일 3
+        assertEquals(12, rows);
+    }
+
+    @Test
+    @DisplayName("다시 재구성해도 중복 집계되지 않고, 증분 반영 결과와 같음")
+    void rebuild_idempotentAndMatchesIncremental() {
+        transactionTemplate.executeWithoutResult(status -> recorder.recordCompleted(
+                orderRepository.findAll().stream()
+                        .filter(order -> order.getOrderStatus() == OrderStatus.COMPLETED
+                                && order.getModifiedAt().toLocalDate().equals(DAY2))
+                        .map(Order::getId).toList(),
+                DAY2.atTime(9, 30)));
+        recorder.flush();
+        ShopSalesRollup incremental = shopSalesRollupRepository.findSeries(shopId, SalesGranularity.DAY,
+                DAY2.atStartOfDay(), DAY2.plusDays(1).atStartOfDay()).get(0);
+
+        backfill.rebuild(DAY1, DAY2.plusDays(1));
+        backfill.rebuild(DAY1, DAY2.plusDays(1));
+
+        ShopSalesRollup rebuilt = shopSalesRollupRepository.findSeries(shopId, SalesGranularity.DAY,
+                DAY2.atStartOfDay(), DAY2.plusDays(1).atStartOfDay()).get(0);
+        assertEquals(incremental.getOrderCount(), rebuilt.getOrderCount());
+        assertEquals(incremental.getRevenue(), rebuilt.getRevenue());
+        assertEquals(5, shopSalesRollupRepository.count());
+    }
+
+    @Test
+    @DisplayName("반영 전 유실된 누적분은 다음 날 전날 재구성으로 복구")
+    void rebuildPreviousDay_recoversLostIncrements() {
+        // 완료 전환은 커밋됐지만 누적분이 반영되지 않은 상태 (반영 전 종료)
+        assertEquals(0, shopSalesRollupRepository.count());
+
+        backfill.rebuildPreviousDay(DAY2.plusDays(1));
+
+        List<ShopSalesRollup> days = shopSalesRollupRepository.findSeries(shopId, SalesGranularity.DAY,
+                DAY1.atStartOfDay(), DAY2.plusDays(1).atStartOfDay());
+        assertEquals(1, days.size());
+        assertEquals(DAY2.atStartOfDay(), days.get(0).getBucketStart());
+        assertEquals(20000, days.get(0).getRevenue());
+    }
+
+    private void completeOrder(List<OrderItem> items, LocalDateTime completedAt) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = JpaFixtures.order(entityManager, JpaFixtures.CUSTOMER_ID,
+                    entityManager.getReference(Shop.class, shopId), entityManager.find(Menu.class, chickenId), items);
+            entityManager.flush();
+            orderRepository.bulkTransitionStatus(List.of(order.getId()), Set.of(OrderStatus.PENDING),
+                    OrderStatus.COMPLETED, completedAt);
+        });
+    }
+}
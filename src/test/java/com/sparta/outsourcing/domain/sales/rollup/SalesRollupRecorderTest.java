@@ -0,0 +1,125 @@
+package com.sparta.outsourcing.domain.sales.rollup;
+
+import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import com.sparta.outsourcing.domain.sales.dto.SalesLine;
+import com.sparta.outsourcing.domain.sales.entity.MenuSalesRollup;
+import com.sparta.outsourcing.domain.sales.entity.SalesGranularity;
+import com.sparta.outsourcing.domain.sales.entity.ShopSalesRollup;
+import com.sparta.outsourcing.domain.sales.repository.MenuSalesRollupRepository;
+import com.sparta.outsourcing.domain.sales.repository.ShopSalesRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SalesRollupRecorderTest {
+    private static final LocalDateTime COMPLETED_AT = LocalDateTime.of(2024, 9, 1, 10, 15);
+    private static final LocalDateTime HOUR = LocalDateTime.of(2024, 9, 1, 10, 0);
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 9, 1, 0, 0);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ShopSalesRollupRepository shopSalesRollupRepository;
+
+    @Mock
+    private MenuSalesRollupRepository menuSalesRollupRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SalesRollupRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // 트랜잭션 콜백은 바로 실행
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        recorder = new SalesRollupRecorder(orderRepository, shopSalesRollupRepository, menuSalesRollupRepository,
+                transactionTemplate, true);
+    }
+
+    @Test
+    @DisplayName("같은 가게 / 구간의 완료 주문은 합쳐서 구간당 UPDATE 1회로 반영")
+    void flush_coalescesByBucket() {
+        when(shopSalesRollupRepository.increment(any(), any(), any(), anyLong(), anyDouble())).thenReturn(1);
+        when(menuSalesRollupRepository.increment(any(), any(), any(), any(), anyLong(), anyLong(), anyDouble())).thenReturn(1);
+        when(orderRepository.findSalesLines(List.of(1L, 2L))).thenReturn(List.of(
+                new SalesLine(1L, 10L, 100L, 2, 20000),
+                new SalesLine(1L, 10L, 101L, 1, 5000),
+                new SalesLine(2L, 10L, 100L, 1, 10000)));
+
+        // 트랜잭션 밖이므로 바로 누적
+        recorder.recordCompleted(List.of(1L, 2L), COMPLETED_AT);
+        recorder.flush();
+
+        verify(shopSalesRollupRepository).increment(10L, SalesGranularity.HOUR, HOUR, 2, 35000);
+        verify(shopSalesRollupRepository).increment(10L, SalesGranularity.DAY, DAY, 2, 35000);
+        verify(menuSalesRollupRepository).increment(10L, 100L, SalesGranularity.HOUR, HOUR, 2, 3, 30000);
+        verify(menuSalesRollupRepository).increment(10L, 101L, SalesGranularity.DAY, DAY, 1, 1, 5000);
+        verify(menuSalesRollupRepository, times(4)).increment(any(), any(), any(), any(), anyLong(), anyLong(), anyDouble());
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("집계 행이 없으면 새로 저장")
+    void flush_insertsMissingRows() {
+        when(orderRepository.findSalesLines(List.of(1L))).thenReturn(List.of(new SalesLine(1L, 10L, 100L, 1, 10000)));
+
+        recorder.recordCompleted(List.of(1L), COMPLETED_AT);
+        recorder.flush();
+
+        ArgumentCaptor<ShopSalesRollup> shopRows = ArgumentCaptor.forClass(ShopSalesRollup.class);
+        verify(shopSalesRollupRepository, times(2)).save(shopRows.capture());
+        assertEquals(1, shopRows.getAllValues().get(0).getOrderCount());
+        verify(menuSalesRollupRepository, times(2)).save(any(MenuSalesRollup.class));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 누적분을 되돌려 다음 주기에 다시 반영")
+    void flush_failureRequeues() {
+        when(orderRepository.findSalesLines(List.of(1L))).thenReturn(List.of(new SalesLine(1L, 10L, 100L, 1, 10000)));
+        when(shopSalesRollupRepository.increment(any(), any(), any(), anyLong(), anyDouble()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenReturn(1);
+        when(menuSalesRollupRepository.increment(any(), any(), any(), any(), anyLong(), anyLong(), anyDouble())).thenReturn(1);
+
+        recorder.recordCompleted(List.of(1L), COMPLETED_AT);
+        recorder.flush();
+        recorder.flush();
+
+        // 첫 실패 1회 + 재시도에서 HOUR / DAY 각 1회
+        verify(shopSalesRollupRepository, times(3)).increment(any(), any(), any(), anyLong(), anyDouble());
+        verify(shopSalesRollupRepository).increment(10L, SalesGranularity.DAY, DAY, 1, 10000);
+        verify(shopSalesRollupRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("비활성화면 주문 항목을 조회하지 않음")
+    void disabled_noop() {
+        recorder = new SalesRollupRecorder(orderRepository, shopSalesRollupRepository, menuSalesRollupRepository,
+                transactionTemplate, false);
+
+        recorder.recordCompleted(List.of(1L), COMPLETED_AT);
+        recorder.flush();
+
+        verifyNoInteractions(orderRepository, transactionTemplate);
+    }
+}
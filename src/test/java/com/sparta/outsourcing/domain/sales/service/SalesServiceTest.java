@@ -0,0 +1,126 @@
+package com.sparta.outsourcing.domain.sales.service;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.menu.repository.MenuRepository;
+import com.sparta.outsourcing.domain.sales.dto.MenuSalesRow;
+import com.sparta.outsourcing.domain.sales.dto.ShopSalesResponseDto;
+import com.sparta.outsourcing.domain.sales.entity.SalesGranularity;
+import com.sparta.outsourcing.domain.sales.entity.ShopSalesRollup;
+import com.sparta.outsourcing.domain.sales.repository.MenuSalesRollupRepository;
+import com.sparta.outsourcing.domain.sales.repository.ShopSalesRollupRepository;
+import com.sparta.outsourcing.domain.shop.cache.ShopSnapshot;
+import com.sparta.outsourcing.domain.shop.cache.ShopSnapshotCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SalesServiceTest {
+
+    @Mock
+    private ShopSalesRollupRepository shopSalesRollupRepository;
+
+    @Mock
+    private MenuSalesRollupRepository menuSalesRollupRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private ShopSnapshotCache shopSnapshotCache;
+
+    @InjectMocks
+    private SalesService salesService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ShopSnapshot shop = mock(ShopSnapshot.class);
+        when(shop.getOwnerId()).thenReturn(1L);
+        when(shopSnapshotCache.get(10L)).thenReturn(shop);
+    }
+
+    @Test
+    @DisplayName("여러 날에 걸친 기간은 앞뒤 일부 날짜는 시간 단위, 가운데는 일 단위로 조회하고 일별로 합침")
+    void getShopSales_splitsRange() {
+        LocalDateTime from = LocalDateTime.of(2024, 9, 1, 22, 30);
+        LocalDateTime to = LocalDateTime.of(2024, 9, 4, 2, 0);
+        when(shopSalesRollupRepository.findRange(any(), any(), any(), any(), any(), any(), any())).thenReturn(List.of(
+                new ShopSalesRollup(10L, SalesGranularity.HOUR, LocalDateTime.of(2024, 9, 1, 22, 0), 1, 10000),
+                new ShopSalesRollup(10L, SalesGranularity.HOUR, LocalDateTime.of(2024, 9, 1, 23, 0), 2, 20000),
+                new ShopSalesRollup(10L, SalesGranularity.DAY, LocalDateTime.of(2024, 9, 2, 0, 0), 5, 50000),
+                new ShopSalesRollup(10L, SalesGranularity.HOUR, LocalDateTime.of(2024, 9, 4, 1, 0), 1, 7000)));
+        when(menuSalesRollupRepository.sumByMenu(any(), any(), any(), any(), any(), any(), any())).thenReturn(List.of(
+                new MenuSalesRow(100L, 3L, 4L, 30000.0),
+                new MenuSalesRow(101L, 6L, 6L, 57000.0)));
+        Menu chicken = Menu.builder().id(100L).menuName("치킨").build();
+        Menu pizza = Menu.builder().id(101L).menuName("피자").build();
+        when(menuRepository.findAllById(List.of(100L, 101L))).thenReturn(List.of(chicken, pizza));
+
+        ShopSalesResponseDto sales = salesService.getShopSales(10L, 1L, from, to, null);
+
+        verify(shopSalesRollupRepository).findRange(10L,
+                LocalDateTime.of(2024, 9, 1, 22, 0), LocalDateTime.of(2024, 9, 2, 0, 0),
+                LocalDateTime.of(2024, 9, 2, 0, 0), LocalDateTime.of(2024, 9, 4, 0, 0),
+                LocalDateTime.of(2024, 9, 4, 0, 0), LocalDateTime.of(2024, 9, 4, 2, 0));
+        assertEquals(9, sales.getOrderCount());
+        assertEquals(87000, sales.getRevenue());
+        assertEquals(3, sales.getSeries().size());
+        assertEquals(30000, sales.getSeries().get(0).getRevenue());
+        assertEquals(LocalDateTime.of(2024, 9, 1, 0, 0), sales.getSeries().get(0).getBucketStart());
+        assertEquals("피자", sales.getMenus().get(0).getMenuName());
+    }
+
+    @Test
+    @DisplayName("하루 안의 기간은 시간 단위로만 조회")
+    void getShopSales_withinDay() {
+        LocalDateTime from = LocalDateTime.of(2024, 9, 1, 9, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 9, 1, 18, 0);
+
+        salesService.getShopSales(10L, 1L, from, to, "day");
+
+        verify(shopSalesRollupRepository).findRange(10L, from, to, to, to, to, to);
+        verify(menuRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("시간 단위 구간 조회")
+    void getShopSales_hourly() {
+        LocalDateTime from = LocalDateTime.of(2024, 9, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 9, 3, 0, 0);
+        when(shopSalesRollupRepository.findSeries(10L, SalesGranularity.HOUR, from, to)).thenReturn(List.of(
+                new ShopSalesRollup(10L, SalesGranularity.HOUR, LocalDateTime.of(2024, 9, 1, 10, 0), 1, 10000),
+                new ShopSalesRollup(10L, SalesGranularity.HOUR, LocalDateTime.of(2024, 9, 2, 11, 0), 1, 5000)));
+
+        ShopSalesResponseDto sales = salesService.getShopSales(10L, 1L, from, to, "HOUR");
+
+        assertEquals(2, sales.getSeries().size());
+        assertEquals(15000, sales.getRevenue());
+        verify(shopSalesRollupRepository, never()).findRange(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("가게 사장이 아니면 조회 불가")
+    void getShopSales_fail_notOwner() {
+        assertThrows(SecurityException.class, () -> salesService.getShopSales(10L, 2L, null, null, null));
+    }
+
+    @Test
+    @DisplayName("잘못된 기간 / 단위 / 너무 긴 시간 단위 조회는 거절")
+    void getShopSales_fail_invalidRange() {
+        LocalDateTime from = LocalDateTime.of(2024, 9, 1, 10, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> salesService.getShopSales(10L, 1L, from, from.plusMinutes(30), null));
+        assertThrows(IllegalArgumentException.class, () -> salesService.getShopSales(10L, 1L, from, from.plusDays(1), "WEEK"));
+        assertThrows(IllegalArgumentException.class, () -> salesService.getShopSales(10L, 1L, from, from.plusDays(32), "HOUR"));
+    }
+}
@@ -7,6 +7,7 @@ import com.sparta.outsourcing.domain.shop.service.ShopService;
 import com.sparta.outsourcing.domain.user.dto.AuthUser;
 import com.sparta.outsourcing.domain.user.entity.User;
 import com.sparta.outsourcing.domain.user.repository.UserRepository;
+import com.sparta.outsourcing.global.pagination.PageResponseDto;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -133,14 +134,14 @@ public class ShopControllerTest {
     @Test
     @DisplayName("가게 전체 조회 성공")
     void testGetShopsByName_Success() {
-        List<ShopResponseDto> shops = Collections.singletonList(shopResponseDto);
-        when(shopService.getShopsByName("Test Shop")).thenReturn(shops);
+        PageResponseDto<ShopResponseDto> shops = new PageResponseDto<>(Collections.singletonList(shopResponseDto), 0, 20, 1);
+        when(shopService.getShopsByName("Test Shop", 0, null)).thenReturn(shops);
 
-        ResponseEntity<List<ShopResponseDto>> response = shopController.getShopsByName("Test Shop");
+        ResponseEntity<PageResponseDto<ShopResponseDto>> response = shopController.getShopsByName("Test Shop", 0, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(shops, response.getBody());
-        verify(shopService).getShopsByName("Test Shop");
+        verify(shopService).getShopsByName("Test Shop", 0, null);
     }
 
     @Test
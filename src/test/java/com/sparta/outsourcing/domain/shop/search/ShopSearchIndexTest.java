@@ -0,0 +1,122 @@
+package com.sparta.outsourcing.domain.shop.search;
+
+import com.sparta.outsourcing.domain.shop.dto.ShopResponseDto;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
+import com.sparta.outsourcing.global.pagination.PageResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ShopSearchIndexTest {
+
+    private ShopRepository shopRepository;
+    private ShopSearchIndex shopSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        shopRepository = mock(ShopRepository.class);
+        shopSearchIndex = new ShopSearchIndex(shopRepository);
+        when(shopRepository.findByClosedFalse()).thenReturn(List.of(
+                shop(1L, "교촌치킨 강남점"),
+                shop(2L, "치킨플러스"),
+                shop(3L, "피자헛"),
+                shop(4L, "Burger King"),
+                shop(5L, "치킨")));
+        shopSearchIndex.rebuild();
+    }
+
+    private Shop shop(Long id, String name) {
+        return Shop.builder()
+                .id(id)
+                .name(name)
+                .opentime(LocalTime.of(9, 0))
+                .closetime(LocalTime.of(21, 0))
+                .minOrderAmount(new BigDecimal("10000"))
+                .closed(false)
+                .build();
+    }
+
+    private List<Long> ids(PageResponseDto<ShopResponseDto> page) {
+        return page.getContent().stream().map(ShopResponseDto::getId).toList();
+    }
+
+    @Test
+    @DisplayName("정확히 일치 > 접두어 > 부분 일치 순으로 정렬")
+    void search_ranksExactThenPrefixThenContains() {
+        assertEquals(List.of(5L, 2L, 1L), ids(shopSearchIndex.search("치킨", 0, 20)));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색과 대소문자 / 공백 무시")
+    void search_shortQueryAndNormalization() {
+        assertEquals(List.of(3L), ids(shopSearchIndex.search("피", 0, 20)));
+        assertEquals(List.of(4L), ids(shopSearchIndex.search("burgerking", 0, 20)));
+    }
+
+    @Test
+    @DisplayName("자모 한 글자 오타 허용")
+    void search_toleratesTypo() {
+        // 치칸 -> 치킨 (모음 하나 오타)
+        assertTrue(ids(shopSearchIndex.search("치칸", 0, 20)).contains(5L));
+        // burgor -> burger
+        assertEquals(List.of(4L), ids(shopSearchIndex.search("burgor", 0, 20)));
+    }
+
+    @Test
+    @DisplayName("짧은 검색어는 오타를 허용하지 않음")
+    void search_noTypoForShortQuery() {
+        // ki -> King 의 부분 일치만, 한 글자만 같은 이름은 제외
+        assertEquals(List.of(4L), ids(shopSearchIndex.search("ki", 0, 20)));
+        assertTrue(ids(shopSearchIndex.search("bz", 0, 20)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("재구성 중 들어온 수정 / 폐업은 새 색인에 다시 적용")
+    void rebuild_replaysConcurrentChanges() {
+        // DB 조회 이후 (교체 전) 가게 수정 / 폐업
+        when(shopRepository.findByClosedFalse()).thenAnswer(invocation -> {
+            List<Shop> snapshot = List.of(shop(1L, "교촌치킨 강남점"), shop(3L, "피자헛"));
+            shopSearchIndex.upsert(shop(3L, "도미노피자"));
+            shopSearchIndex.remove(1L);
+            return snapshot;
+        });
+
+        shopSearchIndex.rebuild();
+
+        assertTrue(ids(shopSearchIndex.search("피자헛", 0, 20)).isEmpty());
+        assertEquals(List.of(3L), ids(shopSearchIndex.search("도미노", 0, 20)));
+        assertTrue(ids(shopSearchIndex.search("교촌", 0, 20)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("페이지 단위로 잘라서 반환")
+    void search_paginates() {
+        PageResponseDto<ShopResponseDto> first = shopSearchIndex.search("치킨", 0, 2);
+        PageResponseDto<ShopResponseDto> second = shopSearchIndex.search("치킨", 1, 2);
+
+        assertEquals(List.of(5L, 2L), ids(first));
+        assertTrue(first.isHasNext());
+        assertEquals(3, first.getTotalElements());
+        assertEquals(List.of(1L), ids(second));
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    @DisplayName("수정 시 이전 이름으로는 검색되지 않고, 폐업 시 제외")
+    void upsertAndRemove_keepIndexCurrent() {
+        shopSearchIndex.upsert(shop(3L, "도미노피자"));
+        assertTrue(ids(shopSearchIndex.search("피자헛", 0, 20)).isEmpty());
+        assertEquals(List.of(3L), ids(shopSearchIndex.search("도미노", 0, 20)));
+
+        shopSearchIndex.remove(3L);
+        assertTrue(ids(shopSearchIndex.search("도미노", 0, 20)).isEmpty());
+    }
+}
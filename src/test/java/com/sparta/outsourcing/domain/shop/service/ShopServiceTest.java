@@ -1,14 +1,19 @@
 package com.sparta.outsourcing.domain.shop.service;
 
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.shop.cache.ShopDetailCache;
+import com.sparta.outsourcing.domain.shop.cache.ShopSnapshotCache;
 import com.sparta.outsourcing.domain.shop.dto.ShopRequestDto;
 import com.sparta.outsourcing.domain.shop.dto.ShopResponseDto;
 import com.sparta.outsourcing.domain.shop.entity.Shop;
 import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
+import com.sparta.outsourcing.domain.shop.search.ShopSearchIndex;
 import com.sparta.outsourcing.domain.user.dto.UserRequestDto;
 import com.sparta.outsourcing.domain.user.entity.User;
 import com.sparta.outsourcing.domain.user.entity.UserRoleEnum;
 import com.sparta.outsourcing.domain.user.service.UserService;
 import com.sparta.outsourcing.global.config.PasswordEncoder;
+import com.sparta.outsourcing.global.pagination.PageResponseDto;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalTime;
@@ -36,6 +43,17 @@ public class ShopServiceTest {
     @Mock
     private ShopRepository shopRepository;
 
+    @Mock
+    private ShopSnapshotCache shopSnapshotCache;
+
+    // 상세 조회 캐시는 실제 캐시로 확인
+    @Spy
+    private ShopDetailCache shopDetailCache = new ShopDetailCache();
+
+    // 검색은 실제 색인으로 확인
+    @Spy
+    private ShopSearchIndex shopSearchIndex = new ShopSearchIndex(mock(ShopRepository.class));
+
     private User ownerUser;
     private User nonOwnerUser;
     private ShopRequestDto shopRequest;
@@ -44,6 +62,9 @@ public class ShopServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(shopDetailCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(shopDetailCache, "ttlSeconds", 60L);
+        shopDetailCache.init();
 
         // 테스트용 사용자 초기화
         UserRequestDto ownerRequest = new UserRequestDto("owner@email.com");
@@ -148,14 +169,15 @@ public class ShopServiceTest {
     void testGetShopsByName_NoShopsFound() {
         // given
         String shopName = "없는 가게";
-        when(shopRepository.findByNameContaining(shopName)).thenReturn(new ArrayList<>());
+        ReflectionTestUtils.setField(shop, "id", 1L);
+        shopSearchIndex.upsert(shop);
 
         // when: 가게를 검색
-        List<ShopResponseDto> response = shopService.getShopsByName(shopName);
+        PageResponseDto<ShopResponseDto> response = shopService.getShopsByName(shopName, 0, null);
 
         // then: 빈 리스트가 반환되는지 확인
         assertNotNull(response);
-        assertTrue(response.isEmpty());
+        assertTrue(response.getContent().isEmpty());
     }
 
     @Test
@@ -183,10 +205,10 @@ public class ShopServiceTest {
                         .build()
         );
         String shopName = "테스트";
-        when(shopRepository.findByNameContaining(shopName)).thenReturn(shops);
+        shops.forEach(shopSearchIndex::upsert);
 
         // when: 가게를 검색
-        List<ShopResponseDto> response = shopService.getShopsByName(shopName);
+        List<ShopResponseDto> response = shopService.getShopsByName(shopName, 0, null).getContent();
 
         // then: 올바른 가게 정보가 반환되는지 확인
         assertNotNull(response);
@@ -205,16 +227,80 @@ public class ShopServiceTest {
         assertEquals(new BigDecimal("15000"), response.get(1).getMinOrderAmount());
     }
 
+    @Test
+    @DisplayName("폐업한 가게는 검색 결과에서 제외")
+    void testGetShopsByName_ExcludesClosedShop() {
+        // given
+        Shop closedShop = Shop.builder()
+                .id(3L)
+                .name("테스트 가게3")
+                .opentime(LocalTime.of(9, 0))
+                .closetime(LocalTime.of(21, 0))
+                .minOrderAmount(new BigDecimal("10000"))
+                .closed(false)
+                .build();
+        shopSearchIndex.upsert(closedShop);
+        when(shopRepository.findById(3L)).thenReturn(Optional.of(closedShop));
+        ReflectionTestUtils.setField(closedShop, "owner", ownerUser);
+        ReflectionTestUtils.setField(ownerUser, "id", 1L);
+
+        // when: 가게 폐업 후 검색
+        shopService.closeShop(3L, ownerUser);
+        PageResponseDto<ShopResponseDto> response = shopService.getShopsByName("테스트", 0, null);
+
+        // then
+        assertTrue(response.getContent().isEmpty());
+    }
+
+    @Test
+    @DisplayName("검색 페이지 크기가 최대값을 넘으면 실패")
+    void testGetShopsByName_InvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> shopService.getShopsByName("테스트", 0, 101));
+    }
+
     @Test
     @DisplayName("단건 조회 시 가게가 존재하지 않는 경우")
     void testGetShopById_NotFound() {
         // given
         Long shopId = 1L;
-        when(shopRepository.findById(shopId)).thenReturn(Optional.empty());
+        when(shopRepository.findWithMenusById(shopId)).thenReturn(Optional.empty());
 
         // when & then: 가게를 찾을 수 없는 경우
         assertThrows(EntityNotFoundException.class, () -> {
             shopService.getShopById(shopId);
         });
     }
+
+    @Test
+    @DisplayName("단건 조회는 캐시에서 반환하고 가게 수정 시 무효화")
+    void testGetShopById_CachedUntilUpdated() {
+        // given
+        Long shopId = 1L;
+        ReflectionTestUtils.setField(shop, "id", shopId);
+        ReflectionTestUtils.setField(shop, "menus", List.of(
+                Menu.builder().id(10L).shop(shop).menuName("치킨").price(new BigDecimal("20000")).status("un_deletable").build(),
+                Menu.builder().id(11L).shop(shop).menuName("피자").price(new BigDecimal("18000")).status("deleted").build()));
+        ReflectionTestUtils.setField(ownerUser, "id", 1L);
+        when(shopRepository.findWithMenusById(shopId)).thenReturn(Optional.of(shop));
+        when(shopRepository.findById(shopId)).thenReturn(Optional.of(shop));
+        when(shopRepository.save(any(Shop.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when: 두 번 조회
+        ShopResponseDto first = shopService.getShopById(shopId);
+        ShopResponseDto second = shopService.getShopById(shopId);
+
+        // then: DB 는 한 번만 조회하고 같은 응답을 재사용, 삭제된 메뉴는 제외
+        assertSame(first, second);
+        assertEquals(1, first.getMenuList().size());
+        verify(shopRepository, times(1)).findWithMenusById(shopId);
+        assertEquals(1, shopDetailCache.stats().hitCount());
+
+        // when: 가게 수정 후 다시 조회
+        shopService.updateShop(shopId, shopRequest, ownerUser);
+        ShopResponseDto afterUpdate = shopService.getShopById(shopId);
+
+        // then: 다시 조회하여 수정된 정보 반환
+        verify(shopRepository, times(2)).findWithMenusById(shopId);
+        assertEquals(LocalTime.of(10, 0), afterUpdate.getOpentime());
+    }
 }
\ No newline at end of file
@@ -24,6 +24,8 @@ class UserServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     JwtUtil jwtUtil;
+    UserDenyList userDenyList = Mockito.mock(UserDenyList.class);
+    PasswordRehashService passwordRehashService = Mockito.mock(PasswordRehashService.class);
 
     // Successfully signs up a new user with valid email and password
     @Test
@@ -35,7 +37,7 @@ class UserServiceTest {
         JwtUtil jwtUtil = Mockito.mock(JwtUtil.class);
         HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
 
-        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil);
+        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil, userDenyList, passwordRehashService);
         String email = "test@example.com";
         String password = "Password123!";
         UserRequestDto userRequestDto = UserRequestDto.builder()
@@ -47,7 +49,7 @@ class UserServiceTest {
         Mockito.when(userRepository.findDeletedEmail("test@example.com")).thenReturn(Optional.empty());
         Mockito.when(passwordEncoder.encode("Password123!")).thenReturn("encodedPassword");
         Mockito.when(userRepository.save(Mockito.any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        Mockito.when(jwtUtil.createToken(Mockito.anyLong())).thenReturn("token");
+        Mockito.when(jwtUtil.createToken(Mockito.anyLong(), Mockito.any(), Mockito.any())).thenReturn("token");
 
         UserResponseDto userResponseDto = userService.signup(userRequestDto, response);
         //then
@@ -68,7 +70,7 @@ class UserServiceTest {
         String email = "test@example.com";
         String password = "Password123!";
         String encodedPassword = passwordEncoder.encode(password);
-        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil);
+        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil, userDenyList, passwordRehashService);
 
         UserRequestDto userRequestDto = UserRequestDto.builder()
                         .email(email)
@@ -79,7 +81,7 @@ class UserServiceTest {
         Mockito.when(userRepository.findDeletedEmail(email)).thenReturn(Optional.empty());
         Mockito.when(passwordEncoder.matches(password, encodedPassword)).thenReturn(true);
         Mockito.when(userRepository.save(Mockito.any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        Mockito.when(jwtUtil.createToken(Mockito.anyLong())).thenReturn("token");
+        Mockito.when(jwtUtil.createToken(Mockito.anyLong(), Mockito.any(), Mockito.any())).thenReturn("token");
 
         UserResponseDto userResponseDto = userService.signup(userRequestDto, response);
         User user = new User(userRequestDto,encodedPassword, UserRoleEnum.USER);
@@ -98,7 +100,7 @@ class UserServiceTest {
         JwtUtil jwtUtil = Mockito.mock(JwtUtil.class);
         HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
 
-        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil);
+        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil, userDenyList, passwordRehashService);
         String email = "test@example.com";
         String password = "Password123!";
         UserRequestDto userRequestDto = UserRequestDto.builder()
@@ -125,7 +127,7 @@ class UserServiceTest {
         JwtUtil jwtUtil = Mockito.mock(JwtUtil.class);
         HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
 
-        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil);
+        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil, userDenyList, passwordRehashService);
         String email = "test@example.com";
         String password = "ValidPassword1!";
         String encodedPassword = passwordEncoder.encode(password);
@@ -139,7 +141,7 @@ class UserServiceTest {
         Mockito.when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         Mockito.when(userRepository.findDeletedEmail(email)).thenReturn(Optional.empty());
         Mockito.when(passwordEncoder.matches(password, encodedPassword)).thenReturn(true);
-        Mockito.when(jwtUtil.createToken(user.getId())).thenReturn("mockToken");
+        Mockito.when(jwtUtil.createToken(user.getId(), user.getRole(), user.getEmail())).thenReturn("mockToken");
 
         LoginResponseDto responseDto = userService.login(userRequestDto, response);
         //then
@@ -147,6 +149,36 @@ class UserServiceTest {
         Mockito.verify(jwtUtil).addJwtToCookie("mockToken", response);
     }
 
+    @Test
+    @DisplayName("로그인 성공 시 이전 cost 비밀번호 재해시 요청")
+    public void test_login_requests_rehash_for_outdated_cost() {
+        //given
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        PasswordEncoder passwordEncoder = Mockito.mock(PasswordEncoder.class);
+        JwtUtil jwtUtil = Mockito.mock(JwtUtil.class);
+        HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+
+        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil, userDenyList, passwordRehashService);
+        String email = "test@example.com";
+        String password = "ValidPassword1!";
+        String encodedPassword = "$2a$04$outdatedHash";
+        UserRequestDto userRequestDto = UserRequestDto.builder()
+                .email(email)
+                .password(password)
+                .build();
+
+        User user = new User(userRequestDto, encodedPassword, UserRoleEnum.USER);
+        //when
+        Mockito.when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.findDeletedEmail(email)).thenReturn(Optional.empty());
+        Mockito.when(passwordEncoder.matches(password, encodedPassword)).thenReturn(true);
+        Mockito.when(passwordEncoder.needsRehash(encodedPassword)).thenReturn(true);
+
+        userService.login(userRequestDto, response);
+        //then
+        Mockito.verify(passwordRehashService).rehash(user.getId(), password, encodedPassword);
+    }
+
     @Test
     @DisplayName("존재하지 않는 이메일 로그인")
     public void test_login_attempt_with_non_existent_email() {
@@ -156,7 +188,7 @@ class UserServiceTest {
         JwtUtil jwtUtil = Mockito.mock(JwtUtil.class);
         HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
 
-        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil);
+        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil, userDenyList, passwordRehashService);
         String email = "nonexistent@example.com";
         String password = "ValidPassword1!";
 
@@ -180,7 +212,7 @@ class UserServiceTest {
         //given
         UserRepository userRepository = Mockito.mock(UserRepository.class);
         PasswordEncoder passwordEncoder = Mockito.mock(PasswordEncoder.class);
-        UserService userService = new UserService(userRepository, passwordEncoder, new JwtUtil());
+        UserService userService = new UserService(userRepository, passwordEncoder, new JwtUtil(), userDenyList, passwordRehashService);
 
         Long userId = 1L;
         String email = "test@example.com";
@@ -235,7 +267,7 @@ class UserServiceTest {
         Mockito.when(passwordEncoder.matches(passwordRequest.getOldPassword(), user.getPassword())).thenReturn(false);
 
         JwtUtil jwtUtil = Mockito.mock(JwtUtil.class);
-        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil);
+        UserService userService = new UserService(userRepository, passwordEncoder, jwtUtil, userDenyList, passwordRehashService);
 
         //then
         Exception exception = Assertions.assertThrows(IllegalArgumentException.class, () -> userService.changePassword(userId, passwordRequest, authUser));
@@ -248,7 +280,7 @@ class UserServiceTest {
         //given
         UserRepository userRepository = Mockito.mock(UserRepository.class);
         PasswordEncoder passwordEncoder = Mockito.mock(PasswordEncoder.class);
-        UserService userService = new UserService(userRepository, passwordEncoder, new JwtUtil());
+        UserService userService = new UserService(userRepository, passwordEncoder, new JwtUtil(), userDenyList, passwordRehashService);
         String email = "test@example.com";
         String password = "Password123!";
         String encodedPassword = passwordEncoder.encode(password);
@@ -265,7 +297,9 @@ class UserServiceTest {
 
         String result = userService.deleteUser(userId, authUser, userRequest);
         //then
+        Mockito.verify(userRepository).markDeletedAt(Mockito.eq(userId), Mockito.any());
         Mockito.verify(userRepository).delete(user);
+        Mockito.verify(userDenyList).deny(userId);
         Assertions.assertEquals("회원탈퇴 완료", result);
     }
 
@@ -275,7 +309,7 @@ class UserServiceTest {
         //given
         UserRepository userRepository = Mockito.mock(UserRepository.class);
         PasswordEncoder passwordEncoder = Mockito.mock(PasswordEncoder.class);
-        UserService userService = new UserService(userRepository, passwordEncoder, new JwtUtil());
+        UserService userService = new UserService(userRepository, passwordEncoder, new JwtUtil(), userDenyList, passwordRehashService);
         String email = "test@example.com";
         String password = "Password123!";
         String encodedPassword = passwordEncoder.encode(password);
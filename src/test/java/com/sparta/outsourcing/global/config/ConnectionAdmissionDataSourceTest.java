@@ -0,0 +1,56 @@
+package com.sparta.outsourcing.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConnectionAdmissionDataSourceTest {
+
+    @Test
+    @DisplayName("풀 대기 스레드가 한도 미만이면 커넥션을 그대로 반환")
+    void getConnection_admitted() throws SQLException {
+        // given
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        Connection connection = mock(Connection.class);
+        when(hikari.getHikariPoolMXBean()).thenReturn(pool);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(9);
+        when(hikari.getConnection()).thenReturn(connection);
+
+        // when & then
+        assertSame(connection, new ConnectionAdmissionDataSource(hikari, 10).getConnection());
+    }
+
+    @Test
+    @DisplayName("풀 대기 스레드가 한도 이상이면 기다리지 않고 거절")
+    void getConnection_rejected() throws SQLException {
+        // given
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(hikari.getHikariPoolMXBean()).thenReturn(pool);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(10);
+
+        // when & then
+        assertThrows(RejectedExecutionException.class, () -> new ConnectionAdmissionDataSource(hikari, 10).getConnection());
+        verify(hikari, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("풀이 아직 시작되지 않았으면 제한하지 않음")
+    void getConnection_poolNotStarted() throws SQLException {
+        // given
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        when(hikari.getConnection()).thenReturn(mock(Connection.class));
+
+        // when & then
+        assertNotNull(new ConnectionAdmissionDataSource(hikari, 0).getConnection());
+    }
+}
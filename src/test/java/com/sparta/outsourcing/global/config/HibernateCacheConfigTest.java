@@ -0,0 +1,146 @@
+package com.sparta.outsourcing.global.config;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.menu.repository.MenuRepository;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.domain.shop.repository.ShopRepository;
+import com.sparta.outsourcing.domain.user.dto.UserRequestDto;
+import com.sparta.outsourcing.domain.user.entity.User;
+import com.sparta.outsourcing.domain.user.entity.UserRoleEnum;
+import com.sparta.outsourcing.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 캐시는 커밋 이후에 채워지므로 테스트 트랜잭션 없이 트랜잭션마다 커밋
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.cache.hibernate.enabled=true"
+})
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HibernateCacheConfigTest {
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Long ownerId;
+    private Long shopId;
+    private Long menuId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            User owner = userRepository.save(new User(new UserRequestDto(UUID.randomUUID() + "@example.com"), "password", UserRoleEnum.OWNER));
+            Shop shop = shopRepository.save(Shop.builder()
+                    .owner(owner)
+                    .name("테스트 가게")
+                    .opentime(LocalTime.of(0, 0))
+                    .closetime(LocalTime.of(23, 59))
+                    .minOrderAmount(new BigDecimal("10000"))
+                    .build());
+            Menu menu = menuRepository.save(Menu.builder().shop(shop).menuName("치킨").price(new BigDecimal("20000")).build());
+            ownerId = owner.getId();
+            shopId = shop.getId();
+            menuId = menu.getId();
+        });
+    }
+
+    @Test
+    @DisplayName("가게 / 사용자는 두 번째 조회부터 SQL 없이 2차 캐시에서 조회")
+    void entity_secondLevelCacheHit() {
+        transaction.executeWithoutResult(status -> shopRepository.findById(shopId).orElseThrow().getOwner().getEmail());
+        Statistics statistics = statistics();
+
+        String ownerEmail = transaction.execute(status -> shopRepository.findById(shopId).orElseThrow().getOwner().getEmail());
+
+        assertTrue(ownerEmail.endsWith("@example.com"));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("메뉴 조회 쿼리는 쿼리 캐시에서 조회하고 삭제(\"deleted\") 상태 변경은 바로 반영")
+    void findByShopIdAndId_queryCache() {
+        transaction.executeWithoutResult(status -> menuRepository.findByShopIdAndId(shopId, menuId).orElseThrow());
+        Statistics statistics = statistics();
+
+        transaction.executeWithoutResult(status -> menuRepository.findByShopIdAndId(shopId, menuId).orElseThrow());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        transaction.executeWithoutResult(status -> {
+            Menu menu = menuRepository.findById(menuId).orElseThrow();
+            menuRepository.save(menu.toBuilder().status("deleted").build());
+        });
+        String menuStatus = transaction.execute(status -> menuRepository.findByShopIdAndId(shopId, menuId).orElseThrow().getStatus());
+
+        assertEquals("deleted", menuStatus);
+    }
+
+    @Test
+    @DisplayName("가게 메뉴 목록은 캐시되고 메뉴가 추가되면 캐시에서 제거")
+    void shopMenus_collectionCacheEvictedOnInsert() {
+        transaction.executeWithoutResult(status -> shopRepository.findById(shopId).orElseThrow().getMenus().size());
+        Statistics statistics = statistics();
+        int cachedSize = transaction.execute(status -> shopRepository.findById(shopId).orElseThrow().getMenus().size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        transaction.executeWithoutResult(status -> menuRepository.save(Menu.builder()
+                .shop(shopRepository.getReferenceById(shopId)).menuName("피자").price(new BigDecimal("25000")).build()));
+        int size = transaction.execute(status -> shopRepository.findById(shopId).orElseThrow().getMenus().size());
+
+        assertEquals(1, cachedSize);
+        assertEquals(2, size);
+    }
+
+    @Test
+    @DisplayName("탈퇴(soft delete)한 사용자는 캐시되어 있어도 조회되지 않음")
+    void softDeletedUser_notServedFromCache() {
+        transaction.executeWithoutResult(status -> userRepository.findById(ownerId).orElseThrow());
+        // 가게가 참조하므로 행은 남기고 deleted 만 표시
+        transaction.executeWithoutResult(status -> userRepository.delete(userRepository.findById(ownerId).orElseThrow()));
+
+        boolean found = transaction.execute(status -> userRepository.findById(ownerId).isPresent());
+
+        assertFalse(found);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
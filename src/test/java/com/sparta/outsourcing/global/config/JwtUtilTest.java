@@ -0,0 +1,90 @@
+package com.sparta.outsourcing.global.config;
+
+import com.sparta.outsourcing.domain.user.entity.UserRoleEnum;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-0123456789".getBytes()));
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCacheSize", 100L);
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 성공 시 권한과 이메일 claim 반환")
+    void parseToken_success() {
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, UserRoleEnum.OWNER, "owner@example.com"));
+
+        JwtParseResult result = jwtUtil.parseToken(token);
+
+        assertTrue(result.isValid());
+        assertEquals("1", result.getClaims().getSubject());
+        assertEquals("OWNER", result.getClaims().get(JwtUtil.AUTHORIZATION_KEY, String.class));
+        assertEquals("owner@example.com", result.getClaims().get(JwtUtil.EMAIL_KEY, String.class));
+    }
+
+    @Test
+    @DisplayName("같은 토큰 재검증 시 캐시된 Claims 반환")
+    void parseToken_cached() {
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, UserRoleEnum.USER, "user@example.com"));
+
+        Claims first = jwtUtil.parseToken(token).getClaims();
+        Claims second = jwtUtil.parseToken(token).getClaims();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 INVALID_SIGNATURE 실패")
+    void parseToken_invalidSignature() {
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, UserRoleEnum.USER, "user@example.com"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        JwtParseResult result = jwtUtil.parseToken(tampered);
+
+        assertFalse(result.isValid());
+        assertEquals(JwtParseResult.Failure.INVALID_SIGNATURE, result.getFailure());
+        assertFalse(jwtUtil.validateToken(tampered));
+    }
+
+    @Test
+    @DisplayName("빈 토큰은 EMPTY 실패")
+    void parseToken_empty() {
+        assertEquals(JwtParseResult.Failure.EMPTY, jwtUtil.parseToken("").getFailure());
+    }
+
+    @Test
+    @DisplayName("검증 실패는 원인별 카운터로 집계")
+    void parseToken_failureCountedByCause() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            String token = jwtUtil.substringToken(jwtUtil.createToken(1L, UserRoleEnum.USER, "user@example.com"));
+            jwtUtil.validateToken(token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA"));
+            jwtUtil.validateToken("");
+            jwtUtil.validateToken(token);
+
+            assertEquals(1.0, registry.get("auth.token.failures").tag("cause", "invalid_signature").counter().count());
+            assertEquals(1.0, registry.get("auth.token.failures").tag("cause", "empty").counter().count());
+            assertEquals(0.0, registry.get("auth.token.failures").tag("cause", "expired").counter().count());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+}
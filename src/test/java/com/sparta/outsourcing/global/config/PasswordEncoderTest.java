@@ -0,0 +1,62 @@
+package com.sparta.outsourcing.global.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordEncoderTest {
+
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = new PasswordEncoder();
+        ReflectionTestUtils.setField(passwordEncoder, "configuredCost", 4);
+        ReflectionTestUtils.setField(passwordEncoder, "verifyPoolSize", 1);
+        ReflectionTestUtils.setField(passwordEncoder, "verifyQueueCapacity", 1);
+        ReflectionTestUtils.setField(passwordEncoder, "verifyTimeoutMillis", 100L);
+        passwordEncoder.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("비밀번호 검증 성공 / 실패")
+    void matches() {
+        String encoded = passwordEncoder.encode("Password1!");
+
+        assertTrue(passwordEncoder.matches("Password1!", encoded));
+        assertFalse(passwordEncoder.matches("Password2!", encoded));
+    }
+
+    @Test
+    @DisplayName("검증 풀이 막혀 대기 상한을 넘으면 요청 스레드를 붙잡지 않고 거절")
+    void matches_rejectsAfterTimeout() {
+        String encoded = passwordEncoder.encode("Password1!");
+        CountDownLatch release = new CountDownLatch(1);
+        ThreadPoolExecutor verifyExecutor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordEncoder, "verifyExecutor");
+        verifyExecutor.execute(() -> assertDoesNotThrow(() -> release.await()));
+
+        try {
+            long startedAt = System.nanoTime();
+            assertThrows(RejectedExecutionException.class, () -> passwordEncoder.matches("Password1!", encoded));
+            assertTrue(System.nanoTime() - startedAt < 1_000_000_000L);
+            // 취소된 검증은 대기열 자리를 차지하지 않음
+            verifyExecutor.purge();
+            assertEquals(0, verifyExecutor.getQueue().size());
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.sparta.outsourcing.global.datasource;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private DataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+        // 어느 쪽으로 갔는지 구분할 수 있도록 두 H2 DB 에 서로 다른 표시 행을 넣음
+        DataSource primary = database("primary");
+        replica = database("replica");
+        lagMonitor = new ReplicaLagMonitor(replica, "none", 1000);
+
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, lagMonitor));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica 로 라우팅")
+    void readOnly_routesToReplica() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> marker()));
+        assertEquals(1.0, registry.get("db.routing").tag("target", "replica").counter().count());
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖 조회는 primary")
+    void write_routesToPrimary() {
+        assertEquals("primary", writeTransaction.execute(status -> marker()));
+        assertEquals("primary", marker());
+    }
+
+    @Test
+    @DisplayName("read-your-writes 고정 중이면 읽기 전용도 primary")
+    void forcedPrimary_routesToPrimary() {
+        ReplicaRoutingContext.forcePrimary();
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> marker()));
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 primary 로 돌리고 회복되면 replica 로 복귀")
+    void lagging_fallsBackToPrimary() {
+        lagMonitor.update(5000);
+        assertFalse(lagMonitor.isAvailable());
+        assertEquals("primary", readOnlyTransaction.execute(status -> marker()));
+        assertEquals(5000.0, registry.get("db.replica.lag").gauge().value());
+
+        lagMonitor.update(200);
+        assertEquals("replica", readOnlyTransaction.execute(status -> marker()));
+    }
+
+    @Test
+    @DisplayName("복제 상태를 확인할 수 없으면 replica 를 사용하지 않음")
+    void lagCheckFailure_marksUnavailable() {
+        // H2 는 SHOW REPLICA STATUS 를 지원하지 않으므로 확인 실패
+        ReplicaLagMonitor mysqlMonitor = new ReplicaLagMonitor(replica, "mysql", 1000);
+
+        mysqlMonitor.check();
+
+        assertFalse(mysqlMonitor.isAvailable());
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS node");
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,78 @@
+package com.sparta.outsourcing.support;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.order.entity.Order;
+import com.sparta.outsourcing.domain.order.entity.OrderItem;
+import com.sparta.outsourcing.domain.review.entity.Review;
+import com.sparta.outsourcing.domain.shop.entity.Shop;
+import com.sparta.outsourcing.domain.user.dto.UserRequestDto;
+import com.sparta.outsourcing.domain.user.entity.User;
+import com.sparta.outsourcing.domain.user.entity.UserRoleEnum;
+import jakarta.persistence.EntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+// @DataJpaTest 공용 픽스처 - 가게 / 메뉴 / 주문 / 리뷰를 저장하고 반환
+// persist 만 하므로 트랜잭션 경계와 flush / clear 는 호출하는 테스트가 정함
+public final class JpaFixtures {
+    // 주문 / 리뷰의 user_id 는 users 를 참조하지 않으므로 고객 행 없이 이 값을 사용 - 테스트에서 만드는 소유자 id 와 겹치지 않음
+    public static final Long CUSTOMER_ID = 10_000L;
+
+    private JpaFixtures() {
+    }
+
+    // 24시간 영업하는 가게와 그 소유자
+    public static Shop shop(EntityManager entityManager) {
+        User owner = new User(new UserRequestDto("owner@example.com"), "password", UserRoleEnum.OWNER);
+        entityManager.persist(owner);
+        Shop shop = Shop.builder()
+                .owner(owner)
+                .name("테스트 가게")
+                .opentime(LocalTime.of(0, 0))
+                .closetime(LocalTime.of(23, 59))
+                .minOrderAmount(new BigDecimal("10000"))
+                .build();
+        entityManager.persist(shop);
+        return shop;
+    }
+
+    public static Menu menu(EntityManager entityManager, Shop shop) {
+        return menu(entityManager, shop, "치킨", 20000);
+    }
+
+    public static Menu menu(EntityManager entityManager, Shop shop, String menuName, int price) {
+        Menu menu = Menu.builder().shop(shop).menuName(menuName).price(BigDecimal.valueOf(price)).build();
+        entityManager.persist(menu);
+        return menu;
+    }
+
+    public static Order order(EntityManager entityManager, Shop shop, Menu menu) {
+        return order(entityManager, CUSTOMER_ID, shop, menu, null);
+    }
+
+    // items 가 null 이면 항목 없이 menu 단건으로 저장되는 이전 방식 주문
+    public static Order order(EntityManager entityManager, Long userId, Shop shop, Menu menu, List<OrderItem> items) {
+        Order order = items == null
+                ? new Order(userId, shop, menu, "address", "010-1234-5678")
+                : new Order(userId, shop, menu, items, "address", "010-1234-5678");
+        entityManager.persist(order);
+        return order;
+    }
+
+    // reviewTime 이 null 이면 현재 시각
+    public static Review review(EntityManager entityManager, Order order, int rating, LocalDateTime reviewTime) {
+        Review review = Review.builder()
+                .order(order)
+                .userId(order.getUserId())
+                .shopId(order.getShop().getId())
+                .rating(rating)
+                .reviewContent("리뷰")
+                .reviewTime(reviewTime)
+                .build();
+        entityManager.persist(review);
+        return review;
+    }
+}